@@ -0,0 +1,114 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import com.example.sportradar.internal.async.AsyncScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark of score updates submitted by many threads at once, comparing
+ * {@code ConcurrentScoreboard}, which the threads change directly, with {@link AsyncScoreboard},
+ * which hands the changes to its writer thread. Every thread updates its own matches. The pipelined
+ * variant submits several updates before waiting for the last of them, like a gateway, which
+ * doesn't wait for every change of a connection before reading the next one.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class AsyncScoreboardBenchmark {
+    private static final int PIPELINE_DEPTH = 16;
+
+    @Benchmark
+    public void concurrentUpdateScore(ScoreboardState scoreboards, ThreadState thread) {
+        int match = thread.nextMatch(scoreboards);
+        scoreboards.concurrent.updateScore(scoreboards.homeTeams[match], scoreboards.awayTeams[match],
+                thread.nextScore(), 0);
+    }
+
+    @Benchmark
+    public void asyncUpdateScore(ScoreboardState scoreboards, ThreadState thread) {
+        int match = thread.nextMatch(scoreboards);
+        scoreboards.async.updateScore(scoreboards.homeTeams[match], scoreboards.awayTeams[match],
+                thread.nextScore(), 0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public MutationStatus asyncUpdateScorePipelined(ScoreboardState scoreboards, ThreadState thread) {
+        CompletableFuture<MutationStatus> lastUpdate = null;
+
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            int match = thread.nextMatch(scoreboards);
+            lastUpdate = scoreboards.async.updateScoreAsync(scoreboards.homeTeams[match],
+                    scoreboards.awayTeams[match], thread.nextScore(), 0);
+        }
+
+        return lastUpdate.join();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ScoreboardState {
+        @Param({"1000", "100000"})
+        public int matchCount;
+
+        Scoreboard concurrent;
+        AsyncScoreboard async;
+        String[] homeTeams;
+        String[] awayTeams;
+        final AtomicInteger nextThread = new AtomicInteger();
+
+        @Setup
+        public void setUp() {
+            concurrent = Scoreboards.createWithMatches(Scoreboards.CONCURRENT, matchCount);
+            async = AsyncScoreboard.start(Scoreboards.createWithMatches(Scoreboards.IN_MEMORY, matchCount));
+            homeTeams = Scoreboards.homeTeams(matchCount);
+            awayTeams = Scoreboards.awayTeams(matchCount);
+        }
+
+        @TearDown
+        public void tearDown() {
+            async.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int nextMatch = -1;
+        private int nextScore;
+
+        // Threads start at different matches, so they don't update the same ones
+        int nextMatch(ScoreboardState scoreboards) {
+            if (nextMatch < 0) {
+                nextMatch = scoreboards.nextThread.getAndIncrement() * (scoreboards.matchCount / 8);
+            }
+            int match = nextMatch % scoreboards.matchCount;
+            nextMatch = match + 1;
+            return match;
+        }
+
+        int nextScore() {
+            return nextScore++ & 0xF;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.ShardedScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading summaries while many competitions are tracked at once. Every read follows a
+ * score update, so cached summaries can't be reused. {@link ShardedScoreboard} reads only the shard
+ * of the competition and merges the shards for the summary of all the competitions, a single
+ * scoreboard has to build the summary of all the matches in both cases.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompetitionBenchmark {
+
+    @Param({Scoreboards.SHARDED, Scoreboards.CONCURRENT})
+    public String implementation;
+
+    @Param({"1", "16", "256"})
+    public int competitionCount;
+
+    @Param({"100000"})
+    public int matchCount;
+
+    private Scoreboard scoreboard;
+    private String[] competitions;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.create(implementation);
+        competitions = new String[competitionCount];
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+
+        for (int i = 0; i < competitionCount; i++) {
+            competitions[i] = "Competition " + i;
+        }
+
+        for (int i = 0; i < matchCount; i++) {
+            if (scoreboard instanceof ShardedScoreboard sharded) {
+                sharded.startMatch(competitions[i % competitionCount], homeTeams[i], awayTeams[i]);
+            } else {
+                scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+            }
+            scoreboard.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+        }
+    }
+
+    @Benchmark
+    public List<MatchScore> updateAndGetCompetitionSummary() {
+        int match = updateNextMatch();
+
+        if (scoreboard instanceof ShardedScoreboard sharded) {
+            return sharded.getMatchSummary(competitions[match % competitionCount]);
+        }
+        return scoreboard.getMatchSummary();
+    }
+
+    @Benchmark
+    public List<MatchScore> updateAndGetSummary() {
+        updateNextMatch();
+        return scoreboard.getMatchSummary();
+    }
+
+    @Benchmark
+    public List<MatchScore> updateAndGetTopMatches() {
+        updateNextMatch();
+        return scoreboard.getTopMatches(10);
+    }
+
+    private int updateNextMatch() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+
+        int score = nextScore++ & 0xF;
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+        return match;
+    }
+}
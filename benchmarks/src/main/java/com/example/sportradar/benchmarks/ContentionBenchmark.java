@@ -0,0 +1,178 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmark of a scoreboard shared by writer threads updating scores, like feed workers, and reader
+ * threads reading the summary, like API handlers. Each group runs writers and readers at the same
+ * time in a fixed ratio: 3 writers to 1 reader, 2 to 2 and 1 to 3. Throughput is reported per group
+ * and separately for the writers and the readers.
+ * <p>
+ * Thread counts are scaled with {@code -t}, which runs as many copies of the group as fit, e.g.
+ * {@code -t 32} for 8 copies, and any other ratio is set with {@code -tg}, e.g.
+ * {@code ContentionBenchmark.balanced -tg 32,200} for 32 writers and 200 readers. On Java 21, the
+ * threads are virtual threads with {@code -jvmArgsAppend -Djmh.executor=VIRTUAL}.
+ * <p>
+ * Writers always set equal home and away scores, so a torn update shows up as a match with
+ * different scores. After every iteration, the scoreboard is checked to hold every match exactly
+ * once with such scores, in summary order, and to agree with the team lookup, and the run fails
+ * otherwise.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public void writeHeavyUpdate(ScoreboardState scoreboard, WriterState writer) {
+        writer.updateNextMatch(scoreboard);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public List<MatchScore> writeHeavyRead(ScoreboardState scoreboard) {
+        return scoreboard.scoreboard.getMatchSummary();
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public void balancedUpdate(ScoreboardState scoreboard, WriterState writer) {
+        writer.updateNextMatch(scoreboard);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(2)
+    public List<MatchScore> balancedRead(ScoreboardState scoreboard) {
+        return scoreboard.scoreboard.getMatchSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyUpdate(ScoreboardState scoreboard, WriterState writer) {
+        writer.updateNextMatch(scoreboard);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(3)
+    public List<MatchScore> readHeavyRead(ScoreboardState scoreboard) {
+        return scoreboard.scoreboard.getMatchSummary();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ScoreboardState {
+        @Param({Scoreboards.SYNCHRONIZED, Scoreboards.CONCURRENT, Scoreboards.SHARDED})
+        public String implementation;
+
+        @Param({"100", "1000"})
+        public int matchCount;
+
+        Scoreboard scoreboard;
+        String[] homeTeams;
+        String[] awayTeams;
+        final AtomicInteger nextWriter = new AtomicInteger();
+
+        @Setup
+        public void setUp() {
+            scoreboard = Scoreboards.create(implementation);
+            homeTeams = Scoreboards.homeTeams(matchCount);
+            awayTeams = Scoreboards.awayTeams(matchCount);
+
+            for (int i = 0; i < matchCount; i++) {
+                scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void checkConsistency() {
+            List<MatchScore> summary = scoreboard.getMatchSummary();
+            if (summary.size() != matchCount) {
+                throw new IllegalStateException("Expected " + matchCount + " matches but got " + summary.size());
+            }
+
+            Map<String, Integer> startOrder = new HashMap<>();
+            List<MatchScore> matchesInStartOrder = scoreboard.getMatchesInStartOrder();
+            for (int i = 0; i < matchesInStartOrder.size(); i++) {
+                startOrder.put(matchesInStartOrder.get(i).homeTeam(), i);
+            }
+
+            Set<String> homeTeamsSeen = new HashSet<>();
+            MatchScore previous = null;
+            for (MatchScore match : summary) {
+                if (!homeTeamsSeen.add(match.homeTeam()) || !startOrder.containsKey(match.homeTeam())) {
+                    throw new IllegalStateException("Match listed twice or missing from start order: " + match);
+                }
+                if (match.homeScore() != match.awayScore()) {
+                    throw new IllegalStateException("Torn score update: " + match);
+                }
+                if (previous != null && !inSummaryOrder(previous, match, startOrder)) {
+                    throw new IllegalStateException("Summary out of order: " + previous + " before " + match);
+                }
+                if (!scoreboard.findMatchByTeam(match.awayTeam()).equals(Optional.of(match))) {
+                    throw new IllegalStateException("Team lookup disagrees with summary: " + match);
+                }
+                previous = match;
+            }
+        }
+
+        // Higher total score first, and the most recently started match first if tied
+        private static boolean inSummaryOrder(MatchScore first, MatchScore second, Map<String, Integer> startOrder) {
+            int firstTotal = first.homeScore() + first.awayScore();
+            int secondTotal = second.homeScore() + second.awayScore();
+
+            return firstTotal > secondTotal || firstTotal == secondTotal
+                    && startOrder.get(first.homeTeam()) > startOrder.get(second.homeTeam());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class WriterState {
+        private int nextMatch = -1;
+        private int nextScore;
+
+        // Writers start at different matches, so they mostly update different ones at a time
+        void updateNextMatch(ScoreboardState scoreboard) {
+            if (nextMatch < 0) {
+                nextMatch = (int) ((scoreboard.nextWriter.getAndIncrement() * 7919L) % scoreboard.matchCount);
+            }
+            int match = nextMatch;
+            nextMatch = match + 1 == scoreboard.matchCount ? 0 : match + 1;
+            int score = nextScore++ & 0xF;
+
+            scoreboard.scoreboard.updateScore(scoreboard.homeTeams[match], scoreboard.awayTeams[match], score, score);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.metrics.InstrumentedScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the overhead of {@link InstrumentedScoreboard}, comparing score updates of a bare
+ * scoreboard with the same updates recorded into the metrics. The allocation rate reported by the
+ * GC profiler should be the same for both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+    @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT})
+    public String implementation;
+
+    @Param({"1000"})
+    public int matchCount;
+
+    private Scoreboard bare;
+    private InstrumentedScoreboard instrumented;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        bare = Scoreboards.createWithMatches(implementation, matchCount);
+        instrumented = new InstrumentedScoreboard(Scoreboards.createWithMatches(implementation, matchCount),
+                "benchmark");
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        instrumented.close();
+    }
+
+    @Benchmark
+    public void bareUpdateScore() {
+        updateScore(bare);
+    }
+
+    @Benchmark
+    public void instrumentedUpdateScore() {
+        updateScore(instrumented);
+    }
+
+    private void updateScore(Scoreboard scoreboard) {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        int score = nextScore++ & 0xF;
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+    }
+}
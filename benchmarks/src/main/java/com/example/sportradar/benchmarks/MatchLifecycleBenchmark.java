@@ -0,0 +1,98 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of starting and ending matches alone. Both operations change the number of matches in
+ * progress, so every invocation works on a batch of extra matches, which is started or ended
+ * outside the measurement to bring the scoreboard back to {@code matchCount} matches. The reported
+ * time is per single operation of the batch. Allocation rate reported by the GC profiler includes
+ * the allocations of the preparation of the batch.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchLifecycleBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void startMatch(StartState state) {
+        for (int i = state.matchCount; i < state.matchCount + BATCH_SIZE; i++) {
+            state.scoreboard.startMatch(state.homeTeams[i], state.awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void endMatch(EndState state) {
+        for (int i = state.matchCount; i < state.matchCount + BATCH_SIZE; i++) {
+            state.scoreboard.endMatch(state.homeTeams[i], state.awayTeams[i]);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ScoreboardState {
+        @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT, Scoreboards.COLUMNAR,
+                Scoreboards.OFF_HEAP})
+        public String implementation;
+
+        @Param({"10", "1000", "100000"})
+        public int matchCount;
+
+        Scoreboard scoreboard;
+        String[] homeTeams;
+        String[] awayTeams;
+
+        @Setup
+        public void setUp() {
+            scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+            homeTeams = Scoreboards.homeTeams(matchCount + BATCH_SIZE);
+            awayTeams = Scoreboards.awayTeams(matchCount + BATCH_SIZE);
+        }
+
+        void startBatch() {
+            for (int i = matchCount; i < matchCount + BATCH_SIZE; i++) {
+                scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+            }
+        }
+
+        void endBatch() {
+            for (int i = matchCount; i < matchCount + BATCH_SIZE; i++) {
+                scoreboard.endMatch(homeTeams[i], awayTeams[i]);
+            }
+        }
+    }
+
+    public static class StartState extends ScoreboardState {
+        @TearDown(Level.Invocation)
+        public void endStartedBatch() {
+            endBatch();
+        }
+    }
+
+    public static class EndState extends ScoreboardState {
+        @Setup(Level.Invocation)
+        public void startBatchToEnd() {
+            startBatch();
+        }
+    }
+}
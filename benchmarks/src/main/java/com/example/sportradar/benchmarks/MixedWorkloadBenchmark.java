@@ -0,0 +1,78 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a mix of summary reads and score updates, as seen by a scoreboard serving both a
+ * feed and its readers. The share of reads is given by {@code readPercentage}, and the operations
+ * are interleaved in a fixed pseudo-random pattern, so every run performs the same sequence.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MixedWorkloadBenchmark {
+    private static final int PATTERN_LENGTH = 1 << 10;
+
+    @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT, Scoreboards.COLUMNAR,
+            Scoreboards.OFF_HEAP})
+    public String implementation;
+
+    @Param({"10", "1000", "100000"})
+    public int matchCount;
+
+    @Param({"0", "50", "90", "99"})
+    public int readPercentage;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private boolean[] readPattern;
+    private int nextOperation;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+
+        SplittableRandom random = new SplittableRandom(42);
+        readPattern = new boolean[PATTERN_LENGTH];
+        for (int i = 0; i < PATTERN_LENGTH; i++) {
+            readPattern[i] = random.nextInt(100) < readPercentage;
+        }
+    }
+
+    @Benchmark
+    public void readOrWrite(Blackhole blackhole) {
+        int operation = nextOperation++ & (PATTERN_LENGTH - 1);
+
+        if (readPattern[operation]) {
+            blackhole.consume(scoreboard.getMatchSummary());
+        } else {
+            int match = nextMatch;
+            nextMatch = match + 1 == matchCount ? 0 : match + 1;
+            int score = nextScore++ & 0xF;
+            scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+        }
+    }
+}
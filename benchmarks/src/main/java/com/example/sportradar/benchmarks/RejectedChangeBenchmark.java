@@ -0,0 +1,91 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of changes, which the scoreboard rejects, as duplicate and stale commands of a feed
+ * are. The throwing methods build an exception with a formatted message and a stack trace for
+ * every rejected change, the {@code try} variants return a constant status.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectedChangeBenchmark {
+
+    @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT, Scoreboards.COLUMNAR,
+            Scoreboards.OFF_HEAP, Scoreboards.SHARDED})
+    public String implementation;
+
+    @Param({"1000"})
+    public int matchCount;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+    }
+
+    @Benchmark
+    public RuntimeException startDuplicateMatch() {
+        int match = nextMatch();
+        try {
+            scoreboard.startMatch(homeTeams[match], awayTeams[match]);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public MutationStatus tryStartDuplicateMatch() {
+        int match = nextMatch();
+        return scoreboard.tryStartMatch(homeTeams[match], awayTeams[match]);
+    }
+
+    // Teams of two different matches, so the match doesn't exist
+    @Benchmark
+    public RuntimeException updateStaleMatch() {
+        int match = nextMatch();
+        try {
+            scoreboard.updateScore(homeTeams[match], awayTeams[nextMatch], 1, 0);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public MutationStatus tryUpdateStaleMatch() {
+        int match = nextMatch();
+        return scoreboard.tryUpdateScore(homeTeams[match], awayTeams[nextMatch], 1, 0);
+    }
+
+    private int nextMatch() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        return match;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state benchmarks of the {@link Scoreboard} operations with a fixed number of matches in
+ * progress. Starting and ending a match are measured together, so the number of matches doesn't
+ * change during the measurement; see {@link MatchLifecycleBenchmark} for each of them alone.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScoreboardBenchmark {
+
+    @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT, Scoreboards.COLUMNAR,
+            Scoreboards.OFF_HEAP})
+    public String implementation;
+
+    @Param({"10", "1000", "100000"})
+    public int matchCount;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+    }
+
+    @Benchmark
+    public void updateScore() {
+        int match = nextMatch();
+        int score = nextScore++ & 0xF;
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+    }
+
+    @Benchmark
+    public List<MatchScore> getMatchSummary() {
+        return scoreboard.getMatchSummary();
+    }
+
+    @Benchmark
+    public void startAndEndMatch() {
+        scoreboard.startMatch("Guest Home", "Guest Away");
+        scoreboard.endMatch("Guest Home", "Guest Away");
+    }
+
+    private int nextMatch() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        return match;
+    }
+}
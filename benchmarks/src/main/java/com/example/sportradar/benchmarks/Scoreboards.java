@@ -0,0 +1,58 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.Scoreboard;
+
+/**
+ * Creates the benchmarked {@link Scoreboard} from its class name, so any implementation with a
+ * public no-argument constructor can be benchmarked without changing the benchmarks.
+ */
+final class Scoreboards {
+    static final String IN_MEMORY = "com.example.sportradar.internal.InMemoryScoreboard";
+    static final String CONCURRENT = "com.example.sportradar.internal.ConcurrentScoreboard";
+    static final String COLUMNAR = "com.example.sportradar.internal.ColumnarScoreboard";
+    static final String OFF_HEAP = "com.example.sportradar.internal.OffHeapScoreboard";
+    static final String SHARDED = "com.example.sportradar.internal.ShardedScoreboard";
+    static final String SYNCHRONIZED = "com.example.sportradar.internal.SynchronizedScoreboard";
+
+    private Scoreboards() {
+    }
+
+    static Scoreboard create(String implementation) {
+        try {
+            return (Scoreboard) Class.forName(implementation).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create scoreboard: " + implementation, e);
+        }
+    }
+
+    // Starts the given number of matches with distinct teams and varied scores
+    static Scoreboard createWithMatches(String implementation, int matchCount) {
+        Scoreboard scoreboard = create(implementation);
+        String[] homeTeams = homeTeams(matchCount);
+        String[] awayTeams = awayTeams(matchCount);
+
+        for (int i = 0; i < matchCount; i++) {
+            scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+            scoreboard.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+        }
+
+        return scoreboard;
+    }
+
+    // Team names are created up front, so the benchmarks don't measure building them
+    static String[] homeTeams(int matchCount) {
+        return teamNames("Home ", matchCount);
+    }
+
+    static String[] awayTeams(int matchCount) {
+        return teamNames("Away ", matchCount);
+    }
+
+    private static String[] teamNames(String prefix, int matchCount) {
+        String[] teamNames = new String[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            teamNames[i] = prefix + i;
+        }
+        return teamNames;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.internal.journal.JournalOptions;
+import com.example.sportradar.internal.journal.JournalingScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of restoring a scoreboard at startup from a snapshot written by
+ * {@link JournalingScoreboard#checkpoint()}. Every invocation opens a fresh copy of the snapshot,
+ * which is prepared outside the measurement, so the reported time is reading the snapshot file and
+ * starting all its matches on an empty scoreboard.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotRestoreBenchmark {
+    // Journal segments created on open aren't measured, so they're kept small
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+
+    @Benchmark
+    public JournalingScoreboard restore(RestoreState state) {
+        state.restored = JournalingScoreboard.open(Scoreboards.create(state.implementation), state.options(state.copy));
+        return state.restored;
+    }
+
+    @State(Scope.Benchmark)
+    public static class RestoreState {
+        @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT, Scoreboards.COLUMNAR,
+                Scoreboards.OFF_HEAP})
+        public String implementation;
+
+        @Param({"1000", "100000"})
+        public int matchCount;
+
+        Path snapshotDirectory;
+        Path copy;
+        JournalingScoreboard restored;
+
+        @Setup
+        public void writeSnapshot() throws IOException {
+            snapshotDirectory = Files.createTempDirectory("snapshot-benchmark");
+            String[] homeTeams = Scoreboards.homeTeams(matchCount);
+            String[] awayTeams = Scoreboards.awayTeams(matchCount);
+
+            try (JournalingScoreboard scoreboard = JournalingScoreboard.open(
+                    Scoreboards.create(implementation), options(snapshotDirectory))) {
+                for (int i = 0; i < matchCount; i++) {
+                    scoreboard.startMatch(homeTeams[i], awayTeams[i]);
+                    scoreboard.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+                }
+                scoreboard.checkpoint();
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void copySnapshot() throws IOException {
+            copy = Files.createTempDirectory("snapshot-benchmark-copy");
+            try (Stream<Path> files = Files.list(snapshotDirectory)) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".snap")).toList()) {
+                    Files.copy(file, copy.resolve(file.getFileName()));
+                }
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void deleteCopy() throws IOException {
+            restored.close();
+            delete(copy);
+        }
+
+        @TearDown
+        public void deleteSnapshot() throws IOException {
+            delete(snapshotDirectory);
+        }
+
+        JournalOptions options(Path directory) {
+            return new JournalOptions(directory, SEGMENT_SIZE, Duration.ZERO, Duration.ZERO);
+        }
+
+        private static void delete(Path directory) throws IOException {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
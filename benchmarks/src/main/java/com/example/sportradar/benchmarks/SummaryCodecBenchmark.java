@@ -0,0 +1,79 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.wire.SummaryEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of publishing the summary in binary frames after every score update, as a full frame
+ * every time and as a delta frame against the previous summary. A full frame sends the names of
+ * all the teams again; run with {@code -prof gc} to see the allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryCodecBenchmark {
+
+    @Param({Scoreboards.IN_MEMORY})
+    public String implementation;
+
+    @Param({"10", "1000"})
+    public int matchCount;
+
+    private Scoreboard scoreboard;
+    private SummaryEncoder encoder;
+    private ByteBuffer buffer;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+        encoder = new SummaryEncoder();
+        buffer = ByteBuffer.allocateDirect(64 * matchCount + 1024);
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+    }
+
+    @Benchmark
+    public int updateAndEncodeFullFrame() {
+        updateScore();
+        encoder.reset();
+        buffer.clear();
+        encoder.encode(scoreboard, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public int updateAndEncodeDeltaFrame() {
+        updateScore();
+        buffer.clear();
+        encoder.encode(scoreboard, buffer);
+        return buffer.position();
+    }
+
+    private void updateScore() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        int score = nextScore++ & 0xF;
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of streaming the summary out after every score update, as a serializer of the
+ * summary does, once by consuming the list of {@code getMatchSummary()} and once by visiting the
+ * matches with {@code forEachInSummaryOrder}. Every update invalidates a cached summary, so the
+ * list is rebuilt with a new record per match, while the visitor reads the matches in place; run
+ * with {@code -prof gc} to compare the allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SummaryVisitorBenchmark {
+
+    @Param({Scoreboards.IN_MEMORY, Scoreboards.COLUMNAR})
+    public String implementation;
+
+    @Param({"10", "1000"})
+    public int matchCount;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+    }
+
+    @Benchmark
+    public void updateAndReadList(Blackhole blackhole) {
+        updateScore();
+        scoreboard.getMatchSummary().forEach(matchScore -> {
+            blackhole.consume(matchScore.homeTeam());
+            blackhole.consume(matchScore.awayTeam());
+            blackhole.consume(matchScore.homeScore());
+            blackhole.consume(matchScore.awayScore());
+        });
+    }
+
+    @Benchmark
+    public void updateAndVisit(Blackhole blackhole) {
+        updateScore();
+        scoreboard.forEachInSummaryOrder(consumer(blackhole));
+    }
+
+    private void updateScore() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        int score = nextScore++ & 0xF;
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+    }
+
+    private static MatchScoreVisitor consumer(Blackhole blackhole) {
+        return (homeTeam, awayTeam, homeScore, awayScore) -> {
+            blackhole.consume(homeTeam);
+            blackhole.consume(awayTeam);
+            blackhole.consume(homeScore);
+            blackhole.consume(awayScore);
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.sportradar.benchmarks;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of answering the score of a team and the matches with many goals right after a score
+ * update, through the query methods of the scoreboard and by scanning the summary. Only a few
+ * matches reach the total score queried, so the query methods return a handful of matches out of
+ * all the matches in progress.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TeamQueryBenchmark {
+    // Setup scores reach a total of 6 at most, so only the matches updated above it are returned
+    private static final int MIN_TOTAL_SCORE = 9;
+
+    @Param({Scoreboards.IN_MEMORY, Scoreboards.CONCURRENT, Scoreboards.COLUMNAR})
+    public String implementation;
+
+    @Param({"1000", "100000"})
+    public int matchCount;
+
+    private Scoreboard scoreboard;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int nextMatch;
+    private int nextScore;
+
+    @Setup
+    public void setUp() {
+        scoreboard = Scoreboards.createWithMatches(implementation, matchCount);
+        homeTeams = Scoreboards.homeTeams(matchCount);
+        awayTeams = Scoreboards.awayTeams(matchCount);
+    }
+
+    @Benchmark
+    public Optional<MatchScore> updateAndFindMatchByTeam() {
+        int match = updateScore();
+        return scoreboard.findMatchByTeam(awayTeams[match]);
+    }
+
+    @Benchmark
+    public MatchScore updateAndScanSummaryForTeam() {
+        int match = updateScore();
+        String team = awayTeams[match];
+
+        for (MatchScore matchScore : scoreboard.getMatchSummary()) {
+            if (matchScore.homeTeam().equals(team) || matchScore.awayTeam().equals(team)) {
+                return matchScore;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public List<MatchScore> updateAndGetMatchesWithTotalScoreAtLeast() {
+        updateScore();
+        return scoreboard.getMatchesWithTotalScoreAtLeast(MIN_TOTAL_SCORE);
+    }
+
+    @Benchmark
+    public List<MatchScore> updateAndFilterSummary() {
+        updateScore();
+        List<MatchScore> matches = new ArrayList<>();
+
+        for (MatchScore matchScore : scoreboard.getMatchSummary()) {
+            if (matchScore.homeScore() + matchScore.awayScore() >= MIN_TOTAL_SCORE) {
+                matches.add(matchScore);
+            }
+        }
+        return matches;
+    }
+
+    // Every 64th update lifts a match above the queried total, the others keep it below
+    private int updateScore() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        int score = (nextScore++ & 0x3F) == 0 ? 5 : nextScore & 0x3;
+        scoreboard.updateScore(homeTeams[match], awayTeams[match], score, score);
+        return match;
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.sportradar.http;
+
+import com.example.sportradar.api.Scoreboard;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the summary of a scoreboard as JSON over HTTP with the server of the JDK:
+ * <pre>
+ * GET /summary
+ * {"version":3,"matches":[{"homeTeam":"Spain","awayTeam":"Brazil","homeScore":1,"awayScore":0}]}
+ * </pre>
+ * The response is serialized, and compressed with gzip, only once per version of the scoreboard,
+ * so requests between two changes are served from the cached bytes without reading the
+ * scoreboard. The version is also the ETag of the response, so a client sending it back in
+ * {@code If-None-Match} gets {@code 304 Not Modified} until the scoreboard changes.
+ * <p>
+ * The scoreboard must count its changes, see {@link Scoreboard#getVersion()}, and be safe to read
+ * from the threads handling the requests while it's changed.
+ */
+public final class ScoreboardHttpServer implements AutoCloseable {
+    public static final String SUMMARY_PATH = "/summary";
+
+    private static final System.Logger LOGGER = System.getLogger(ScoreboardHttpServer.class.getName());
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String ALLOWED_METHODS = "GET, HEAD";
+
+    private final Scoreboard scoreboard;
+    private final HttpServer server;
+    private final ExecutorService ownedExecutor;
+    // Tells apart the versions of different scoreboards served at the same address
+    private final String instanceId;
+    private final ReentrantLock renderLock;
+    private volatile CachedSummary cachedSummary;
+
+    private ScoreboardHttpServer(Scoreboard scoreboard, HttpServer server, ExecutorService ownedExecutor) {
+        this.scoreboard = scoreboard;
+        this.server = server;
+        this.ownedExecutor = ownedExecutor;
+        this.instanceId = UUID.randomUUID().toString();
+        this.renderLock = new ReentrantLock();
+    }
+
+    /**
+     * Starts serving the summary of the scoreboard, handling every request on its own virtual
+     * thread.
+     *
+     * @param scoreboard the scoreboard to serve
+     * @param address the address to listen on, with port 0 for any free port
+     * @throws UnsupportedOperationException if the scoreboard doesn't count its changes
+     */
+    public static ScoreboardHttpServer start(Scoreboard scoreboard, InetSocketAddress address) {
+        return start(scoreboard, address, Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    /**
+     * Starts serving the summary of the scoreboard, handling the requests on the given executor,
+     * which isn't shut down when the server is closed.
+     *
+     * @param scoreboard the scoreboard to serve
+     * @param address the address to listen on, with port 0 for any free port
+     * @param executor the executor handling the requests
+     * @throws UnsupportedOperationException if the scoreboard doesn't count its changes
+     */
+    public static ScoreboardHttpServer start(Scoreboard scoreboard, InetSocketAddress address, Executor executor) {
+        return start(scoreboard, address, executor, false);
+    }
+
+    private static ScoreboardHttpServer start(Scoreboard scoreboard, InetSocketAddress address, Executor executor,
+                                              boolean ownsExecutor) {
+        Objects.requireNonNull(scoreboard, "Scoreboard cannot be null");
+        Objects.requireNonNull(address, "Address cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        // Fails fast for a scoreboard, which cannot tell when the cached response is stale
+        scoreboard.getVersion();
+
+        HttpServer server;
+        try {
+            server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot serve the summary on " + address, e);
+        }
+
+        ScoreboardHttpServer httpServer = new ScoreboardHttpServer(
+                scoreboard, server, ownsExecutor ? (ExecutorService) executor : null
+        );
+        server.createContext(SUMMARY_PATH, httpServer::handle);
+        server.setExecutor(executor);
+        server.start();
+        return httpServer;
+    }
+
+    /**
+     * @return the address the server listens on, with the actual port when it was started on port 0
+     */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops accepting requests and closes the connections.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            boolean head = method.equals("HEAD");
+
+            if (!exchange.getRequestURI().getPath().equals(SUMMARY_PATH)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (!head && !method.equals("GET")) {
+                exchange.getResponseHeaders().set("Allow", ALLOWED_METHODS);
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            CachedSummary summary;
+            try {
+                summary = currentSummary();
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Cannot render the summary", e);
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            Headers responseHeaders = exchange.getResponseHeaders();
+            responseHeaders.set("ETag", summary.etag());
+            responseHeaders.set("Cache-Control", "no-cache");
+            responseHeaders.set("Vary", "Accept-Encoding");
+
+            Headers requestHeaders = exchange.getRequestHeaders();
+            if (matchesAnyETag(requestHeaders.get("If-None-Match"), summary.etag())) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            byte[] body = summary.json();
+            if (acceptsGzip(requestHeaders.get("Accept-Encoding"))) {
+                responseHeaders.set("Content-Encoding", "gzip");
+                body = summary.gzip();
+            }
+            responseHeaders.set("Content-Type", JSON_CONTENT_TYPE);
+
+            if (head) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private CachedSummary currentSummary() {
+        long version = scoreboard.getVersion();
+        CachedSummary summary = cachedSummary;
+        if (summary != null && summary.version() == version) {
+            return summary;
+        }
+
+        // Concurrent requests for a new version wait for one of them to render it
+        renderLock.lock();
+        try {
+            version = scoreboard.getVersion();
+            summary = cachedSummary;
+            if (summary == null || summary.version() != version) {
+                summary = render(version);
+                cachedSummary = summary;
+            }
+            return summary;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    // Version is read before the matches, so the summary contains at least all the changes up to it
+    private CachedSummary render(long version) {
+        StringBuilder json = new StringBuilder(256).append("{\"version\":").append(version).append(",\"matches\":[");
+        scoreboard.forEachInSummaryOrder((homeTeam, awayTeam, homeScore, awayScore) -> {
+            if (json.charAt(json.length() - 1) != '[') {
+                json.append(',');
+            }
+            json.append("{\"homeTeam\":");
+            appendString(json, homeTeam);
+            json.append(",\"awayTeam\":");
+            appendString(json, awayTeam);
+            json.append(",\"homeScore\":").append(homeScore)
+                    .append(",\"awayScore\":").append(awayScore)
+                    .append('}');
+        });
+        json.append("]}");
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        // Weak, because the gzip and the plain response have the same ETag but not the same bytes
+        String etag = "W/\"" + instanceId + "-" + version + "\"";
+        return new CachedSummary(version, etag, bytes, gzip(bytes));
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compress the summary", e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static boolean matchesAnyETag(List<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        String opaqueTag = etag.substring(2);
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.strip();
+                // Weak comparison, as required for If-None-Match
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(opaqueTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean acceptsGzip(List<String> acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String header : acceptEncoding) {
+            for (String coding : header.split(",")) {
+                String[] parameters = coding.split(";");
+                if (!parameters[0].strip().equalsIgnoreCase("gzip")) {
+                    continue;
+                }
+                for (int i = 1; i < parameters.length; i++) {
+                    String parameter = parameters[i].strip();
+                    if (parameter.startsWith("q=") && isZeroQuality(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private record CachedSummary(long version, String etag, byte[] json, byte[] gzip) {
+    }
+}
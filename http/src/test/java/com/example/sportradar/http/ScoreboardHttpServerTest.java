@@ -0,0 +1,183 @@
+package com.example.sportradar.http;
+
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.ConcurrentScoreboard;
+import com.example.sportradar.internal.ForwardingScoreboard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ScoreboardHttpServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private CountingScoreboard scoreboard;
+    private ScoreboardHttpServer server;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new CountingScoreboard(new ConcurrentScoreboard());
+        server = ScoreboardHttpServer.start(scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @DisplayName("GET /summary: should return the summary as JSON with an ETag")
+    @Test
+    void getSummary_shouldReturnSummaryAsJsonWithETag() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        HttpResponse<String> response = send(summaryRequest().build());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).contains("application/json; charset=utf-8");
+        assertThat(response.headers().firstValue("ETag")).hasValueSatisfying(etag -> assertThat(etag).endsWith("-3\""));
+        assertThat(response.body()).isEqualTo("{\"version\":3,\"matches\":["
+                + "{\"homeTeam\":\"Spain\",\"awayTeam\":\"Brazil\",\"homeScore\":1,\"awayScore\":0},"
+                + "{\"homeTeam\":\"Mexico\",\"awayTeam\":\"Canada\",\"homeScore\":0,\"awayScore\":0}]}");
+    }
+
+    @DisplayName("GET /summary: should return 304 without reading the scoreboard when the ETag is current")
+    @Test
+    void getSummary_shouldReturnNotModifiedWithoutReadingScoreboard_whenETagIsCurrent() throws Exception {
+        scoreboard.startMatch("Spain", "Brazil");
+        String etag = send(summaryRequest().build()).headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> plain = send(summaryRequest().build());
+        HttpResponse<String> conditional = send(summaryRequest().header("If-None-Match", etag).build());
+
+        assertThat(plain.statusCode()).isEqualTo(200);
+        assertThat(conditional.statusCode()).isEqualTo(304);
+        assertThat(conditional.body()).isEmpty();
+        assertThat(conditional.headers().firstValue("ETag")).contains(etag);
+        assertThat(scoreboard.summaryReads()).isEqualTo(1);
+    }
+
+    @DisplayName("GET /summary: should return the new summary with a new ETag when the scoreboard changed")
+    @Test
+    void getSummary_shouldReturnNewSummaryWithNewETag_whenScoreboardChanged() throws Exception {
+        scoreboard.startMatch("Spain", "Brazil");
+        String etag = send(summaryRequest().build()).headers().firstValue("ETag").orElseThrow();
+
+        scoreboard.updateScore("Spain", "Brazil", 2, 0);
+        HttpResponse<String> response = send(summaryRequest().header("If-None-Match", etag).build());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag"))
+                .hasValueSatisfying(newETag -> assertThat(newETag).isNotEqualTo(etag));
+        assertThat(response.body()).contains("\"homeScore\":2");
+        assertThat(scoreboard.summaryReads()).isEqualTo(2);
+    }
+
+    @DisplayName("GET /summary: should return the summary compressed with gzip when the client accepts it")
+    @Test
+    void getSummary_shouldReturnSummaryCompressedWithGzip_whenClientAcceptsIt() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        String plain = send(summaryRequest().build()).body();
+
+        HttpResponse<byte[]> response = client.send(
+                summaryRequest().header("Accept-Encoding", "deflate, gzip;q=0.8").build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+        );
+
+        assertThat(response.headers().firstValue("Content-Encoding")).contains("gzip");
+        assertThat(response.headers().firstValue("Vary")).contains("Accept-Encoding");
+        assertThat(response.body().length).isLessThan(plain.length());
+        assertThat(gunzip(response.body())).isEqualTo(plain);
+    }
+
+    @DisplayName("GET /summary: should escape the team names in the JSON")
+    @Test
+    void getSummary_shouldEscapeTeamNamesInJson() throws Exception {
+        scoreboard.startMatch("Côte \"d'Ivoire\"", "Back\\slash\u0001Line");
+
+        HttpResponse<String> response = send(summaryRequest().build());
+
+        assertThat(response.body()).contains(
+                "{\"homeTeam\":\"Côte \\\"d'Ivoire\\\"\",\"awayTeam\":\"Back\\\\slash\\u0001Line\""
+        );
+    }
+
+    @DisplayName("POST /summary: should return 405 with the allowed methods")
+    @Test
+    void postSummary_shouldReturnMethodNotAllowedWithAllowedMethods() throws Exception {
+        HttpResponse<String> response = send(summaryRequest().POST(HttpRequest.BodyPublishers.noBody()).build());
+
+        assertThat(response.statusCode()).isEqualTo(405);
+        assertThat(response.headers().firstValue("Allow")).contains("GET, HEAD");
+    }
+
+    @DisplayName("start: should throw UnsupportedOperationException when the scoreboard doesn't count its changes")
+    @Test
+    void start_shouldThrowUnsupportedOperationException_whenScoreboardDoesNotCountItsChanges() {
+        Scoreboard unversioned = new ForwardingScoreboard(new ConcurrentScoreboard()) {
+            @Override
+            public long getVersion() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        assertThatThrownBy(() -> ScoreboardHttpServer.start(
+                unversioned, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)
+        )).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private HttpRequest.Builder summaryRequest() {
+        InetSocketAddress address = server.address();
+        return HttpRequest.newBuilder(URI.create(
+                "http://" + address.getHostString() + ":" + address.getPort() + ScoreboardHttpServer.SUMMARY_PATH
+        ));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // Counts the reads of the summary, which the server makes only to render a new version
+    private static class CountingScoreboard extends ForwardingScoreboard {
+        private final AtomicInteger summaryReads = new AtomicInteger();
+
+        CountingScoreboard(Scoreboard delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+            summaryReads.incrementAndGet();
+            super.forEachInSummaryOrder(visitor);
+        }
+
+        int summaryReads() {
+            return summaryReads.get();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.sportradar.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Events of a match day loaded into memory, in the order they're replayed. A feed file is a text
+ * file with one tab-separated event per line, and lines starting with {@code #} are comments:
+ * <pre>
+ * F  fixture  homeTeam  awayTeam     declares a fixture, before its first event
+ * S  fixture                         starts the match of the fixture
+ * U  fixture  homeScore  awayScore   updates the score of the match
+ * E  fixture                         ends the match
+ * R                                  reads the summary
+ * </pre>
+ * Events are kept in parallel primitive arrays referring to the fixtures by index, so a feed of
+ * millions of events takes a few bytes per event and replaying it doesn't allocate.
+ */
+final class Feed {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int fixtureCount;
+    private byte[] operations;
+    private int[] fixtures;
+    private int[] homeScores;
+    private int[] awayScores;
+    private int size;
+
+    private Feed() {
+        this.homeTeams = new String[INITIAL_CAPACITY];
+        this.awayTeams = new String[INITIAL_CAPACITY];
+        this.operations = new byte[INITIAL_CAPACITY];
+        this.fixtures = new int[INITIAL_CAPACITY];
+        this.homeScores = new int[INITIAL_CAPACITY];
+        this.awayScores = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Operations of the events, in the order of their ordinals in the arrays of the feed.
+     */
+    enum Operation {
+        START_MATCH('S'),
+        UPDATE_SCORE('U'),
+        END_MATCH('E'),
+        READ_SUMMARY('R');
+
+        private final char code;
+
+        Operation(char code) {
+            this.code = code;
+        }
+
+        char code() {
+            return code;
+        }
+    }
+
+    /**
+     * Reads the whole feed file into memory.
+     *
+     * @throws IOException if the file can't be read
+     * @throws IllegalArgumentException if a line isn't a valid event, the message gives its number
+     */
+    static Feed read(Path path) throws IOException {
+        Feed feed = new Feed();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+
+                try {
+                    feed.parse(line.split("\t", -1));
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Invalid event at line " + lineNumber + ": " + line, e);
+                }
+            }
+        }
+
+        return feed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int fixtureCount() {
+        return fixtureCount;
+    }
+
+    Operation operation(int event) {
+        return OPERATIONS[operations[event]];
+    }
+
+    int operationOrdinal(int event) {
+        return operations[event];
+    }
+
+    String homeTeam(int event) {
+        return homeTeams[fixtures[event]];
+    }
+
+    String awayTeam(int event) {
+        return awayTeams[fixtures[event]];
+    }
+
+    int homeScore(int event) {
+        return homeScores[event];
+    }
+
+    int awayScore(int event) {
+        return awayScores[event];
+    }
+
+    private void parse(String[] fields) {
+        if (fields[0].length() != 1) {
+            throw new IllegalArgumentException("Unknown event type: " + fields[0]);
+        }
+
+        switch (fields[0].charAt(0)) {
+            case 'F' -> addFixture(Integer.parseInt(fields[1]), fields[2], fields[3]);
+            case 'S' -> addEvent(Operation.START_MATCH, fixtureOf(fields[1]), 0, 0);
+            case 'U' -> addEvent(Operation.UPDATE_SCORE, fixtureOf(fields[1]),
+                    Integer.parseInt(fields[2]), Integer.parseInt(fields[3]));
+            case 'E' -> addEvent(Operation.END_MATCH, fixtureOf(fields[1]), 0, 0);
+            case 'R' -> addEvent(Operation.READ_SUMMARY, -1, 0, 0);
+            default -> throw new IllegalArgumentException("Unknown event type: " + fields[0]);
+        }
+    }
+
+    // Fixtures are numbered in the order they're declared
+    private void addFixture(int fixture, String homeTeam, String awayTeam) {
+        if (fixture != fixtureCount) {
+            throw new IllegalArgumentException("Expected fixture " + fixtureCount + " but got " + fixture);
+        }
+        if (fixtureCount == homeTeams.length) {
+            homeTeams = Arrays.copyOf(homeTeams, fixtureCount * 2);
+            awayTeams = Arrays.copyOf(awayTeams, fixtureCount * 2);
+        }
+
+        homeTeams[fixtureCount] = homeTeam;
+        awayTeams[fixtureCount] = awayTeam;
+        fixtureCount++;
+    }
+
+    private int fixtureOf(String field) {
+        int fixture = Integer.parseInt(field);
+        if (fixture < 0 || fixture >= fixtureCount) {
+            throw new IllegalArgumentException("Fixture " + fixture + " isn't declared");
+        }
+        return fixture;
+    }
+
+    private void addEvent(Operation operation, int fixture, int homeScore, int awayScore) {
+        if (size == operations.length) {
+            int capacity = size * 2;
+            operations = Arrays.copyOf(operations, capacity);
+            fixtures = Arrays.copyOf(fixtures, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+        }
+
+        operations[size] = (byte) operation.ordinal();
+        fixtures[size] = fixture;
+        homeScores[size] = homeScore;
+        awayScores[size] = awayScore;
+        size++;
+    }
+}
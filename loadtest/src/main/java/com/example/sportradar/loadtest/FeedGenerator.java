@@ -0,0 +1,113 @@
+package com.example.sportradar.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Generates the synthetic feed of a match day. Fixtures kick off in waves through the day, like the
+ * afternoon and evening slots of a Saturday, and every match lasts 105 minutes including half time.
+ * While a match is in progress the feed resends its score at random intervals, as production feeds
+ * do, and a small share of the updates carry a goal, so the matches end with realistic scores.
+ * Summary reads are spread evenly between the updates. The feed is generated from a seed, so the
+ * same options always give the same feed.
+ */
+final class FeedGenerator {
+    private static final int[] KICK_OFF_MINUTES = {12 * 60 + 30, 15 * 60, 17 * 60 + 30, 20 * 60};
+    private static final int KICK_OFF_SPREAD_MINUTES = 15;
+    private static final double MATCH_MINUTES = 105;
+    private static final double GOALS_PER_MATCH = 2.7;
+
+    private final int fixtureCount;
+    private final long updateCount;
+    private final double readsPerUpdate;
+    private final long seed;
+
+    /**
+     * @param fixtureCount the number of matches played during the day
+     * @param updateCount the number of score updates of all the matches, roughly
+     * @param readsPerUpdate the number of summary reads per score update, e.g. 0.1 for a read after
+     * every tenth update
+     * @param seed the seed of the random events
+     */
+    FeedGenerator(int fixtureCount, long updateCount, double readsPerUpdate, long seed) {
+        if (fixtureCount <= 0 || updateCount < 0 || readsPerUpdate < 0) {
+            throw new IllegalArgumentException("Fixtures must be positive, updates and reads cannot be negative");
+        }
+
+        this.fixtureCount = fixtureCount;
+        this.updateCount = updateCount;
+        this.readsPerUpdate = readsPerUpdate;
+        this.seed = seed;
+    }
+
+    void generate(Path path) throws IOException {
+        Random random = new Random(seed);
+        double meanUpdateInterval = MATCH_MINUTES * fixtureCount / Math.max(updateCount, 1);
+        double goalProbability = Math.min(1, GOALS_PER_MATCH * fixtureCount / Math.max(updateCount, 1));
+
+        try (FeedWriter writer = new FeedWriter(path)) {
+            writer.comment(String.format("%d fixtures, about %d updates, %.3f reads per update, seed %d",
+                    fixtureCount, updateCount, readsPerUpdate, seed));
+
+            // Next event of every match in the order of the time of day, so the matches interleave
+            PriorityQueue<ScheduledMatch> schedule = new PriorityQueue<>(
+                    Comparator.comparingDouble((ScheduledMatch match) -> match.nextEventMinute)
+            );
+            for (int i = 0; i < fixtureCount; i++) {
+                int fixture = writer.fixture("Club " + (2 * i), "Club " + (2 * i + 1));
+                double kickOff = KICK_OFF_MINUTES[random.nextInt(KICK_OFF_MINUTES.length)]
+                        + random.nextDouble() * KICK_OFF_SPREAD_MINUTES;
+                schedule.add(new ScheduledMatch(fixture, kickOff));
+            }
+
+            double readCredit = 0;
+            while (!schedule.isEmpty()) {
+                ScheduledMatch match = schedule.poll();
+
+                if (!match.started) {
+                    writer.startMatch(match.fixture);
+                    match.started = true;
+                    match.fullTimeMinute = match.nextEventMinute + MATCH_MINUTES;
+                } else if (match.nextEventMinute >= match.fullTimeMinute) {
+                    writer.endMatch(match.fixture);
+                    continue;
+                } else {
+                    if (random.nextDouble() < goalProbability) {
+                        if (random.nextBoolean()) {
+                            match.homeScore++;
+                        } else {
+                            match.awayScore++;
+                        }
+                    }
+                    writer.updateScore(match.fixture, match.homeScore, match.awayScore);
+
+                    for (readCredit += readsPerUpdate; readCredit >= 1; readCredit--) {
+                        writer.readSummary();
+                    }
+                }
+
+                // Exponential intervals, so the updates of a match arrive like independent events
+                double interval = -Math.log(1 - random.nextDouble()) * meanUpdateInterval;
+                match.nextEventMinute = Math.min(match.nextEventMinute + interval, match.fullTimeMinute);
+                schedule.add(match);
+            }
+        }
+    }
+
+    private static class ScheduledMatch {
+        private final int fixture;
+        private double nextEventMinute;
+        private double fullTimeMinute;
+        private boolean started;
+        private int homeScore;
+        private int awayScore;
+
+        ScheduledMatch(int fixture, double kickOffMinute) {
+            this.fixture = fixture;
+            this.nextEventMinute = kickOffMinute;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.sportradar.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes events to a feed file in the format read by {@link Feed}, e.g. to convert a recorded
+ * production feed or to write a generated one. Not thread-safe.
+ */
+final class FeedWriter implements Closeable {
+    private final BufferedWriter writer;
+    private int fixtureCount;
+
+    FeedWriter(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Declares a fixture.
+     *
+     * @return the index of the fixture, which its events refer to
+     */
+    int fixture(String homeTeam, String awayTeam) {
+        if (homeTeam.indexOf('\t') >= 0 || awayTeam.indexOf('\t') >= 0) {
+            throw new IllegalArgumentException("Team names cannot contain tabs");
+        }
+
+        int fixture = fixtureCount++;
+        writeLine("F\t" + fixture + "\t" + homeTeam + "\t" + awayTeam);
+        return fixture;
+    }
+
+    void startMatch(int fixture) {
+        writeLine(Feed.Operation.START_MATCH.code() + "\t" + fixture);
+    }
+
+    void updateScore(int fixture, int homeScore, int awayScore) {
+        writeLine(Feed.Operation.UPDATE_SCORE.code() + "\t" + fixture + "\t" + homeScore + "\t" + awayScore);
+    }
+
+    void endMatch(int fixture) {
+        writeLine(Feed.Operation.END_MATCH.code() + "\t" + fixture);
+    }
+
+    void readSummary() {
+        writeLine(String.valueOf(Feed.Operation.READ_SUMMARY.code()));
+    }
+
+    void comment(String comment) {
+        writeLine("# " + comment);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
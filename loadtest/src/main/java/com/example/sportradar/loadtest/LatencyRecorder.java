@@ -0,0 +1,89 @@
+package com.example.sportradar.loadtest;
+
+/**
+ * Histogram of latencies in nanoseconds with buckets of logarithmic width. A value is counted in
+ * the bucket given by its highest set bit and the five bits after it, so every bucket is at most
+ * 1/32 of its lower bound wide and percentiles are reported within about 3% of the exact value,
+ * rounded up. Recording a value increments a preallocated counter and doesn't allocate. Not
+ * thread-safe, the load runner records from its single driving thread.
+ */
+final class LatencyRecorder {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below SUB_BUCKETS have a bucket of their own, every higher power of two has SUB_BUCKETS
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+    private long maxNanos;
+
+    LatencyRecorder() {
+        this.counts = new long[BUCKETS];
+    }
+
+    /**
+     * Records the latency, a negative latency is recorded as zero.
+     */
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+
+        counts[bucketOf(value)]++;
+        count++;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long maxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @param percentile the percentile between 0 and 100, e.g. 99.9
+     * @return the upper bound of the bucket holding the percentile, at most the maximum recorded
+     * value, or 0 if nothing was recorded
+     */
+    long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), maxNanos);
+            }
+        }
+
+        return 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+}
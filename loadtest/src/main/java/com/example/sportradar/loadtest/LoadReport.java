@@ -0,0 +1,78 @@
+package com.example.sportradar.loadtest;
+
+import java.io.PrintStream;
+
+/**
+ * Results of a replay of a feed against a scoreboard.
+ *
+ * @param scoreboard the class of the scoreboard
+ * @param events the number of events replayed
+ * @param eventsPerSecond the rate the events were sent at, 0 if flat out
+ * @param elapsedNanos the duration of the replay
+ * @param rejected the number of changes the scoreboard didn't apply
+ * @param largestSummary the most matches seen in a summary read
+ * @param allocatedBytes the memory allocated during the replay by all the threads
+ * @param gcCount the number of garbage collections during the replay
+ * @param gcMillis the time spent in garbage collection during the replay
+ * @param responseTimes the response times by the ordinal of {@link Feed.Operation}, corrected for
+ * coordinated omission at a fixed rate
+ * @param serviceTimes the service times of all the events
+ */
+record LoadReport(
+        String scoreboard,
+        long events,
+        long eventsPerSecond,
+        long elapsedNanos,
+        long rejected,
+        int largestSummary,
+        long allocatedBytes,
+        long gcCount,
+        long gcMillis,
+        LatencyRecorder[] responseTimes,
+        LatencyRecorder serviceTimes
+) {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    double throughput() {
+        return events * 1e9 / Math.max(elapsedNanos, 1);
+    }
+
+    LatencyRecorder responseTimes(Feed.Operation operation) {
+        return responseTimes[operation.ordinal()];
+    }
+
+    void print(PrintStream out) {
+        out.printf("Scoreboard:      %s%n", scoreboard);
+        out.printf("Mode:            %s%n", eventsPerSecond > 0 ? eventsPerSecond + " events/s" : "flat out");
+        out.printf("Events:          %d in %.3f s, %.0f events/s%n", events, elapsedNanos / 1e9, throughput());
+        out.printf("Rejected:        %d%n", rejected);
+        out.printf("Largest summary: %d matches%n", largestSummary);
+        out.printf("Allocated:       %.1f MB, %.1f B/event%n",
+                allocatedBytes / 1e6, (double) allocatedBytes / Math.max(events, 1));
+        out.printf("GC:              %d collections, %d ms%n", gcCount, gcMillis);
+        out.println();
+
+        out.printf("%-14s %10s", "Latency (us)", "count");
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9s", "p" + formatPercentile(percentile));
+        }
+        out.printf(" %9s%n", "max");
+
+        for (Feed.Operation operation : Feed.Operation.values()) {
+            printRow(out, operation.name(), responseTimes(operation));
+        }
+        printRow(out, "service time", serviceTimes);
+    }
+
+    private static void printRow(PrintStream out, String name, LatencyRecorder recorder) {
+        out.printf("%-14s %10d", name, recorder.count());
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.1f", recorder.percentileNanos(percentile) / 1e3);
+        }
+        out.printf(" %9.1f%n", recorder.maxNanos() / 1e3);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.sportradar.loadtest;
+
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a feed against a scoreboard from a single thread in the order of the feed, either as
+ * fast as the scoreboard takes the events or at a fixed rate.
+ * <p>
+ * At a fixed rate, every event has an intended start time on a schedule fixed before the run, and
+ * its response time is measured from that time rather than from the time it was actually sent. An
+ * event held back by a slow event before it is charged with the time it waited, so a stall of the
+ * scoreboard shows up in the percentiles of all the events it delayed instead of in a single
+ * sample, which corrects the measurement for coordinated omission. The service time, measured from
+ * the actual start of every event, is recorded alongside. Flat out, the two are the same.
+ */
+final class LoadRunner {
+    private static final long SPIN_NANOS = 50_000;
+    private static final Feed.Operation[] OPERATIONS = Feed.Operation.values();
+
+    private final Feed feed;
+    private final long eventsPerSecond;
+
+    /**
+     * @param feed the events to replay
+     * @param eventsPerSecond the rate to send the events at, 0 to send them flat out
+     */
+    LoadRunner(Feed feed, long eventsPerSecond) {
+        if (eventsPerSecond < 0) {
+            throw new IllegalArgumentException("Rate cannot be negative");
+        }
+
+        this.feed = feed;
+        this.eventsPerSecond = eventsPerSecond;
+    }
+
+    LoadReport run(Scoreboard scoreboard) {
+        LatencyRecorder[] responseTimes = new LatencyRecorder[OPERATIONS.length];
+        for (int i = 0; i < responseTimes.length; i++) {
+            responseTimes[i] = new LatencyRecorder();
+        }
+        LatencyRecorder serviceTimes = new LatencyRecorder();
+        boolean fixedRate = eventsPerSecond > 0;
+        double nanosPerEvent = fixedRate ? 1e9 / eventsPerSecond : 0;
+        long rejected = 0;
+        int largestSummary = 0;
+
+        ResourceUsage usageBefore = ResourceUsage.current();
+        long start = System.nanoTime();
+
+        for (int event = 0; event < feed.size(); event++) {
+            long intendedStart = fixedRate ? start + (long) (event * nanosPerEvent) : 0;
+            if (fixedRate) {
+                waitUntil(intendedStart);
+            }
+
+            long actualStart = System.nanoTime();
+            int operation = feed.operationOrdinal(event);
+
+            if (operation == Feed.Operation.READ_SUMMARY.ordinal()) {
+                largestSummary = Math.max(largestSummary, scoreboard.getMatchSummary().size());
+            } else if (apply(scoreboard, operation, event) != MutationStatus.APPLIED) {
+                rejected++;
+            }
+
+            long end = System.nanoTime();
+            responseTimes[operation].record(end - (fixedRate ? intendedStart : actualStart));
+            serviceTimes.record(end - actualStart);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        ResourceUsage usage = ResourceUsage.current().minus(usageBefore);
+
+        return new LoadReport(
+                scoreboard.getClass().getName(), feed.size(), eventsPerSecond, elapsedNanos, rejected, largestSummary,
+                usage.allocatedBytes(), usage.gcCount(), usage.gcMillis(), responseTimes, serviceTimes
+        );
+    }
+
+    private MutationStatus apply(Scoreboard scoreboard, int operation, int event) {
+        String homeTeam = feed.homeTeam(event);
+        String awayTeam = feed.awayTeam(event);
+
+        return switch (OPERATIONS[operation]) {
+            case START_MATCH -> scoreboard.tryStartMatch(homeTeam, awayTeam);
+            case UPDATE_SCORE -> scoreboard.tryUpdateScore(
+                    homeTeam, awayTeam, feed.homeScore(event), feed.awayScore(event)
+            );
+            case END_MATCH -> scoreboard.tryEndMatch(homeTeam, awayTeam);
+            case READ_SUMMARY -> throw new IllegalStateException("Summary read isn't a change");
+        };
+    }
+
+    // Parks while the start is far away, then spins, so the event starts close to its intended time
+    private static void waitUntil(long intendedStart) {
+        long remaining;
+        while ((remaining = intendedStart - System.nanoTime()) > 0) {
+            if (remaining > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Memory allocated by all the live threads, including the threads of the scoreboard, and the
+     * garbage collections so far. Allocations of threads, which ended during the run, aren't counted.
+     */
+    private record ResourceUsage(long allocatedBytes, long gcCount, long gcMillis) {
+
+        static ResourceUsage current() {
+            long allocatedBytes = 0;
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+                for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+                    allocatedBytes += Math.max(bytes, 0);
+                }
+            }
+
+            long gcCount = 0;
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(collector.getCollectionCount(), 0);
+                gcMillis += Math.max(collector.getCollectionTime(), 0);
+            }
+
+            return new ResourceUsage(allocatedBytes, gcCount, gcMillis);
+        }
+
+        ResourceUsage minus(ResourceUsage before) {
+            return new ResourceUsage(
+                    allocatedBytes - before.allocatedBytes, gcCount - before.gcCount, gcMillis - before.gcMillis
+            );
+        }
+    }
+}
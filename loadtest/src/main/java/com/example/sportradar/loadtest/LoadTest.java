@@ -0,0 +1,127 @@
+package com.example.sportradar.loadtest;
+
+import com.example.sportradar.api.Scoreboard;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Entry point of the load test jar. Generates a match-day feed, or replays a feed against a
+ * scoreboard and prints the report:
+ * <pre>
+ * java -jar loadtest.jar generate --output day.tsv [--fixtures 2000] [--updates 5000000]
+ *                                 [--reads-per-update 0.05] [--seed 1]
+ * java -jar loadtest.jar run --feed day.tsv [--scoreboard InMemoryScoreboard] [--rate 0]
+ *                            [--warmup-runs 1]
+ * </pre>
+ * The scoreboard is given by its class name, or its simple name for the implementations of the
+ * library, and is created through its public no-argument constructor. Warm-up runs replay the feed
+ * flat out against fresh scoreboards before the measured run, so it runs compiled code.
+ */
+public final class LoadTest {
+    private static final String INTERNAL_PACKAGE = "com.example.sportradar.internal.";
+    private static final Set<String> GENERATE_OPTIONS = Set.of(
+            "output", "fixtures", "updates", "reads-per-update", "seed"
+    );
+    private static final Set<String> RUN_OPTIONS = Set.of("feed", "scoreboard", "rate", "warmup-runs");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        try {
+            if (args.length > 0 && args[0].equals("generate")) {
+                generate(parseOptions(args, GENERATE_OPTIONS));
+            } else if (args.length > 0 && args[0].equals("run")) {
+                run(parseOptions(args, RUN_OPTIONS));
+            } else {
+                throw new IllegalArgumentException("Expected a command, generate or run");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: generate --output <file> [--fixtures <n>] [--updates <n>]"
+                    + " [--reads-per-update <ratio>] [--seed <n>]");
+            System.err.println("       run --feed <file> [--scoreboard <class>] [--rate <events/s, 0 = flat out>]"
+                    + " [--warmup-runs <n>]");
+            System.exit(2);
+        }
+    }
+
+    private static void generate(Map<String, String> options) throws IOException {
+        Path output = Path.of(required(options, "output"));
+        FeedGenerator generator = new FeedGenerator(
+                Integer.parseInt(options.getOrDefault("fixtures", "2000")),
+                Long.parseLong(options.getOrDefault("updates", "5000000")),
+                Double.parseDouble(options.getOrDefault("reads-per-update", "0.05")),
+                Long.parseLong(options.getOrDefault("seed", "1"))
+        );
+
+        generator.generate(output);
+        System.out.println("Feed written to " + output);
+    }
+
+    private static void run(Map<String, String> options) throws Exception {
+        Feed feed = Feed.read(Path.of(required(options, "feed")));
+        String implementation = options.getOrDefault("scoreboard", "InMemoryScoreboard");
+        long rate = Long.parseLong(options.getOrDefault("rate", "0"));
+        int warmupRuns = Integer.parseInt(options.getOrDefault("warmup-runs", "1"));
+        LoadRunner runner = new LoadRunner(feed, rate);
+
+        System.out.printf("Feed: %d events of %d fixtures%n", feed.size(), feed.fixtureCount());
+        for (int i = 0; i < warmupRuns; i++) {
+            Scoreboard scoreboard = createScoreboard(implementation);
+            new LoadRunner(feed, 0).run(scoreboard);
+            close(scoreboard);
+            System.out.printf("Warm-up run %d of %d done%n", i + 1, warmupRuns);
+        }
+
+        Scoreboard scoreboard = createScoreboard(implementation);
+        LoadReport report = runner.run(scoreboard);
+        close(scoreboard);
+
+        System.out.println();
+        report.print(System.out);
+    }
+
+    private static Scoreboard createScoreboard(String implementation) {
+        String className = implementation.contains(".") ? implementation : INTERNAL_PACKAGE + implementation;
+
+        try {
+            return (Scoreboard) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Cannot create scoreboard: " + implementation, e);
+        }
+    }
+
+    // Stops the threads of scoreboards like the asynchronous one, so they don't outlive the run
+    private static void close(Scoreboard scoreboard) throws Exception {
+        if (scoreboard instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args, Set<String> allowed) {
+        Map<String, String> options = new HashMap<>();
+
+        for (int i = 1; i < args.length; i += 2) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : "";
+            if (!allowed.contains(name) || i + 1 == args.length) {
+                throw new IllegalArgumentException("Invalid option: " + args[i]);
+            }
+            options.put(name, args[i + 1]);
+        }
+
+        return options;
+    }
+
+    private static String required(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing option: --" + name);
+        }
+        return value;
+    }
+}
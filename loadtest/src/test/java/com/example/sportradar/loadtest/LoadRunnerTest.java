@@ -0,0 +1,124 @@
+package com.example.sportradar.loadtest;
+
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.ForwardingScoreboard;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class LoadRunnerTest {
+    @TempDir
+    private Path directory;
+
+    @DisplayName("run: should replay a generated feed without rejections when run flat out")
+    @Test
+    void run_shouldReplayGeneratedFeedWithoutRejections_whenRunFlatOut() throws IOException {
+        Path path = directory.resolve("day.tsv");
+        new FeedGenerator(50, 5_000, 0.1, 42).generate(path);
+        Feed feed = Feed.read(path);
+        Scoreboard scoreboard = new InMemoryScoreboard();
+
+        LoadReport report = new LoadRunner(feed, 0).run(scoreboard);
+
+        assertThat(feed.fixtureCount()).isEqualTo(50);
+        assertThat(report.events()).isEqualTo(feed.size());
+        assertThat(report.rejected()).isZero();
+        assertThat(report.largestSummary()).isPositive();
+        assertThat(report.responseTimes(Feed.Operation.START_MATCH).count()).isEqualTo(50);
+        assertThat(report.responseTimes(Feed.Operation.END_MATCH).count()).isEqualTo(50);
+        assertThat(report.responseTimes(Feed.Operation.UPDATE_SCORE).count()).isBetween(4_000L, 6_000L);
+        assertThat(report.responseTimes(Feed.Operation.READ_SUMMARY).count()).isPositive();
+        assertThat(report.serviceTimes().count()).isEqualTo(feed.size());
+        assertThat(scoreboard.getMatchSummary()).isEmpty();
+    }
+
+    @DisplayName("run: should charge events delayed by a slow event with their waiting time when run at a fixed rate")
+    @Test
+    void run_shouldChargeDelayedEventsWithWaitingTime_whenRunAtFixedRate() throws IOException {
+        Path path = directory.resolve("stall.tsv");
+        try (FeedWriter writer = new FeedWriter(path)) {
+            int fixture = writer.fixture("Mexico", "Canada");
+            writer.startMatch(fixture);
+            for (int i = 1; i <= 20; i++) {
+                writer.updateScore(fixture, i, 0);
+            }
+            writer.endMatch(fixture);
+        }
+        Scoreboard scoreboard = new StallingScoreboard(new InMemoryScoreboard(), 1, 20);
+
+        // An event every millisecond, the update stalling for 20 ms holds back all the updates after it
+        LoadReport report = new LoadRunner(Feed.read(path), 1_000).run(scoreboard);
+
+        LatencyRecorder updates = report.responseTimes(Feed.Operation.UPDATE_SCORE);
+        assertThat(report.rejected()).isZero();
+        assertThat(updates.maxNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(updates.percentileNanos(50)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(report.serviceTimes().percentileNanos(50)).isLessThan(TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @DisplayName("percentileNanos: should report percentiles within the precision of the histogram")
+    @Test
+    void percentileNanos_shouldReportPercentilesWithinPrecisionOfHistogram() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            recorder.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        recorder.record(-1);
+
+        assertThat(recorder.count()).isEqualTo(1_001);
+        assertThat(recorder.percentileNanos(0)).isZero();
+        assertThat((double) recorder.percentileNanos(50)).isCloseTo(500_000, within(500_000 * 0.035));
+        assertThat((double) recorder.percentileNanos(99)).isCloseTo(990_000, within(990_000 * 0.035));
+        assertThat(recorder.percentileNanos(100)).isEqualTo(1_000_000);
+        assertThat(recorder.maxNanos()).isEqualTo(1_000_000);
+        assertThat(new LatencyRecorder().percentileNanos(99)).isZero();
+        assertThatThrownBy(() -> recorder.percentileNanos(100.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("read: should reject an invalid event with the number of its line")
+    @Test
+    void read_shouldRejectInvalidEventWithNumberOfItsLine() throws IOException {
+        Path path = directory.resolve("invalid.tsv");
+        Files.writeString(path, "# header\nF\t0\tMexico\tCanada\nS\t0\nU\t1\t1\t0\n");
+
+        assertThatThrownBy(() -> Feed.read(path))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line 4");
+    }
+
+    // Stalls on the given score update, like a scoreboard paused by the garbage collector
+    private static class StallingScoreboard extends ForwardingScoreboard {
+        private final int stalledUpdate;
+        private final long stallMillis;
+        private int updates;
+
+        StallingScoreboard(Scoreboard delegate, int stalledUpdate, long stallMillis) {
+            super(delegate);
+            this.stalledUpdate = stalledUpdate;
+            this.stallMillis = stallMillis;
+        }
+
+        @Override
+        public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            if (++updates == stalledUpdate) {
+                try {
+                    Thread.sleep(stallMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+}
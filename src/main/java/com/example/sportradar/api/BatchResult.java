@@ -0,0 +1,42 @@
+package com.example.sportradar.api;
+
+import java.util.List;
+
+/**
+ * The outcome of {@link Scoreboard#applyBatch}. Commands of the batch are applied independently,
+ * so the result lists every command that failed, while all the other commands were applied.
+ *
+ * @param commandCount the number of commands in the batch
+ * @param failures the commands that failed, in the order of the batch
+ */
+public record BatchResult(int commandCount, List<Failure> failures) {
+
+    public BatchResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return {@code true} if all the commands of the batch were applied
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return the number of commands of the batch, which were applied
+     */
+    public int appliedCount() {
+        return commandCount - failures.size();
+    }
+
+    /**
+     * A command of the batch, which wasn't applied.
+     *
+     * @param index the position of the command in the batch
+     * @param command the command, which failed
+     * @param exception the exception the command failed with, the same as the one thrown when
+     *                  calling the corresponding method of the scoreboard
+     */
+    public record Failure(int index, ScoreboardCommand command, RuntimeException exception) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.sportradar.api;
+
+/**
+ * Receives the matches of a scoreboard one by one from
+ * {@link Scoreboard#forEachInSummaryOrder(MatchScoreVisitor)}, with the values of a
+ * {@link MatchScore} passed as arguments, so no record is created for the match.
+ */
+@FunctionalInterface
+public interface MatchScoreVisitor {
+
+    /**
+     * Receives the next match.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param homeScore the score of the home team
+     * @param awayScore the score of the away team
+     */
+    void visit(String homeTeam, String awayTeam, int homeScore, int awayScore);
+}
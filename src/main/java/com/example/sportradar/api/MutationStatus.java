@@ -0,0 +1,41 @@
+package com.example.sportradar.api;
+
+/**
+ * The outcome of the {@code try} variants of the changes of a {@link Scoreboard}. A change, which
+ * the scoreboard rejects because of its current state, is reported with one of these constants
+ * instead of an exception, so rejecting routine duplicate or stale changes allocates nothing.
+ */
+public enum MutationStatus {
+    /**
+     * The change was applied.
+     */
+    APPLIED,
+    /**
+     * The match to update or end doesn't exist.
+     */
+    MATCH_NOT_FOUND,
+    /**
+     * The match to start already exists, with the same or swapped teams.
+     */
+    MATCH_ALREADY_EXISTS,
+    /**
+     * The home team of the match to start is already in another match.
+     */
+    HOME_TEAM_IN_MATCH,
+    /**
+     * The away team of the match to start is already in another match.
+     */
+    AWAY_TEAM_IN_MATCH,
+    /**
+     * The sequence of the update isn't higher than the version of the match, so the update is older
+     * than the score of the match and was discarded.
+     */
+    STALE_UPDATE;
+
+    /**
+     * @return {@code true} if the change was applied
+     */
+    public boolean isApplied() {
+        return this == APPLIED;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.sportradar.api;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Flow;
 import com.example.sportradar.api.exceptions.MatchNotFoundException;
 import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
 import com.example.sportradar.api.exceptions.DuplicateTeamNamesException;
@@ -52,12 +56,411 @@ public interface Scoreboard {
      */
     void endMatch(String homeTeam, String awayTeam);
 
+    /**
+     * Adds a goal to the score of an ongoing match. The score is incremented atomically, so goals
+     * of the same match recorded by many threads at once are all counted, in any order. The version
+     * of the match isn't changed.
+     * <p>
+     * This is an optional operation.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @param side the side of the match, which scored the goal
+     * @throws IllegalArgumentException if the team names are null or blank, or the side is null
+     * @throws MatchNotFoundException if the match does not exist
+     * @throws UnsupportedOperationException if the implementation doesn't record goals
+     */
+    default void recordGoal(String homeTeam, String awayTeam, Side side) {
+        throw new UnsupportedOperationException("Scoreboard doesn't record goals");
+    }
+
+    /**
+     * Updates the score of an ongoing match, unless a newer update was already applied. Every match
+     * carries a version, the sequence of the last update applied with this method, and an update
+     * with a sequence, which isn't higher than the version, is discarded. The check and the update
+     * are atomic, so updates of the same match can be applied by many threads at once, in any
+     * order, and the match ends up with the score of the highest sequence.
+     * <p>
+     * This is an optional operation.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @param homeScore the new score for the home team
+     * @param awayScore the new score for the away team
+     * @param sequence the sequence of the update, positive and increasing with every update of the match
+     * @return {@link MutationStatus#APPLIED} if the score was updated, or
+     * {@link MutationStatus#STALE_UPDATE} if the update was discarded
+     * @throws IllegalArgumentException if the team names are null, blank, the scores are negative or
+     * the sequence isn't positive
+     * @throws MatchNotFoundException if the match does not exist
+     * @throws UnsupportedOperationException if the implementation doesn't version the matches
+     */
+    default MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                       long sequence) {
+        throw new UnsupportedOperationException("Scoreboard doesn't version the matches");
+    }
+
+    /**
+     * Starts a new match like {@link #startMatch(String, String)}, but reports a match, which can't
+     * be started because of the matches in progress, with a status instead of an exception.
+     * Implementations don't allocate when the match is rejected.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @return {@link MutationStatus#APPLIED} if the match was started, otherwise the reason it wasn't
+     * @throws IllegalArgumentException if the team names are null, blank or contain only whitespace
+     * @throws DuplicateTeamNamesException if the team names are the same
+     */
+    default MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        try {
+            startMatch(homeTeam, awayTeam);
+            return MutationStatus.APPLIED;
+        } catch (MatchAlreadyExistsException e) {
+            return MutationStatus.MATCH_ALREADY_EXISTS;
+        } catch (TeamAlreadyInMatchException e) {
+            return homeTeam.trim().equals(e.getTeam())
+                    ? MutationStatus.HOME_TEAM_IN_MATCH
+                    : MutationStatus.AWAY_TEAM_IN_MATCH;
+        }
+    }
+
+    /**
+     * Updates the score like {@link #updateScore(String, String, int, int)}, but reports a match,
+     * which doesn't exist, with a status instead of an exception. Implementations don't allocate
+     * when the update is rejected.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @param homeScore the new score for the home team
+     * @param awayScore the new score for the away team
+     * @return {@link MutationStatus#APPLIED} if the score was updated, otherwise
+     * {@link MutationStatus#MATCH_NOT_FOUND}
+     * @throws IllegalArgumentException if the team names are null, blank, or the scores are negative
+     */
+    default MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        try {
+            updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return MutationStatus.APPLIED;
+        } catch (MatchNotFoundException e) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Ends a match like {@link #endMatch(String, String)}, but reports a match, which doesn't
+     * exist, with a status instead of an exception. Implementations don't allocate when the match
+     * is rejected.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @return {@link MutationStatus#APPLIED} if the match was ended, otherwise
+     * {@link MutationStatus#MATCH_NOT_FOUND}
+     * @throws IllegalArgumentException if the team names are null or blank
+     */
+    default MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        try {
+            endMatch(homeTeam, awayTeam);
+            return MutationStatus.APPLIED;
+        } catch (MatchNotFoundException e) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Adds a goal like {@link #recordGoal(String, String, Side)}, but reports a match, which
+     * doesn't exist, with a status instead of an exception. Implementations don't allocate when the
+     * goal is rejected.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @param side the side of the match, which scored the goal
+     * @return {@link MutationStatus#APPLIED} if the goal was added, otherwise
+     * {@link MutationStatus#MATCH_NOT_FOUND}
+     * @throws IllegalArgumentException if the team names are null or blank, or the side is null
+     * @throws UnsupportedOperationException if the implementation doesn't record goals
+     */
+    default MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        try {
+            recordGoal(homeTeam, awayTeam, side);
+            return MutationStatus.APPLIED;
+        } catch (MatchNotFoundException e) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Updates the score like {@link #updateScore(String, String, int, int, long)}, but reports a
+     * match, which doesn't exist, with a status instead of an exception. Implementations don't
+     * allocate when the update is rejected or discarded.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @param homeScore the new score for the home team
+     * @param awayScore the new score for the away team
+     * @param sequence the sequence of the update, positive and increasing with every update of the match
+     * @return {@link MutationStatus#APPLIED} if the score was updated, otherwise
+     * {@link MutationStatus#MATCH_NOT_FOUND} or {@link MutationStatus#STALE_UPDATE}
+     * @throws IllegalArgumentException if the team names are null, blank, the scores are negative or
+     * the sequence isn't positive
+     * @throws UnsupportedOperationException if the implementation doesn't version the matches
+     */
+    default MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                          long sequence) {
+        try {
+            return updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+        } catch (MatchNotFoundException e) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Returns the version of an ongoing match, the sequence of the last update applied to it with
+     * {@link #updateScore(String, String, int, int, long)}. The version isn't part of
+     * {@link MatchScore}, so scores of the same match compare equal however they were updated.
+     * Implementations, which don't version the matches, never apply such an update, so all their
+     * matches have version 0.
+     *
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @return the version of the match, 0 if it wasn't updated with a sequence
+     * @throws IllegalArgumentException if the team names are null or blank
+     * @throws MatchNotFoundException if the match does not exist
+     */
+    default long getMatchVersion(String homeTeam, String awayTeam) {
+        if (homeTeam == null || awayTeam == null) {
+            throw new IllegalArgumentException("Team names cannot be null");
+        }
+
+        if (homeTeam.isBlank() || awayTeam.isBlank()) {
+            throw new IllegalArgumentException("Team names cannot be empty");
+        }
+
+        String cleanHomeTeam = homeTeam.trim();
+        String cleanAwayTeam = awayTeam.trim();
+        boolean inProgress = findMatchByTeam(cleanHomeTeam)
+                .filter(match -> match.homeTeam().equals(cleanHomeTeam) && match.awayTeam().equals(cleanAwayTeam)
+                        || match.homeTeam().equals(cleanAwayTeam) && match.awayTeam().equals(cleanHomeTeam))
+                .isPresent();
+
+        if (!inProgress) {
+            throw new MatchNotFoundException(
+                    String.format("Match does not exist for teams: %s vs %s", cleanHomeTeam, cleanAwayTeam)
+            );
+        }
+        return 0;
+    }
+
     /**
      * Retrieves a summary of matches currently in progress. The matches are ordered by their
      * total score in descending order. Matches with the same total score are ordered by the
-     * most recently started match.
+     * most recently started match. The returned list is immutable and isn't affected by later changes
+     * of the scoreboard, so implementations may return the same list until the next change.
      *
      * @return a list of {@code MatchScore} objects representing the summary of matches
      */
     List<MatchScore> getMatchSummary();
-}
\ No newline at end of file
+
+    /**
+     * Passes the matches currently in progress to the visitor in the order of
+     * {@link #getMatchSummary()}, without building the list. Implementations, which keep the matches
+     * in summary order, pass them straight from their index and create no {@link MatchScore}
+     * objects, so the summary can be streamed out, e.g. serialized, without allocating per match.
+     * <p>
+     * The visitor mustn't change the scoreboard. Implementations, which aren't thread-safe, call
+     * it while iterating their index, so such a change may fail or skip matches.
+     *
+     * @param visitor the visitor called once for every match
+     * @throws NullPointerException if the visitor is null
+     */
+    default void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+
+        List<MatchScore> summary = getMatchSummary();
+        for (int i = 0; i < summary.size(); i++) {
+            MatchScore matchScore = summary.get(i);
+            visitor.visit(matchScore.homeTeam(), matchScore.awayTeam(), matchScore.homeScore(), matchScore.awayScore());
+        }
+    }
+
+    /**
+     * Retrieves the matches currently in progress in the order they were started, the earliest
+     * first. Starting these matches in the same order on an empty scoreboard and setting their
+     * scores gives the same summary, including the order of matches with the same total score, so
+     * the result can be used to copy or checkpoint the state of the scoreboard.
+     * <p>
+     * This is an optional operation. Journal checkpoints and replication snapshots need it to copy
+     * the matches in progress, so a scoreboard without it can't be checkpointed or replicated.
+     *
+     * @return an immutable list of {@code MatchScore} objects in the order the matches were started
+     * @throws UnsupportedOperationException if the implementation doesn't keep the start order
+     */
+    default List<MatchScore> getMatchesInStartOrder() {
+        throw new UnsupportedOperationException("Scoreboard doesn't keep the start order of the matches");
+    }
+
+    /**
+     * Retrieves the given number of matches from the top of the summary. The result is the same as
+     * the beginning of the list returned by {@link #getMatchSummary()}, but implementations may
+     * avoid building the whole summary.
+     *
+     * @param count the maximum number of matches to return
+     * @return a list of at most {@code count} {@code MatchScore} objects from the top of the summary
+     * @throws IllegalArgumentException if the count is negative
+     */
+    default List<MatchScore> getTopMatches(int count) {
+        return getMatchSummary(0, count);
+    }
+
+    /**
+     * Retrieves a page of the summary of matches currently in progress. The result is the same as
+     * the sublist of the list returned by {@link #getMatchSummary()} starting at the given offset,
+     * but implementations may avoid building the whole summary.
+     *
+     * @param offset the position in the summary of the first match to return
+     * @param limit the maximum number of matches to return
+     * @return a list of at most {@code limit} {@code MatchScore} objects, empty if the offset is
+     * past the end of the summary
+     * @throws IllegalArgumentException if the offset or the limit is negative
+     */
+    default List<MatchScore> getMatchSummary(int offset, int limit) {
+        throwIfPageIsInvalid(offset, limit);
+
+        List<MatchScore> summary = getMatchSummary();
+        int from = Math.min(offset, summary.size());
+        int to = (int) Math.min((long) from + limit, summary.size());
+
+        return List.copyOf(summary.subList(from, to));
+    }
+
+    /**
+     * Finds the match in progress, which the team plays in as home or away team. Implementations
+     * keep the matches indexed by team, so the match is found in constant time instead of scanning
+     * the summary.
+     *
+     * @param team the name of the team, whitespaces are removed before processing
+     * @return the score of the match of the team, empty if the team isn't in a match
+     * @throws IllegalArgumentException if the team name is null or blank
+     */
+    default Optional<MatchScore> findMatchByTeam(String team) {
+        if (team == null || team.isBlank()) {
+            throw new IllegalArgumentException("Team name cannot be null or empty");
+        }
+
+        String cleanTeam = team.trim();
+        for (MatchScore matchScore : getMatchSummary()) {
+            if (matchScore.homeTeam().equals(cleanTeam) || matchScore.awayTeam().equals(cleanTeam)) {
+                return Optional.of(matchScore);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Retrieves the matches in progress with a total score of at least the given score, in the
+     * order of {@link #getMatchSummary()}. The summary is ordered by total score, so the result is
+     * the beginning of the summary, and implementations find its end in their ordered index, in
+     * time proportional to the number of matches returned rather than the number of matches in
+     * progress.
+     *
+     * @param minTotalScore the lowest total score of the matches to return
+     * @return an immutable list of the matches with a total score of at least {@code minTotalScore}
+     * @throws IllegalArgumentException if the total score is negative
+     */
+    default List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        if (minTotalScore < 0) {
+            throw new IllegalArgumentException("Total score cannot be negative");
+        }
+
+        // Binary search for the first match below the total score, the summary is ordered by it
+        List<MatchScore> summary = getMatchSummary();
+        int low = 0;
+        int high = summary.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            MatchScore matchScore = summary.get(middle);
+
+            if ((long) matchScore.homeScore() + matchScore.awayScore() >= minTotalScore) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return List.copyOf(summary.subList(0, low));
+    }
+
+    /**
+     * Returns the version of the scoreboard, which increases with every change applied to it, so a
+     * caller can tell whether the summary changed since it last read it without reading it again.
+     * Rejected changes and reads don't change the version. A summary read after the version
+     * includes at least all the changes counted by it. Versions of different scoreboard instances
+     * aren't related.
+     * <p>
+     * This is an optional operation.
+     *
+     * @return the version, 0 before the first change
+     * @throws UnsupportedOperationException if the implementation doesn't count its changes
+     */
+    default long getVersion() {
+        throw new UnsupportedOperationException("Scoreboard doesn't count its changes");
+    }
+
+    /**
+     * Returns a publisher of the changes of the scoreboard. Subscribers receive the events of the
+     * changes made after they subscribed, in the order of the changes. A subscriber, which doesn't
+     * request events as fast as they're published, isn't buffered without limit, its pending
+     * events are replaced with a single {@link ScoreboardEvent.SummaryReset} instead.
+     * <p>
+     * This is an optional operation.
+     *
+     * @return the publisher of the changes of the scoreboard
+     * @throws UnsupportedOperationException if the implementation doesn't publish its changes
+     */
+    default Flow.Publisher<ScoreboardEvent> events() {
+        throw new UnsupportedOperationException("Scoreboard doesn't publish its changes");
+    }
+
+    /**
+     * Applies the given commands in order. A command, which fails, doesn't stop the batch, its
+     * exception is reported in the result instead. Implementations may apply the whole batch at
+     * lower cost than calling the corresponding methods one by one, e.g. by ordering the summary
+     * only once.
+     *
+     * @param commands the commands to apply
+     * @return the result listing the commands, which failed
+     * @throws NullPointerException if the list of commands is null
+     */
+    default BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        List<BatchResult.Failure> failures = new ArrayList<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            ScoreboardCommand command = commands.get(i);
+
+            try {
+                if (command == null) {
+                    throw new IllegalArgumentException("Command cannot be null");
+                }
+                command.applyTo(this);
+            } catch (RuntimeException e) {
+                failures.add(new BatchResult.Failure(i, command, e));
+            }
+        }
+
+        return new BatchResult(commands.size(), failures);
+    }
+
+    /**
+     * Validates the page of the summary requested from {@link #getMatchSummary(int, int)}.
+     *
+     * @param offset the position in the summary of the first match
+     * @param limit the maximum number of matches
+     * @throws IllegalArgumentException if the offset or the limit is negative
+     */
+    static void throwIfPageIsInvalid(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit cannot be negative");
+        }
+    }
+}
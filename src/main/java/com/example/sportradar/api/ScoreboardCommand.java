@@ -0,0 +1,91 @@
+package com.example.sportradar.api;
+
+/**
+ * A single change of the scoreboard, which can be applied with {@link Scoreboard#applyBatch}
+ * together with other commands.
+ */
+public sealed interface ScoreboardCommand
+        permits ScoreboardCommand.StartMatch, ScoreboardCommand.UpdateScore, ScoreboardCommand.EndMatch,
+        ScoreboardCommand.RecordGoal, ScoreboardCommand.SequencedUpdateScore {
+
+    /**
+     * Applies the command to the given scoreboard by calling the corresponding method.
+     *
+     * @param scoreboard the scoreboard to apply the command to
+     */
+    void applyTo(Scoreboard scoreboard);
+
+    /**
+     * Starts a new match, see {@link Scoreboard#startMatch(String, String)}.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     */
+    record StartMatch(String homeTeam, String awayTeam) implements ScoreboardCommand {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.startMatch(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Updates the score of a match, see {@link Scoreboard#updateScore(String, String, int, int)}.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param homeScore the new score for the home team
+     * @param awayScore the new score for the away team
+     */
+    record UpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreboardCommand {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    /**
+     * Ends a match, see {@link Scoreboard#endMatch(String, String)}.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     */
+    record EndMatch(String homeTeam, String awayTeam) implements ScoreboardCommand {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.endMatch(homeTeam, awayTeam);
+        }
+    }
+
+    /**
+     * Adds a goal to the score of a match, see {@link Scoreboard#recordGoal(String, String, Side)}.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param side the side of the match, which scored the goal
+     */
+    record RecordGoal(String homeTeam, String awayTeam, Side side) implements ScoreboardCommand {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.recordGoal(homeTeam, awayTeam, side);
+        }
+    }
+
+    /**
+     * Updates the score of a match unless a newer update was already applied, see
+     * {@link Scoreboard#updateScore(String, String, int, int, long)}. A discarded update doesn't
+     * fail the command.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param homeScore the new score for the home team
+     * @param awayScore the new score for the away team
+     * @param sequence the sequence of the update
+     */
+    record SequencedUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence)
+            implements ScoreboardCommand {
+        @Override
+        public void applyTo(Scoreboard scoreboard) {
+            scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.sportradar.api;
+
+import java.util.List;
+
+/**
+ * A change of the scoreboard published by {@link Scoreboard#events()}. The place of a match in the
+ * summary returned by {@link Scoreboard#getMatchSummary()} is given by the match following it, so a
+ * subscriber can keep its own copy of the summary up to date by applying the events in order, and
+ * the scoreboard finds the place without counting the matches before it.
+ */
+public sealed interface ScoreboardEvent permits ScoreboardEvent.MatchStarted, ScoreboardEvent.ScoreChanged,
+        ScoreboardEvent.MatchMoved, ScoreboardEvent.MatchEnded, ScoreboardEvent.SummaryReset {
+
+    /**
+     * A new match was started with the initial score and inserted into the summary before the
+     * given match.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param nextHomeTeam the name of the home team of the match following it, null if it's the last match
+     * @param nextAwayTeam the name of the away team of the match following it, null if it's the last match
+     */
+    record MatchStarted(String homeTeam, String awayTeam, String nextHomeTeam, String nextAwayTeam)
+            implements ScoreboardEvent {
+    }
+
+    /**
+     * The score of a match was changed. If the change moved the match in the summary, the event is
+     * followed by {@link MatchMoved}.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param homeScore the new score of the home team
+     * @param awayScore the new score of the away team
+     */
+    record ScoreChanged(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreboardEvent {
+    }
+
+    /**
+     * A match was taken out of the summary and inserted again before the given match.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param nextHomeTeam the name of the home team of the match following it, null if it's the last match
+     * @param nextAwayTeam the name of the away team of the match following it, null if it's the last match
+     */
+    record MatchMoved(String homeTeam, String awayTeam, String nextHomeTeam, String nextAwayTeam)
+            implements ScoreboardEvent {
+    }
+
+    /**
+     * A match was ended and removed from the summary.
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @param homeScore the final score of the home team
+     * @param awayScore the final score of the away team
+     */
+    record MatchEnded(String homeTeam, String awayTeam, int homeScore, int awayScore) implements ScoreboardEvent {
+    }
+
+    /**
+     * The whole summary, which replaces any state built from the previous events. Published to a
+     * subscriber instead of the events it couldn't keep up with, so slow subscribers get the latest
+     * state rather than an ever-growing backlog of changes. A batch of changes is also published as
+     * a single reset with the summary after the batch.
+     *
+     * @param summary the summary of matches in progress
+     */
+    record SummaryReset(List<MatchScore> summary) implements ScoreboardEvent {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.sportradar.api;
+
+/**
+ * The side of a match, which scored a goal recorded with {@link Scoreboard#recordGoal}.
+ */
+public enum Side {
+    /**
+     * The home team of the match.
+     */
+    HOME,
+    /**
+     * The away team of the match.
+     */
+    AWAY
+}
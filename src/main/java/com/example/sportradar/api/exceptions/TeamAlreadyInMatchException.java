@@ -1,7 +1,21 @@
 package com.example.sportradar.api.exceptions;
 
 public class TeamAlreadyInMatchException extends RuntimeException {
+    private final String team;
+
     public TeamAlreadyInMatchException(String message) {
+        this(message, null);
+    }
+
+    public TeamAlreadyInMatchException(String message, String team) {
         super(message);
+        this.team = team;
+    }
+
+    /**
+     * @return the name of the team, which is already in a match, or {@code null} if it's unknown
+     */
+    public String getTeam() {
+        return team;
     }
 }
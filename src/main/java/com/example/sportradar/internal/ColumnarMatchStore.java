@@ -0,0 +1,124 @@
+package com.example.sportradar.internal;
+
+import java.util.Arrays;
+
+/**
+ * Stores matches as rows of parallel primitive arrays, one array per field, instead of one object
+ * per match. A match is identified by its slot, the index of its row. Slots of ended matches are
+ * reused by the next started matches, so the arrays grow only with the highest number of matches
+ * in progress at once.
+ */
+final class ColumnarMatchStore implements MatchStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] startSequences;
+    private long[] versions;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    // Slots below are either in use or free, slots above were never used
+    private int highestSlot;
+    private int size;
+
+    ColumnarMatchStore() {
+        this.homeTeamIds = new int[INITIAL_CAPACITY];
+        this.awayTeamIds = new int[INITIAL_CAPACITY];
+        this.homeScores = new int[INITIAL_CAPACITY];
+        this.awayScores = new int[INITIAL_CAPACITY];
+        this.startSequences = new long[INITIAL_CAPACITY];
+        this.versions = new long[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public int allocate(int homeTeamId, int awayTeamId, int homeScore, int awayScore, long startSequence) {
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextUnusedSlot();
+
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        startSequences[slot] = startSequence;
+        versions[slot] = 0;
+        size++;
+        return slot;
+    }
+
+    @Override
+    public void release(int slot) {
+        homeTeamIds[slot] = TeamSymbolTable.NO_TEAM;
+        awayTeamIds[slot] = TeamSymbolTable.NO_TEAM;
+        freeSlots[freeSlotCount++] = slot;
+        size--;
+    }
+
+    @Override
+    public boolean isInUse(int slot) {
+        return homeTeamIds[slot] != TeamSymbolTable.NO_TEAM;
+    }
+
+    @Override
+    public int getHomeTeamId(int slot) {
+        return homeTeamIds[slot];
+    }
+
+    @Override
+    public int getAwayTeamId(int slot) {
+        return awayTeamIds[slot];
+    }
+
+    @Override
+    public int getHomeScore(int slot) {
+        return homeScores[slot];
+    }
+
+    @Override
+    public int getAwayScore(int slot) {
+        return awayScores[slot];
+    }
+
+    @Override
+    public long getStartSequence(int slot) {
+        return startSequences[slot];
+    }
+
+    @Override
+    public long getVersion(int slot) {
+        return versions[slot];
+    }
+
+    @Override
+    public void updateScore(int slot, int homeScore, int awayScore, long version) {
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        versions[slot] = version;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int slotLimit() {
+        return highestSlot;
+    }
+
+    private int nextUnusedSlot() {
+        if (highestSlot == homeTeamIds.length) {
+            int capacity = highestSlot * 2;
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startSequences = Arrays.copyOf(startSequences, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+        }
+
+        return highestSlot++;
+    }
+}
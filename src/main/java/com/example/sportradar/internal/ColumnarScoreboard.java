@@ -0,0 +1,391 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.Side;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntBinaryOperator;
+
+import static com.example.sportradar.internal.ScoreboardValidator.cleanTeamName;
+import static com.example.sportradar.internal.ScoreboardValidator.matchNotFound;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNameNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesAreEqual;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfRejected;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfScoreIsNegative;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSequenceIsNotPositive;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSideIsNull;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfTotalScoreIsNegative;
+
+/**
+ * {@link Scoreboard} implementation optimized for memory footprint with many matches in progress.
+ * Team names are interned into integer ids once, and matches are stored as fixed-width records of
+ * primitive fields in a {@link MatchStore}, by default in parallel primitive arrays of a
+ * {@link ColumnarMatchStore}, which takes a few dozen bytes per match, with no object per match.
+ * Teams are compared by id, and the match of a team is found by indexing an array with the team
+ * id. Slots are also linked into buckets by total score in a {@link TotalScoreIndex}, so the
+ * matches above a total score are found without sorting all of them. Not thread-safe.
+ */
+public class ColumnarScoreboard implements Scoreboard {
+    private final TeamSymbolTable teams;
+    private final MatchStore matches;
+    // Slots by the total score of their matches, kept up to date by every change
+    private final TotalScoreIndex slotsByTotalScore;
+    // Slot of the match of every team by its id, NO_SLOT when the team isn't in a match
+    private int[] slotsByTeamId;
+    // Summary is built once and reused until the next change, null when it needs to be rebuilt
+    private List<MatchScore> summary;
+    // Slots in summary order, which the summary is built from, null with the summary
+    private int[] summarySlots;
+    // Version of the scoreboard, incremented with every change together with clearing the summary
+    private long changeCount;
+    private long nextStartSequence;
+
+    public ColumnarScoreboard() {
+        this(new ColumnarMatchStore());
+    }
+
+    ColumnarScoreboard(MatchStore matches) {
+        this.teams = new TeamSymbolTable();
+        this.matches = matches;
+        this.slotsByTotalScore = new TotalScoreIndex(matches);
+        this.slotsByTeamId = new int[0];
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryStartMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        throwIfNamesAreEqual(homeTeam, awayTeam);
+
+        // Teams are interned only once the match is accepted, a rejected match allocates nothing
+        int homeSlot = slotOf(teams.idOf(homeTeam));
+        int awaySlot = slotOf(teams.idOf(awayTeam));
+
+        if (homeSlot != MatchStore.NO_SLOT && homeSlot == awaySlot) {
+            return MutationStatus.MATCH_ALREADY_EXISTS;
+        }
+        if (homeSlot != MatchStore.NO_SLOT) {
+            return MutationStatus.HOME_TEAM_IN_MATCH;
+        }
+        if (awaySlot != MatchStore.NO_SLOT) {
+            return MutationStatus.AWAY_TEAM_IN_MATCH;
+        }
+
+        int homeTeamId = teams.intern(homeTeam);
+        int awayTeamId = teams.intern(awayTeam);
+        ensureTeamCapacity();
+
+        int slot = matches.allocate(homeTeamId, awayTeamId, INITIAL_SCORE, INITIAL_SCORE, nextStartSequence++);
+        slotsByTeamId[homeTeamId] = slot;
+        slotsByTeamId[awayTeamId] = slot;
+        slotsByTotalScore.add(slot);
+        summary = null;
+        summarySlots = null;
+        changeCount++;
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        int slot = findSlot(homeTeam, awayTeam);
+        if (slot == MatchStore.NO_SLOT) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        matches.updateScore(slot, homeScore, awayScore, matches.getVersion(slot));
+        slotsByTotalScore.update(slot);
+        summary = null;
+        summarySlots = null;
+        changeCount++;
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        return throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfSequenceIsNotPositive(sequence);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        int slot = findSlot(homeTeam, awayTeam);
+        if (slot == MatchStore.NO_SLOT) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+        if (sequence <= matches.getVersion(slot)) {
+            return MutationStatus.STALE_UPDATE;
+        }
+
+        matches.updateScore(slot, homeScore, awayScore, sequence);
+        slotsByTotalScore.update(slot);
+        summary = null;
+        summarySlots = null;
+        changeCount++;
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfRejected(tryRecordGoal(homeTeam, awayTeam, side), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfSideIsNull(side);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        int slot = findSlot(homeTeam, awayTeam);
+        if (slot == MatchStore.NO_SLOT) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        int homeGoals = side == Side.HOME ? 1 : 0;
+        matches.updateScore(slot, matches.getHomeScore(slot) + homeGoals,
+                matches.getAwayScore(slot) + 1 - homeGoals, matches.getVersion(slot));
+        slotsByTotalScore.update(slot);
+        summary = null;
+        summarySlots = null;
+        changeCount++;
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryEndMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        int slot = findSlot(homeTeam, awayTeam);
+        if (slot == MatchStore.NO_SLOT) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        slotsByTeamId[matches.getHomeTeamId(slot)] = MatchStore.NO_SLOT;
+        slotsByTeamId[matches.getAwayTeamId(slot)] = MatchStore.NO_SLOT;
+        slotsByTotalScore.remove(slot);
+        matches.release(slot);
+        summary = null;
+        summarySlots = null;
+        changeCount++;
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        if (summary == null) {
+            summary = mapToMatchScores(summarySlots());
+        }
+
+        return summary;
+    }
+
+    // Sorts only after a change, the slots are then visited without creating any record
+    @Override
+    public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+
+        for (int slot : summarySlots()) {
+            visitor.visit(
+                    teams.nameOf(matches.getHomeTeamId(slot)),
+                    teams.nameOf(matches.getAwayTeamId(slot)),
+                    matches.getHomeScore(slot),
+                    matches.getAwayScore(slot)
+            );
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return changeCount;
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        int slot = findSlot(homeTeam, awayTeam);
+        if (slot == MatchStore.NO_SLOT) {
+            throw matchNotFound(homeTeam, awayTeam);
+        }
+        return matches.getVersion(slot);
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        return mapToMatchScores(slotsInOrder(this::compareInStartOrder));
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        throwIfNameNullOrBlank(team);
+
+        int slot = slotOf(teams.idOf(cleanTeamName(team)));
+        return slot == MatchStore.NO_SLOT ? Optional.empty() : Optional.of(mapToMatchScore(slot));
+    }
+
+    // Only the buckets of the total scores asked for are walked, and only their slots are sorted
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        throwIfTotalScoreIsNegative(minTotalScore);
+
+        int[] slots = slotsByTotalScore.slotsWithTotalScoreAtLeast(minTotalScore);
+        sort(slots, new int[slots.length], 0, slots.length, this::compareInSummaryOrder);
+
+        return mapToMatchScores(slots);
+    }
+
+    private int findSlot(String homeTeam, String awayTeam) {
+        // Teams never interned can't be in a match
+        int homeTeamId = teams.idOf(homeTeam);
+        int awayTeamId = teams.idOf(awayTeam);
+
+        if (homeTeamId != TeamSymbolTable.NO_TEAM && awayTeamId != TeamSymbolTable.NO_TEAM) {
+            int slot = slotsByTeamId[homeTeamId];
+
+            if (slot != MatchStore.NO_SLOT && matches.isBetween(slot, homeTeamId, awayTeamId)) {
+                return slot;
+            }
+        }
+
+        return MatchStore.NO_SLOT;
+    }
+
+    private int slotOf(int teamId) {
+        return teamId == TeamSymbolTable.NO_TEAM || teamId >= slotsByTeamId.length
+                ? MatchStore.NO_SLOT
+                : slotsByTeamId[teamId];
+    }
+
+    private void ensureTeamCapacity() {
+        if (slotsByTeamId.length < teams.size()) {
+            int oldLength = slotsByTeamId.length;
+            slotsByTeamId = Arrays.copyOf(slotsByTeamId, Math.max(teams.size(), oldLength * 2));
+            Arrays.fill(slotsByTeamId, oldLength, slotsByTeamId.length, MatchStore.NO_SLOT);
+        }
+    }
+
+    private int[] summarySlots() {
+        if (summarySlots == null) {
+            summarySlots = slotsInOrder(this::compareInSummaryOrder);
+        }
+
+        return summarySlots;
+    }
+
+    private int[] slotsInOrder(IntBinaryOperator order) {
+        int[] slots = new int[matches.size()];
+        int count = 0;
+
+        for (int slot = 0; slot < matches.slotLimit(); slot++) {
+            if (matches.isInUse(slot)) {
+                slots[count++] = slot;
+            }
+        }
+
+        sort(slots, new int[slots.length], 0, slots.length, order);
+        return slots;
+    }
+
+    // Merge sort of the slots, the JDK doesn't sort primitives with a custom order
+    private static void sort(int[] slots, int[] buffer, int from, int to, IntBinaryOperator order) {
+        if (to - from < 2) {
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        sort(slots, buffer, from, middle, order);
+        sort(slots, buffer, middle, to, order);
+
+        System.arraycopy(slots, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+
+        for (int i = from; i < to; i++) {
+            if (right == to || left < middle && order.applyAsInt(buffer[left], buffer[right]) <= 0) {
+                slots[i] = buffer[left++];
+            } else {
+                slots[i] = buffer[right++];
+            }
+        }
+    }
+
+    // Orders matches by total score descending, then by the most recently started match
+    private int compareInSummaryOrder(int slot1, int slot2) {
+        int scoreComparison = Long.compare(matches.getTotalScore(slot2), matches.getTotalScore(slot1));
+
+        if (scoreComparison != 0) {
+            return scoreComparison;
+        }
+
+        return Long.compare(matches.getStartSequence(slot2), matches.getStartSequence(slot1));
+    }
+
+    private int compareInStartOrder(int slot1, int slot2) {
+        return Long.compare(matches.getStartSequence(slot1), matches.getStartSequence(slot2));
+    }
+
+    private List<MatchScore> mapToMatchScores(int[] slots) {
+        List<MatchScore> matchScores = new ArrayList<>(slots.length);
+
+        for (int slot : slots) {
+            matchScores.add(mapToMatchScore(slot));
+        }
+
+        return List.copyOf(matchScores);
+    }
+
+    private MatchScore mapToMatchScore(int slot) {
+        return new MatchScore(
+                teams.nameOf(matches.getHomeTeamId(slot)),
+                teams.nameOf(matches.getAwayTeamId(slot)),
+                matches.getHomeScore(slot),
+                matches.getAwayScore(slot)
+        );
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.Side;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Match used by {@link ConcurrentScoreboard}. Team names and the start sequence are immutable, the
+ * score is held in a single volatile reference to an immutable {@link Score}, so readers always see
+ * both scores of the same update without taking any lock. The score is replaced with compare-and-set,
+ * so goals and sequenced updates are based on the score they replace.
+ */
+class ConcurrentMatch {
+    private static final int STARTING = 0;
+    private static final int LIVE = 1;
+    private static final int ENDED = 2;
+    private static final long NOT_INDEXED = -1;
+    private static final AtomicReferenceFieldUpdater<ConcurrentMatch, Score> SCORE =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentMatch.class, Score.class, "score");
+
+    private final String homeTeam;
+    private final String awayTeam;
+    private final long startSequence;
+    private final AtomicInteger state;
+    private volatile Score score;
+    // Total score of the bucket the match is in, guarded by the monitor of the match
+    private long indexedTotalScore;
+
+    ConcurrentMatch(String homeTeam, String awayTeam, int homeScore, int awayScore, long startSequence) {
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.startSequence = startSequence;
+        this.state = new AtomicInteger(STARTING);
+        this.score = new Score(homeScore, awayScore, 0);
+        this.indexedTotalScore = NOT_INDEXED;
+    }
+
+    String getHomeTeam() {
+        return homeTeam;
+    }
+
+    String getAwayTeam() {
+        return awayTeam;
+    }
+
+    long getStartSequence() {
+        return startSequence;
+    }
+
+    Score getScore() {
+        return score;
+    }
+
+    // Keeps the version, so it isn't lost to a concurrent sequenced update
+    void updateScore(int homeScore, int awayScore) {
+        Score current;
+        do {
+            current = score;
+        } while (!SCORE.compareAndSet(this, current, new Score(homeScore, awayScore, current.version())));
+    }
+
+    /**
+     * @return {@code false} if the sequence isn't higher than the version of the score
+     */
+    boolean updateScore(int homeScore, int awayScore, long sequence) {
+        Score current;
+        do {
+            current = score;
+            if (sequence <= current.version()) {
+                return false;
+            }
+        } while (!SCORE.compareAndSet(this, current, new Score(homeScore, awayScore, sequence)));
+
+        return true;
+    }
+
+    void recordGoal(Side side) {
+        int homeGoals = side == Side.HOME ? 1 : 0;
+        Score current;
+        do {
+            current = score;
+        } while (!SCORE.compareAndSet(this, current, new Score(
+                current.homeScore() + homeGoals, current.awayScore() + 1 - homeGoals, current.version()
+        )));
+    }
+
+    // Treat the match as the same if the teams are the same, regardless of order
+    boolean isBetween(String homeTeam, String awayTeam) {
+        return this.homeTeam.equals(homeTeam) && this.awayTeam.equals(awayTeam) ||
+                this.homeTeam.equals(awayTeam) && this.awayTeam.equals(homeTeam);
+    }
+
+    boolean isLive() {
+        return state.get() == LIVE;
+    }
+
+    // Called once both teams have been claimed, makes the match visible to other operations
+    void publish() {
+        state.set(LIVE);
+    }
+
+    // Only one of the threads ending the match concurrently wins
+    boolean end() {
+        return state.compareAndSet(LIVE, ENDED);
+    }
+
+    /**
+     * Moves the match to the bucket of its current total score, or out of the index once it has
+     * ended. Every change of the match is followed by a call, and the calls are serialized by the
+     * monitor of the match, so the last one leaves it in the bucket of its final score, whatever
+     * the order the concurrent changes were made in. A bucket is removed from the index once its
+     * last match leaves it, so readers walking the index don't visit the empty buckets of all the
+     * total scores ever reached.
+     */
+    synchronized void reindex(ConcurrentNavigableMap<Long, Set<ConcurrentMatch>> matchesByTotalScore) {
+        long totalScore = state.get() == LIVE ? score.totalScore() : NOT_INDEXED;
+        if (totalScore == indexedTotalScore) {
+            return;
+        }
+
+        if (indexedTotalScore != NOT_INDEXED) {
+            removeFromBucket(matchesByTotalScore, indexedTotalScore);
+        }
+        if (totalScore != NOT_INDEXED) {
+            addToBucket(matchesByTotalScore, totalScore);
+        }
+        indexedTotalScore = totalScore;
+    }
+
+    // Buckets are changed under their own monitor, as the compute methods of a skip list map aren't atomic,
+    // so a match is never added to a bucket, which was just removed for being empty
+    private void removeFromBucket(ConcurrentNavigableMap<Long, Set<ConcurrentMatch>> matchesByTotalScore,
+                                  long totalScore) {
+        Set<ConcurrentMatch> bucket = matchesByTotalScore.get(totalScore);
+        synchronized (bucket) {
+            bucket.remove(this);
+            if (bucket.isEmpty()) {
+                matchesByTotalScore.remove(totalScore, bucket);
+            }
+        }
+    }
+
+    private void addToBucket(ConcurrentNavigableMap<Long, Set<ConcurrentMatch>> matchesByTotalScore,
+                             long totalScore) {
+        while (true) {
+            Set<ConcurrentMatch> bucket =
+                    matchesByTotalScore.computeIfAbsent(totalScore, key -> ConcurrentHashMap.newKeySet());
+            synchronized (bucket) {
+                // Retried with a new bucket, if this one was emptied and removed meanwhile
+                if (matchesByTotalScore.get(totalScore) == bucket) {
+                    bucket.add(this);
+                    return;
+                }
+            }
+        }
+    }
+
+    record Score(int homeScore, int awayScore, long version) {
+        // Two valid scores can add up to more than an int holds
+        long totalScore() {
+            return (long) homeScore + awayScore;
+        }
+    }
+}
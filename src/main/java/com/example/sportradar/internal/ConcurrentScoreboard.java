@@ -0,0 +1,438 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.Side;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.sportradar.internal.ScoreboardValidator.cleanTeamName;
+import static com.example.sportradar.internal.ScoreboardValidator.matchNotFound;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNameNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesAreEqual;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfRejected;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfScoreIsNegative;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSequenceIsNotPositive;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSideIsNull;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfTotalScoreIsNegative;
+
+/**
+ * Thread-safe {@link Scoreboard} implementation, which can be shared between any number of reading
+ * and writing threads without external synchronization.
+ * <p>
+ * Every team in a match is mapped to its match in a {@link ConcurrentHashMap}, so operations on
+ * different matches don't contend with each other. Starting a match claims both teams atomically
+ * with {@code putIfAbsent}, which makes the "team already in a match" check race-free. Scores are
+ * replaced as a whole with a single volatile write, and the summary is built from a weakly
+ * consistent view of the matches, so readers never block writers.
+ * <p>
+ * Every mutation increments the version of the scoreboard. The summary is published as an
+ * immutable snapshot tagged with the version it was built at. It's rebuilt by a reader, which finds
+ * it outdated, and only one reader rebuilds and publishes it at a time. The other readers of an
+ * outdated snapshot never wait for the rebuild, they build the summary for themselves without
+ * publishing it. All the reads of an up-to-date snapshot are just two volatile loads, without
+ * locking or allocation. Pages of the summary and the top matches are cut from the same snapshot,
+ * and are selected with a bounded heap only by the readers, which lose the race to rebuild it.
+ * <p>
+ * Live matches are also kept in buckets by their total score, moved after every change under the
+ * monitor of the match, so the matches above a total score are found without rebuilding the
+ * summary.
+ */
+public class ConcurrentScoreboard implements Scoreboard {
+    private static final Comparator<Entry> SUMMARY_ORDER = Comparator
+            .comparingLong((Entry entry) -> entry.score().totalScore()).reversed()
+            .thenComparing(Comparator.comparingLong((Entry entry) -> entry.match().getStartSequence()).reversed());
+
+    private final Map<String, ConcurrentMatch> matchesByTeam;
+    private final AtomicLong nextStartSequence;
+    private final AtomicLong version;
+    private final AtomicReference<SummarySnapshot> summarySnapshot;
+    // Set while a reader rebuilds the summary snapshot
+    private final AtomicBoolean rebuildingSummary;
+    private final ConcurrentNavigableMap<Long, Set<ConcurrentMatch>> matchesByTotalScore;
+    // Archive of the ended matches, null if they aren't archived
+    private final MatchArchive archive;
+
+    public ConcurrentScoreboard() {
+        this(null);
+    }
+
+    /**
+     * Creates a scoreboard, which adds the final result of every match it ends to the archive.
+     *
+     * @param archive the archive of the ended matches, null if they aren't archived
+     */
+    public ConcurrentScoreboard(MatchArchive archive) {
+        this.matchesByTeam = new ConcurrentHashMap<>();
+        this.nextStartSequence = new AtomicLong();
+        this.version = new AtomicLong();
+        this.summarySnapshot = new AtomicReference<>(new SummarySnapshot(0, List.of()));
+        this.rebuildingSummary = new AtomicBoolean();
+        this.matchesByTotalScore = new ConcurrentSkipListMap<>();
+        this.archive = archive;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryStartMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        throwIfNamesAreEqual(homeTeam, awayTeam);
+
+        // Rejects a team already in a match before allocating the new match
+        ConcurrentMatch existingMatch = matchesByTeam.get(homeTeam);
+        if (existingMatch != null) {
+            return conflictWith(existingMatch, homeTeam, awayTeam, MutationStatus.HOME_TEAM_IN_MATCH);
+        }
+        if (matchesByTeam.containsKey(awayTeam)) {
+            return MutationStatus.AWAY_TEAM_IN_MATCH;
+        }
+
+        ConcurrentMatch match = new ConcurrentMatch(
+                homeTeam, awayTeam, INITIAL_SCORE, INITIAL_SCORE, nextStartSequence.getAndIncrement()
+        );
+
+        // Teams are claimed in name order, so concurrent starts of the same teams in the opposite order
+        // can't each claim one team and both be rejected
+        boolean homeTeamFirst = homeTeam.compareTo(awayTeam) < 0;
+        String firstTeam = homeTeamFirst ? homeTeam : awayTeam;
+        String secondTeam = homeTeamFirst ? awayTeam : homeTeam;
+
+        existingMatch = matchesByTeam.putIfAbsent(firstTeam, match);
+        if (existingMatch != null) {
+            return conflictWith(existingMatch, homeTeam, awayTeam, teamInMatch(homeTeamFirst));
+        }
+
+        existingMatch = matchesByTeam.putIfAbsent(secondTeam, match);
+        if (existingMatch != null) {
+            // Release the first team. The match was never live, so reads never saw it, but a start of another
+            // match of the first team could have been rejected while it was claimed.
+            matchesByTeam.remove(firstTeam, match);
+            return conflictWith(existingMatch, homeTeam, awayTeam, teamInMatch(!homeTeamFirst));
+        }
+
+        match.publish();
+        match.reindex(matchesByTotalScore);
+        version.incrementAndGet();
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        ConcurrentMatch match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        match.updateScore(homeScore, awayScore);
+        match.reindex(matchesByTotalScore);
+        version.incrementAndGet();
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        return throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfSequenceIsNotPositive(sequence);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        ConcurrentMatch match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+        if (!match.updateScore(homeScore, awayScore, sequence)) {
+            return MutationStatus.STALE_UPDATE;
+        }
+
+        match.reindex(matchesByTotalScore);
+        version.incrementAndGet();
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfRejected(tryRecordGoal(homeTeam, awayTeam, side), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfSideIsNull(side);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        ConcurrentMatch match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        match.recordGoal(side);
+        match.reindex(matchesByTotalScore);
+        version.incrementAndGet();
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryEndMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        ConcurrentMatch match = findMatch(homeTeam, awayTeam);
+
+        // Another thread may have ended the same match in the meantime
+        if (match == null || !match.end()) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        matchesByTeam.remove(match.getHomeTeam(), match);
+        matchesByTeam.remove(match.getAwayTeam(), match);
+        match.reindex(matchesByTotalScore);
+        version.incrementAndGet();
+
+        if (archive != null) {
+            ConcurrentMatch.Score score = match.getScore();
+            archive.add(match.getHomeTeam(), match.getAwayTeam(), score.homeScore(), score.awayScore());
+        }
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        long currentVersion = version.get();
+        SummarySnapshot snapshot = summarySnapshot.get();
+        if (snapshot.version() >= currentVersion) {
+            return snapshot.summary();
+        }
+
+        // Readers, which lose the race to rebuild the snapshot, build the summary for themselves instead of waiting
+        if (!rebuildingSummary.compareAndSet(false, true)) {
+            return buildSummary();
+        }
+        return rebuildSummary();
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        ConcurrentMatch match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            throw matchNotFound(homeTeam, awayTeam);
+        }
+        return match.getScore().version();
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        return liveEntries().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.match().getStartSequence()))
+                .map(this::mapToMatchScore)
+                .toList();
+    }
+
+    // Pages, and the top matches read through them, are cut from the snapshot. The reader, which finds it outdated
+    // first, rebuilds it for the reads after it, only the readers losing that race select their page with a heap.
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        Scoreboard.throwIfPageIsInvalid(offset, limit);
+
+        long currentVersion = version.get();
+        SummarySnapshot snapshot = summarySnapshot.get();
+        if (snapshot.version() >= currentVersion) {
+            return pageOf(snapshot.summary(), offset, limit);
+        }
+
+        if (!rebuildingSummary.compareAndSet(false, true)) {
+            return selectPage(offset, limit);
+        }
+        return pageOf(rebuildSummary(), offset, limit);
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        throwIfNameNullOrBlank(team);
+
+        ConcurrentMatch match = matchesByTeam.get(cleanTeamName(team));
+        if (match == null || !match.isLive()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(mapToMatchScore(new Entry(match, match.getScore())));
+    }
+
+    // Weakly consistent like the summary, a match moving up between buckets during the read may be missed
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        throwIfTotalScoreIsNegative(minTotalScore);
+
+        Set<ConcurrentMatch> seen = new HashSet<>();
+        List<Entry> entries = new ArrayList<>();
+
+        for (Set<ConcurrentMatch> bucket : matchesByTotalScore.tailMap((long) minTotalScore).values()) {
+            for (ConcurrentMatch match : bucket) {
+                ConcurrentMatch.Score score = match.getScore();
+
+                if (match.isLive() && score.totalScore() >= minTotalScore && seen.add(match)) {
+                    entries.add(new Entry(match, score));
+                }
+            }
+        }
+
+        entries.sort(SUMMARY_ORDER);
+        return entries.stream()
+                .map(this::mapToMatchScore)
+                .toList();
+    }
+
+    private static List<MatchScore> pageOf(List<MatchScore> summary, int offset, int limit) {
+        int from = Math.min(offset, summary.size());
+        int to = (int) Math.min((long) from + limit, summary.size());
+        return List.copyOf(summary.subList(from, to));
+    }
+
+    // Keeps only the matches up to the end of the page in a bounded heap, the last match of the page on top
+    private List<MatchScore> selectPage(int offset, int limit) {
+        int pageEnd = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+        if (pageEnd == 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Entry> heap = new PriorityQueue<>(SUMMARY_ORDER.reversed());
+        for (Entry entry : liveEntries()) {
+            if (heap.size() < pageEnd) {
+                heap.add(entry);
+            } else if (SUMMARY_ORDER.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<Entry> page = new ArrayList<>(heap);
+        page.sort(SUMMARY_ORDER);
+
+        return page.subList(Math.min(offset, page.size()), page.size()).stream()
+                .map(this::mapToMatchScore)
+                .toList();
+    }
+
+    // Only one rebuild runs at a time, so the published versions only grow
+    private List<MatchScore> rebuildSummary() {
+        try {
+            // Version is read before the matches, so the snapshot contains at least all the changes up to it
+            long currentVersion = version.get();
+            SummarySnapshot snapshot = new SummarySnapshot(currentVersion, buildSummary());
+            summarySnapshot.set(snapshot);
+            return snapshot.summary();
+        } finally {
+            rebuildingSummary.set(false);
+        }
+    }
+
+    private List<MatchScore> buildSummary() {
+        return liveEntries().stream()
+                .sorted(SUMMARY_ORDER)
+                .map(this::mapToMatchScore)
+                .toList();
+    }
+
+    private List<Entry> liveEntries() {
+        List<Entry> entries = new ArrayList<>();
+
+        for (Map.Entry<String, ConcurrentMatch> mapEntry : matchesByTeam.entrySet()) {
+            ConcurrentMatch match = mapEntry.getValue();
+
+            // Every match is mapped by both of its teams, so take it only once
+            if (match.isLive() && mapEntry.getKey().equals(match.getHomeTeam())) {
+                entries.add(new Entry(match, match.getScore()));
+            }
+        }
+
+        return entries;
+    }
+
+    private ConcurrentMatch findMatch(String homeTeam, String awayTeam) {
+        ConcurrentMatch match = matchesByTeam.get(homeTeam);
+        return match != null && match.isLive() && match.isBetween(homeTeam, awayTeam) ? match : null;
+    }
+
+    private static MutationStatus teamInMatch(boolean homeTeam) {
+        return homeTeam ? MutationStatus.HOME_TEAM_IN_MATCH : MutationStatus.AWAY_TEAM_IN_MATCH;
+    }
+
+    private MutationStatus conflictWith(ConcurrentMatch existingMatch, String homeTeam, String awayTeam,
+                                        MutationStatus teamInMatch) {
+        return existingMatch.isBetween(homeTeam, awayTeam) ? MutationStatus.MATCH_ALREADY_EXISTS : teamInMatch;
+    }
+
+    private MatchScore mapToMatchScore(Entry entry) {
+        ConcurrentMatch match = entry.match();
+        return new MatchScore(
+                match.getHomeTeam(), match.getAwayTeam(), entry.score().homeScore(), entry.score().awayScore()
+        );
+    }
+
+    private record SummarySnapshot(long version, List<MatchScore> summary) {
+    }
+
+    // Score is read once per match, so the match is sorted and reported with the same score
+    private record Entry(ConcurrentMatch match, ConcurrentMatch.Score score) {
+    }
+}
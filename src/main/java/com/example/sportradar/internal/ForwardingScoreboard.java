@@ -0,0 +1,138 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.ScoreboardEvent;
+import com.example.sportradar.api.Side;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Flow;
+
+/**
+ * Base class of decorators of a {@link Scoreboard}, which forwards every method to the decorated
+ * scoreboard. Decorators override only the methods they add behaviour to, and keep the optimized
+ * implementations of all the other methods of the decorated scoreboard.
+ */
+public abstract class ForwardingScoreboard implements Scoreboard {
+    private final Scoreboard delegate;
+
+    protected ForwardingScoreboard(Scoreboard delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Scoreboard cannot be null");
+    }
+
+    protected Scoreboard delegate() {
+        return delegate;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        delegate.startMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        delegate.endMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return delegate.tryStartMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return delegate.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        return delegate.tryEndMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        delegate.recordGoal(homeTeam, awayTeam, side);
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        return delegate.tryRecordGoal(homeTeam, awayTeam, side);
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        return delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        return delegate.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        return delegate.getMatchSummary();
+    }
+
+    @Override
+    public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        delegate.forEachInSummaryOrder(visitor);
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        return delegate.getMatchesInStartOrder();
+    }
+
+    @Override
+    public List<MatchScore> getTopMatches(int count) {
+        return delegate.getTopMatches(count);
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        return delegate.getMatchSummary(offset, limit);
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        return delegate.findMatchByTeam(team);
+    }
+
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        return delegate.getMatchesWithTotalScoreAtLeast(minTotalScore);
+    }
+
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        return delegate.getMatchVersion(homeTeam, awayTeam);
+    }
+
+    @Override
+    public Flow.Publisher<ScoreboardEvent> events() {
+        return delegate.events();
+    }
+
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        return delegate.applyBatch(commands);
+    }
+}
@@ -1,24 +1,104 @@
 package com.example.sportradar.internal;
 
+import com.example.sportradar.api.BatchResult;
 import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.MutationStatus;
 import com.example.sportradar.api.Scoreboard;
-import com.example.sportradar.api.exceptions.DuplicateTeamNamesException;
-import com.example.sportradar.api.exceptions.MatchAlreadyExistsException;
-import com.example.sportradar.api.exceptions.MatchNotFoundException;
-import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.ScoreboardEvent;
+import com.example.sportradar.api.Side;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-
-public class InMemoryScoreboard implements Scoreboard {
-    private final List<Match> matches;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.sportradar.internal.ScoreboardValidator.cleanTeamName;
+import static com.example.sportradar.internal.ScoreboardValidator.matchNotFound;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNameNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesAreEqual;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfRejected;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfScoreIsNegative;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSequenceIsNotPositive;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSideIsNull;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfTotalScoreIsNegative;
+
+public final class InMemoryScoreboard implements Scoreboard {
+    // Iterated in the order the matches were started
+    private final Set<Match> matchesInStartOrder;
+    private final Map<String, Match> matchesByTeam;
+    // Kept in summary order, so reading the summary doesn't need sorting
+    private final NavigableSet<Match> summaryOrder;
+    // Matches changed during a batch, which are put back in the summary order when the batch ends
+    private final Set<Match> matchesOutOfOrder;
+    private final ScoreboardEventPublisher events;
+    // Archive of the ended matches, null if they aren't archived
+    private final MatchArchive archive;
+    private boolean inBatch;
+    // Summary is built once and reused until the next change, null when it needs to be rebuilt
+    private List<MatchScore> summary;
+    // Version of the scoreboard, incremented with every change together with clearing the summary
+    private long changeCount;
+    private long nextStartSequence;
 
     public InMemoryScoreboard() {
-        this.matches = new ArrayList<>();
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a scoreboard, which delivers its events to subscribers on the given executor.
+     *
+     * @param eventExecutor the executor used to deliver the events published by {@link #events()}
+     */
+    public InMemoryScoreboard(Executor eventExecutor) {
+        this(eventExecutor, null);
+    }
+
+    /**
+     * Creates a scoreboard, which adds the final result of every match it ends to the archive.
+     *
+     * @param archive the archive of the ended matches, null if they aren't archived
+     */
+    public InMemoryScoreboard(MatchArchive archive) {
+        this(ForkJoinPool.commonPool(), archive);
+    }
+
+    /**
+     * Creates a scoreboard, which delivers its events to subscribers on the given executor and adds
+     * the final result of every match it ends to the archive.
+     *
+     * @param eventExecutor the executor used to deliver the events published by {@link #events()}
+     * @param archive the archive of the ended matches, null if they aren't archived
+     */
+    public InMemoryScoreboard(Executor eventExecutor, MatchArchive archive) {
+        Objects.requireNonNull(eventExecutor, "Event executor cannot be null");
+
+        this.matchesInStartOrder = new LinkedHashSet<>();
+        this.matchesByTeam = new HashMap<>();
+        this.summaryOrder = new TreeSet<>(Match.SUMMARY_ORDER);
+        this.matchesOutOfOrder = new HashSet<>();
+        this.events = new ScoreboardEventPublisher(eventExecutor, Flow.defaultBufferSize(), this::getMatchSummary);
+        this.archive = archive;
     }
 
     @Override
     public void startMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryStartMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
         throwIfNamesNullOrBlank(homeTeam, awayTeam);
 
         homeTeam = cleanTeamName(homeTeam);
@@ -26,138 +106,314 @@ public class InMemoryScoreboard implements Scoreboard {
 
         throwIfNamesAreEqual(homeTeam, awayTeam);
 
-        for (Match match : matches) {
-            throwIfMatchEqual(match, homeTeam, awayTeam);
-            throwIfTeamInAMatch(match, homeTeam);
-            throwIfTeamInAMatch(match, awayTeam);
+        Match homeTeamMatch = matchesByTeam.get(homeTeam);
+        if (homeTeamMatch != null) {
+            return homeTeamMatch.isBetween(homeTeam, awayTeam)
+                    ? MutationStatus.MATCH_ALREADY_EXISTS
+                    : MutationStatus.HOME_TEAM_IN_MATCH;
+        }
+        if (matchesByTeam.containsKey(awayTeam)) {
+            return MutationStatus.AWAY_TEAM_IN_MATCH;
+        }
+
+        Match match = new Match(homeTeam, awayTeam, INITIAL_SCORE, INITIAL_SCORE, nextStartSequence++);
+        matchesInStartOrder.add(match);
+        matchesByTeam.put(homeTeam, match);
+        matchesByTeam.put(awayTeam, match);
+        addToSummaryOrder(match);
+        summary = null;
+        changeCount++;
+
+        if (publishesEvents()) {
+            Match next = summaryOrder.higher(match);
+            events.publish(new ScoreboardEvent.MatchStarted(
+                    homeTeam, awayTeam, next == null ? null : next.getHomeTeam(), next == null ? null : next.getAwayTeam()
+            ));
         }
 
-        matches.add(new Match(homeTeam, awayTeam, INITIAL_SCORE, INITIAL_SCORE));
+        return MutationStatus.APPLIED;
     }
 
     @Override
     public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
         throwIfScoreIsNegative(homeScore, awayScore);
         throwIfNamesNullOrBlank(homeTeam, awayTeam);
 
         homeTeam = cleanTeamName(homeTeam);
         awayTeam = cleanTeamName(awayTeam);
 
-        for (Match match : matches) {
-            if (isMatchEqual(match, homeTeam, awayTeam)) {
-                match.updateScore(homeScore, awayScore);
-                return;
-            }
+        Match match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
         }
 
-        throw new MatchNotFoundException(
-                String.format("Match does not exist for teams: %s vs %s", homeTeam, awayTeam)
-        );
+        changeScore(match, homeScore, awayScore, match.getVersion());
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        return throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfSequenceIsNotPositive(sequence);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Match match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+        if (sequence <= match.getVersion()) {
+            return MutationStatus.STALE_UPDATE;
+        }
+
+        changeScore(match, homeScore, awayScore, sequence);
+        return MutationStatus.APPLIED;
     }
 
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfRejected(tryRecordGoal(homeTeam, awayTeam, side), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfSideIsNull(side);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Match match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        int homeGoals = side == Side.HOME ? 1 : 0;
+        changeScore(match, match.getHomeScore() + homeGoals, match.getAwayScore() + 1 - homeGoals, match.getVersion());
+        return MutationStatus.APPLIED;
+    }
 
     @Override
     public void endMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryEndMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
         throwIfNamesNullOrBlank(homeTeam, awayTeam);
 
         homeTeam = cleanTeamName(homeTeam);
         awayTeam = cleanTeamName(awayTeam);
 
-        for (Match match : matches) {
-            if (isMatchEqual(match, homeTeam, awayTeam)) {
-                matches.remove(match);
-                return;
-            }
+        Match match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
         }
 
-        throw new MatchNotFoundException(
-                String.format("Match does not exist for teams: %s vs %s", homeTeam, awayTeam)
-        );
+        matchesInStartOrder.remove(match);
+        matchesByTeam.remove(match.getHomeTeam());
+        matchesByTeam.remove(match.getAwayTeam());
+        removeFromSummaryOrder(match);
+        matchesOutOfOrder.remove(match);
+        summary = null;
+        changeCount++;
+
+        if (archive != null) {
+            archive.add(match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(), match.getAwayScore());
+        }
+        if (publishesEvents()) {
+            events.publish(new ScoreboardEvent.MatchEnded(
+                    match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(), match.getAwayScore()
+            ));
+        }
+
+        return MutationStatus.APPLIED;
     }
 
     @Override
     public List<MatchScore> getMatchSummary() {
-        return matches.stream()
-                .sorted(this::compareMatches)
+        if (summary == null) {
+            summary = summaryOrder.stream()
+                    .map(this::mapToMatchScore)
+                    .toList();
+        }
+
+        return summary;
+    }
+
+    // Walks the ordered index, so only the callers of getMatchSummary() pay for the records
+    @Override
+    public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        Objects.requireNonNull(visitor, "Visitor cannot be null");
+
+        for (Match match : summaryOrder) {
+            visitor.visit(match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(), match.getAwayScore());
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return changeCount;
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Match match = findMatch(homeTeam, awayTeam);
+        if (match == null) {
+            throw matchNotFound(homeTeam, awayTeam);
+        }
+        return match.getVersion();
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        return matchesInStartOrder.stream()
                 .map(this::mapToMatchScore)
                 .toList();
     }
 
-    private int compareMatches(Match match1, Match match2) {
-        // Compare by total score first
-        int scoreComparison = compareByTotalScore(match1, match2);
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        Scoreboard.throwIfPageIsInvalid(offset, limit);
 
-        // If scores not equal, use the total score for sorting
-        if (scoreComparison != 0) {
-            return scoreComparison;
+        if (summary != null) {
+            int from = Math.min(offset, summary.size());
+            int to = (int) Math.min((long) from + limit, summary.size());
+            return List.copyOf(summary.subList(from, to));
         }
 
-        // If scores are equal, sort by inverse of order of insertion
-        return Integer.compare(matches.indexOf(match2), matches.indexOf(match1));
+        // Walk only the beginning of the ordered index instead of building the whole summary
+        return summaryOrder.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(this::mapToMatchScore)
+                .toList();
     }
 
-    private int compareByTotalScore(Match match1, Match match2) {
-        return Integer.compare(
-                (match2.getHomeScore() + match2.getAwayScore()),
-                (match1.getHomeScore() + match1.getAwayScore())
-        );
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        throwIfNameNullOrBlank(team);
+
+        Match match = matchesByTeam.get(cleanTeamName(team));
+        return match == null ? Optional.empty() : Optional.of(mapToMatchScore(match));
     }
 
-    private MatchScore mapToMatchScore(Match match) {
-        return new MatchScore(match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(), match.getAwayScore());
+    // The ordered index is ordered by total score first, so the matches are its head up to the first lower total
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        throwIfTotalScoreIsNegative(minTotalScore);
+
+        // Sorts after every match with the same total score, start sequences are never negative
+        Match bound = new Match("", "", minTotalScore, 0, -1);
+
+        return summaryOrder.headSet(bound, false).stream()
+                .map(this::mapToMatchScore)
+                .toList();
     }
 
-    private String cleanTeamName(String teamName) {
-        return teamName.trim();
+    @Override
+    public Flow.Publisher<ScoreboardEvent> events() {
+        return events;
     }
 
-    private void throwIfScoreIsNegative(int homeScore, int awayScore) {
-        if (homeScore < 0 || awayScore < 0) {
-            throw new IllegalArgumentException("Scores cannot be negative");
+    // Matches changed by the batch are ordered once at the end, instead of after every command.
+    // The batch is published as a single reset, as the place of a match isn't known until the end.
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        long changeCountBefore = changeCount;
+        inBatch = true;
+
+        try {
+            return Scoreboard.super.applyBatch(commands);
+        } finally {
+            inBatch = false;
+            summaryOrder.addAll(matchesOutOfOrder);
+            matchesOutOfOrder.clear();
+
+            if (changeCount != changeCountBefore && events.hasSubscribers()) {
+                events.publish(new ScoreboardEvent.SummaryReset(getMatchSummary()));
+            }
         }
     }
 
-    private void throwIfNamesNullOrBlank(String homeTeam, String awayTeam) {
-        if (homeTeam == null || awayTeam == null) {
-            throw new IllegalArgumentException("Team names cannot be null");
-        }
+    private void changeScore(Match match, int homeScore, int awayScore, long version) {
+        boolean publishEvents = publishesEvents();
+        Match nextBefore = publishEvents ? summaryOrder.higher(match) : null;
 
-        if (homeTeam.isBlank() || awayTeam.isBlank()) {
-            throw new IllegalArgumentException("Team names cannot be empty");
-        }
-    }
+        // The position in the summary depends on the score, so the match is re-inserted after the update
+        removeFromSummaryOrder(match);
+        match.updateScore(homeScore, awayScore, version);
+        addToSummaryOrder(match);
+        summary = null;
+        changeCount++;
 
-    private void throwIfNamesAreEqual(String homeTeam, String awayTeam) {
-        if (homeTeam.equals(awayTeam)) {
-            throw new DuplicateTeamNamesException("Home and away team names cannot be the same");
+        if (publishEvents) {
+            publishScoreChanged(match, nextBefore);
         }
     }
 
-    // Treat the match as equal if the teams are the same, regardless of order
-    private boolean isMatchEqual(Match existingMatch, String homeTeam, String awayTeam) {
-        return existingMatch.getHomeTeam().equals(homeTeam) && existingMatch.getAwayTeam().equals(awayTeam) ||
-                existingMatch.getHomeTeam().equals(awayTeam) && existingMatch.getAwayTeam().equals(homeTeam);
+    // Changes of a batch are published together after it
+    private boolean publishesEvents() {
+        return !inBatch && events.hasSubscribers();
     }
 
-    private void throwIfMatchEqual(Match existingMatch, String homeTeam, String awayTeam) {
-        if (isMatchEqual(existingMatch, homeTeam, awayTeam)) {
-            throw new MatchAlreadyExistsException(
-                    String.format("Match already exists for teams: %s vs %s", homeTeam, awayTeam)
-            );
+    private void addToSummaryOrder(Match match) {
+        if (inBatch) {
+            matchesOutOfOrder.add(match);
+        } else {
+            summaryOrder.add(match);
         }
     }
 
-    private void throwIfTeamInAMatch(Match existingMatch, String team) {
-        if (existingMatch.getHomeTeam().equals(team)) {
-            throw new TeamAlreadyInMatchException(
-                    String.format("Team %s is already in a match", team)
-            );
+    private void removeFromSummaryOrder(Match match) {
+        // Match taken out of the order earlier in the batch isn't in the summary order anymore
+        if (!matchesOutOfOrder.contains(match)) {
+            summaryOrder.remove(match);
         }
+    }
+
+    // A match followed by the same match as before hasn't moved, which is found without counting the matches
+    private void publishScoreChanged(Match match, Match nextBefore) {
+        ScoreboardEvent scoreChanged = new ScoreboardEvent.ScoreChanged(
+                match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(), match.getAwayScore()
+        );
 
-        if (existingMatch.getAwayTeam().equals(team)) {
-            throw new TeamAlreadyInMatchException(
-                    String.format("Team %s is already in a match", team)
-            );
+        Match next = summaryOrder.higher(match);
+        if (next == nextBefore) {
+            events.publish(scoreChanged);
+        } else {
+            events.publish(scoreChanged, new ScoreboardEvent.MatchMoved(
+                    match.getHomeTeam(), match.getAwayTeam(),
+                    next == null ? null : next.getHomeTeam(), next == null ? null : next.getAwayTeam()
+            ));
         }
     }
+
+    // Looked up by a single team, so a match is found without allocating a key for the pair of teams
+    private Match findMatch(String homeTeam, String awayTeam) {
+        Match match = matchesByTeam.get(homeTeam);
+        return match != null && match.isBetween(homeTeam, awayTeam) ? match : null;
+    }
+
+    private MatchScore mapToMatchScore(Match match) {
+        return new MatchScore(match.getHomeTeam(), match.getAwayTeam(), match.getHomeScore(), match.getAwayScore());
+    }
 }
@@ -1,16 +1,26 @@
 package com.example.sportradar.internal;
 
+import java.util.Comparator;
+
 class Match {
+    // Orders matches by total score descending, then by the most recently started match
+    static final Comparator<Match> SUMMARY_ORDER = Comparator
+            .comparingLong(Match::getTotalScore).reversed()
+            .thenComparing(Comparator.comparingLong(Match::getStartSequence).reversed());
+
     private final String homeTeam;
     private final String awayTeam;
+    private final long startSequence;
     private int homeScore;
     private int awayScore;
+    private long version;
 
-    Match(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+    Match(String homeTeam, String awayTeam, int homeScore, int awayScore, long startSequence) {
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
         this.homeScore = homeScore;
         this.awayScore = awayScore;
+        this.startSequence = startSequence;
     }
 
     String getHomeTeam() {
@@ -29,8 +39,28 @@ class Match {
         return awayScore;
     }
 
-    void updateScore(int homeScore, int awayScore) {
+    // Two valid scores can add up to more than an int holds
+    long getTotalScore() {
+        return (long) homeScore + awayScore;
+    }
+
+    long getStartSequence() {
+        return startSequence;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    // Treat the match as the same if the teams are the same, regardless of order
+    boolean isBetween(String homeTeam, String awayTeam) {
+        return this.homeTeam.equals(homeTeam) && this.awayTeam.equals(awayTeam) ||
+                this.homeTeam.equals(awayTeam) && this.awayTeam.equals(homeTeam);
+    }
+
+    void updateScore(int homeScore, int awayScore, long version) {
         this.homeScore = homeScore;
         this.awayScore = awayScore;
+        this.version = version;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,171 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.sportradar.internal.ScoreboardValidator.cleanTeamName;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNameNullOrBlank;
+
+/**
+ * Bounded archive of the final results of ended matches, which answers the recent results of a
+ * team. A scoreboard created with an archive, {@link InMemoryScoreboard} or
+ * {@link ConcurrentScoreboard}, adds every match it ends.
+ * <p>
+ * Results are packed into parallel primitive arrays used as a ring, {@link #BYTES_PER_RESULT}
+ * bytes per result with no object per result, and the archive holds at most the number of results,
+ * which fit into the memory bound it's created with. When it's full, the oldest result is
+ * overwritten by the new one. Every result links to the previous results of both of its teams, so
+ * the recent results of a team are found by following the links from its latest result, without
+ * scanning the archive. Team names are interned once and aren't counted in the bound.
+ * <p>
+ * Thread-safe, every method holds the monitor of the archive for the few array reads or writes
+ * it takes.
+ */
+public class MatchArchive {
+    /**
+     * Memory taken by a single result: the ids of the teams, the scores and the links to the
+     * previous results of both teams.
+     */
+    public static final int BYTES_PER_RESULT = 4 * Integer.BYTES + 2 * Long.BYTES;
+
+    private static final long NO_RESULT = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final TeamSymbolTable teams;
+    private final int capacity;
+    // Arrays grow up to the capacity, so a large bound doesn't take its memory up front
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private int[] homeScores;
+    private int[] awayScores;
+    // Sequence of the previous result of the home and the away team of every result
+    private long[] previousOfHomeTeam;
+    private long[] previousOfAwayTeam;
+    // Sequence of the latest result of every team by its id, NO_RESULT if the team has none
+    private long[] latestByTeamId;
+    private long nextSequence;
+
+    /**
+     * @param maxBytes the memory bound of the results, the archive holds
+     * {@code maxBytes / BYTES_PER_RESULT} of them
+     * @throws IllegalArgumentException if the bound is too small to hold a single result
+     */
+    public MatchArchive(long maxBytes) {
+        if (maxBytes < BYTES_PER_RESULT) {
+            throw new IllegalArgumentException("Archive must hold at least one result of " + BYTES_PER_RESULT + " bytes");
+        }
+
+        this.teams = new TeamSymbolTable();
+        this.capacity = (int) Math.min(maxBytes / BYTES_PER_RESULT, Integer.MAX_VALUE - 8);
+        this.latestByTeamId = new long[0];
+        allocate(Math.min(capacity, INITIAL_CAPACITY));
+    }
+
+    /**
+     * Retrieves the latest results of the team, as home or away team.
+     *
+     * @param team the name of the team, whitespaces are removed before processing
+     * @param limit the maximum number of results to return
+     * @return the final scores of at most {@code limit} latest matches of the team, the latest
+     * first, empty if the archive doesn't hold any match of the team
+     * @throws IllegalArgumentException if the team name is null or blank, or the limit is negative
+     */
+    public synchronized List<MatchScore> getRecentResults(String team, int limit) {
+        throwIfNameNullOrBlank(team);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        int teamId = teams.idOf(cleanTeamName(team));
+        if (teamId == TeamSymbolTable.NO_TEAM || limit == 0) {
+            return List.of();
+        }
+
+        List<MatchScore> results = new ArrayList<>(Math.min(limit, INITIAL_CAPACITY));
+        long sequence = latestByTeamId[teamId];
+
+        while (results.size() < limit && isHeld(sequence)) {
+            int slot = slotOf(sequence);
+            results.add(new MatchScore(
+                    teams.nameOf(homeTeamIds[slot]), teams.nameOf(awayTeamIds[slot]), homeScores[slot], awayScores[slot]
+            ));
+            sequence = homeTeamIds[slot] == teamId ? previousOfHomeTeam[slot] : previousOfAwayTeam[slot];
+        }
+
+        return List.copyOf(results);
+    }
+
+    /**
+     * @return the number of results held, at most {@link #capacity()}
+     */
+    public synchronized int size() {
+        return (int) Math.min(nextSequence, capacity);
+    }
+
+    /**
+     * @return the maximum number of results held, derived from the memory bound
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Adds the final result of an ended match, overwriting the oldest result when the archive is
+     * full. Team names are expected to be cleaned by the scoreboard.
+     */
+    synchronized void add(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        int homeTeamId = teams.intern(homeTeam);
+        int awayTeamId = teams.intern(awayTeam);
+        if (latestByTeamId.length < teams.size()) {
+            int oldLength = latestByTeamId.length;
+            latestByTeamId = Arrays.copyOf(latestByTeamId, Math.max(teams.size(), oldLength * 2));
+            Arrays.fill(latestByTeamId, oldLength, latestByTeamId.length, NO_RESULT);
+        }
+
+        long sequence = nextSequence++;
+        int slot = slotOf(sequence);
+        if (slot == homeTeamIds.length) {
+            allocate(Math.min(capacity, homeTeamIds.length * 2));
+        }
+
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = homeScore;
+        awayScores[slot] = awayScore;
+        previousOfHomeTeam[slot] = latestByTeamId[homeTeamId];
+        previousOfAwayTeam[slot] = latestByTeamId[awayTeamId];
+        latestByTeamId[homeTeamId] = sequence;
+        latestByTeamId[awayTeamId] = sequence;
+    }
+
+    // A result is held until it's overwritten by the result a full ring later
+    private boolean isHeld(long sequence) {
+        return sequence != NO_RESULT && sequence >= nextSequence - capacity;
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private void allocate(int length) {
+        if (homeTeamIds == null) {
+            homeTeamIds = new int[length];
+            awayTeamIds = new int[length];
+            homeScores = new int[length];
+            awayScores = new int[length];
+            previousOfHomeTeam = new long[length];
+            previousOfAwayTeam = new long[length];
+            return;
+        }
+
+        homeTeamIds = Arrays.copyOf(homeTeamIds, length);
+        awayTeamIds = Arrays.copyOf(awayTeamIds, length);
+        homeScores = Arrays.copyOf(homeScores, length);
+        awayScores = Arrays.copyOf(awayScores, length);
+        previousOfHomeTeam = Arrays.copyOf(previousOfHomeTeam, length);
+        previousOfAwayTeam = Arrays.copyOf(previousOfAwayTeam, length);
+    }
+}
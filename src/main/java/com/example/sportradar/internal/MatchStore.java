@@ -0,0 +1,53 @@
+package com.example.sportradar.internal;
+
+/**
+ * Storage of matches as fixed-width records of primitive fields, identified by their slot. Slots
+ * of released matches are reused by the next allocated matches. Used by {@link ColumnarScoreboard},
+ * which keeps the mapping from teams to slots.
+ */
+interface MatchStore {
+    int NO_SLOT = -1;
+
+    int allocate(int homeTeamId, int awayTeamId, int homeScore, int awayScore, long startSequence);
+
+    void release(int slot);
+
+    boolean isInUse(int slot);
+
+    int getHomeTeamId(int slot);
+
+    int getAwayTeamId(int slot);
+
+    int getHomeScore(int slot);
+
+    int getAwayScore(int slot);
+
+    long getStartSequence(int slot);
+
+    long getVersion(int slot);
+
+    void updateScore(int slot, int homeScore, int awayScore, long version);
+
+    /**
+     * @return the number of matches in the store
+     */
+    int size();
+
+    /**
+     * @return the upper bound of the slots in use, for iterating over them with {@link #isInUse}
+     */
+    int slotLimit();
+
+    // Two valid scores can add up to more than an int holds
+    default long getTotalScore(int slot) {
+        return (long) getHomeScore(slot) + getAwayScore(slot);
+    }
+
+    // Treat the match as the same if the teams are the same, regardless of order
+    default boolean isBetween(int slot, int teamId, int otherTeamId) {
+        int homeTeamId = getHomeTeamId(slot);
+        int awayTeamId = getAwayTeamId(slot);
+        return homeTeamId == teamId && awayTeamId == otherTeamId ||
+                homeTeamId == otherTeamId && awayTeamId == teamId;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.sportradar.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Stores matches as fixed-width records in a direct {@link ByteBuffer}, outside the Java heap, so
+ * the number of matches doesn't add to the work of the garbage collector. A record is 32 bytes: the
+ * team ids and the scores as four ints, then the start sequence and the version as two longs. Free
+ * slots are linked through the records themselves, so apart from the buffer object itself the store
+ * keeps nothing per match on the heap.
+ */
+final class OffHeapMatchStore implements MatchStore {
+    private static final int HOME_TEAM_ID_OFFSET = 0;
+    private static final int AWAY_TEAM_ID_OFFSET = 4;
+    private static final int HOME_SCORE_OFFSET = 8;
+    private static final int AWAY_SCORE_OFFSET = 12;
+    private static final int START_SEQUENCE_OFFSET = 16;
+    private static final int VERSION_OFFSET = 24;
+    private static final int RECORD_SIZE = 32;
+    // Free record is marked by the home team id, and holds the next free slot in place of the away team id
+    private static final int NEXT_FREE_SLOT_OFFSET = AWAY_TEAM_ID_OFFSET;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private ByteBuffer records;
+    private int firstFreeSlot;
+    // Slots below are either in use or free, slots above were never used
+    private int highestSlot;
+    private int size;
+
+    OffHeapMatchStore() {
+        this.records = allocateRecords(INITIAL_CAPACITY);
+        this.firstFreeSlot = NO_SLOT;
+    }
+
+    @Override
+    public int allocate(int homeTeamId, int awayTeamId, int homeScore, int awayScore, long startSequence) {
+        int slot;
+        if (firstFreeSlot != NO_SLOT) {
+            slot = firstFreeSlot;
+            firstFreeSlot = records.getInt(offset(slot, NEXT_FREE_SLOT_OFFSET));
+        } else {
+            slot = nextUnusedSlot();
+        }
+
+        records.putInt(offset(slot, HOME_TEAM_ID_OFFSET), homeTeamId);
+        records.putInt(offset(slot, AWAY_TEAM_ID_OFFSET), awayTeamId);
+        records.putInt(offset(slot, HOME_SCORE_OFFSET), homeScore);
+        records.putInt(offset(slot, AWAY_SCORE_OFFSET), awayScore);
+        records.putLong(offset(slot, START_SEQUENCE_OFFSET), startSequence);
+        records.putLong(offset(slot, VERSION_OFFSET), 0);
+        size++;
+        return slot;
+    }
+
+    @Override
+    public void release(int slot) {
+        records.putInt(offset(slot, HOME_TEAM_ID_OFFSET), TeamSymbolTable.NO_TEAM);
+        records.putInt(offset(slot, NEXT_FREE_SLOT_OFFSET), firstFreeSlot);
+        firstFreeSlot = slot;
+        size--;
+    }
+
+    @Override
+    public boolean isInUse(int slot) {
+        return getHomeTeamId(slot) != TeamSymbolTable.NO_TEAM;
+    }
+
+    @Override
+    public int getHomeTeamId(int slot) {
+        return records.getInt(offset(slot, HOME_TEAM_ID_OFFSET));
+    }
+
+    @Override
+    public int getAwayTeamId(int slot) {
+        return records.getInt(offset(slot, AWAY_TEAM_ID_OFFSET));
+    }
+
+    @Override
+    public int getHomeScore(int slot) {
+        return records.getInt(offset(slot, HOME_SCORE_OFFSET));
+    }
+
+    @Override
+    public int getAwayScore(int slot) {
+        return records.getInt(offset(slot, AWAY_SCORE_OFFSET));
+    }
+
+    @Override
+    public long getStartSequence(int slot) {
+        return records.getLong(offset(slot, START_SEQUENCE_OFFSET));
+    }
+
+    @Override
+    public long getVersion(int slot) {
+        return records.getLong(offset(slot, VERSION_OFFSET));
+    }
+
+    @Override
+    public void updateScore(int slot, int homeScore, int awayScore, long version) {
+        records.putInt(offset(slot, HOME_SCORE_OFFSET), homeScore);
+        records.putInt(offset(slot, AWAY_SCORE_OFFSET), awayScore);
+        records.putLong(offset(slot, VERSION_OFFSET), version);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int slotLimit() {
+        return highestSlot;
+    }
+
+    private int nextUnusedSlot() {
+        if (highestSlot == records.capacity() / RECORD_SIZE) {
+            // Old buffer is freed by its cleaner once it's garbage collected
+            ByteBuffer grownRecords = allocateRecords(highestSlot * 2);
+            grownRecords.put(records.clear());
+            records = grownRecords;
+        }
+
+        return highestSlot++;
+    }
+
+    private static ByteBuffer allocateRecords(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+    }
+
+    private static int offset(int slot, int fieldOffset) {
+        return slot * RECORD_SIZE + fieldOffset;
+    }
+}
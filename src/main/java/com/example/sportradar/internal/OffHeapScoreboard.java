@@ -0,0 +1,18 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.Scoreboard;
+
+/**
+ * {@link Scoreboard} implementation keeping matches in fixed-width records outside the Java heap,
+ * in an {@link OffHeapMatchStore}. Only the records themselves, the team ids, scores, versions
+ * and start sequences of the matches, are off the heap. The heap still grows with the number of
+ * matches: the team names, the index from teams to records and the {@link TotalScoreIndex} of the
+ * inherited {@link ColumnarScoreboard} take a few {@code int}s per record, and the summary, once
+ * read, is cached as a {@code MatchScore} per match until the next change. Not thread-safe.
+ */
+public class OffHeapScoreboard extends ColumnarScoreboard {
+
+    public OffHeapScoreboard() {
+        super(new OffHeapMatchStore());
+    }
+}
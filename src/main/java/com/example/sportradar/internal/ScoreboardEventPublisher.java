@@ -0,0 +1,155 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.ScoreboardEvent;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publisher of the events of a scoreboard. Every subscriber has its own bounded queue of events,
+ * delivered on the given executor as the subscriber requests them. When the queue of a subscriber
+ * is full, its pending events are conflated into a single {@link ScoreboardEvent.SummaryReset}
+ * with the current summary, so the scoreboard never waits for slow subscribers and never buffers
+ * without limit.
+ */
+class ScoreboardEventPublisher implements Flow.Publisher<ScoreboardEvent> {
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final Supplier<List<MatchScore>> summarySupplier;
+    private final List<EventSubscription> subscriptions;
+
+    ScoreboardEventPublisher(Executor executor, int bufferCapacity, Supplier<List<MatchScore>> summarySupplier) {
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+        this.summarySupplier = summarySupplier;
+        this.subscriptions = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+
+        EventSubscription subscription = new EventSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscription.signal();
+    }
+
+    // Lets the scoreboard skip preparing events, which nobody would receive
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    // Events of a single change are queued together, so a conflated summary never has some of them queued after it
+    void publish(ScoreboardEvent... changeEvents) {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(changeEvents);
+        }
+    }
+
+    private class EventSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ScoreboardEvent> subscriber;
+        private final Queue<ScoreboardEvent> events;
+        private final AtomicLong demand;
+        // Number of signals to process, only the thread incrementing it from zero runs the delivery
+        private final AtomicInteger pendingSignals;
+        private boolean subscribed;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        EventSubscription(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+            this.subscriber = subscriber;
+            this.events = new ArrayDeque<>();
+            this.demand = new AtomicLong();
+            this.pendingSignals = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Number of requested events must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, requested) -> {
+                    long sum = current + requested;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void offer(ScoreboardEvent[] changeEvents) {
+            synchronized (events) {
+                if (events.size() + changeEvents.length > bufferCapacity) {
+                    // Subscriber can't keep up, replace everything it hasn't received with the current state,
+                    // which already includes the whole change
+                    events.clear();
+                    events.add(new ScoreboardEvent.SummaryReset(summarySupplier.get()));
+                } else {
+                    events.addAll(Arrays.asList(changeEvents));
+                }
+            }
+            signal();
+        }
+
+        void signal() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            int signals = 1;
+
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+
+                deliverRequestedEvents();
+                signals = pendingSignals.addAndGet(-signals);
+            } while (signals != 0);
+        }
+
+        private void deliverRequestedEvents() {
+            while (!cancelled) {
+                if (error != null) {
+                    cancel();
+                    subscriber.onError(error);
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ScoreboardEvent event;
+                synchronized (events) {
+                    event = events.poll();
+                }
+
+                if (event == null) {
+                    return;
+                }
+
+                demand.decrementAndGet();
+                subscriber.onNext(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.api.exceptions.DuplicateTeamNamesException;
+import com.example.sportradar.api.exceptions.MatchAlreadyExistsException;
+import com.example.sportradar.api.exceptions.MatchNotFoundException;
+import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
+
+/**
+ * Validation and error reporting shared by the scoreboard implementations, so that all of them
+ * reject invalid input in the same way and with the same messages.
+ */
+final class ScoreboardValidator {
+
+    private ScoreboardValidator() {
+    }
+
+    static String cleanTeamName(String teamName) {
+        return teamName.trim();
+    }
+
+    static void throwIfScoreIsNegative(int homeScore, int awayScore) {
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative");
+        }
+    }
+
+    static void throwIfTotalScoreIsNegative(int totalScore) {
+        if (totalScore < 0) {
+            throw new IllegalArgumentException("Total score cannot be negative");
+        }
+    }
+
+    static void throwIfSequenceIsNotPositive(long sequence) {
+        if (sequence <= 0) {
+            throw new IllegalArgumentException("Sequence must be positive");
+        }
+    }
+
+    static void throwIfSideIsNull(Side side) {
+        if (side == null) {
+            throw new IllegalArgumentException("Side cannot be null");
+        }
+    }
+
+    static void throwIfNamesNullOrBlank(String homeTeam, String awayTeam) {
+        if (homeTeam == null || awayTeam == null) {
+            throw new IllegalArgumentException("Team names cannot be null");
+        }
+
+        if (homeTeam.isBlank() || awayTeam.isBlank()) {
+            throw new IllegalArgumentException("Team names cannot be empty");
+        }
+    }
+
+    static void throwIfNameNullOrBlank(String teamName) {
+        if (teamName == null) {
+            throw new IllegalArgumentException("Team name cannot be null");
+        }
+
+        if (teamName.isBlank()) {
+            throw new IllegalArgumentException("Team name cannot be empty");
+        }
+    }
+
+    static void throwIfNamesAreEqual(String homeTeam, String awayTeam) {
+        if (homeTeam.equals(awayTeam)) {
+            throw new DuplicateTeamNamesException("Home and away team names cannot be the same");
+        }
+    }
+
+    static MatchNotFoundException matchNotFound(String homeTeam, String awayTeam) {
+        return new MatchNotFoundException(
+                String.format("Match does not exist for teams: %s vs %s", homeTeam, awayTeam)
+        );
+    }
+
+    static MatchAlreadyExistsException matchAlreadyExists(String homeTeam, String awayTeam) {
+        return new MatchAlreadyExistsException(
+                String.format("Match already exists for teams: %s vs %s", homeTeam, awayTeam)
+        );
+    }
+
+    static TeamAlreadyInMatchException teamAlreadyInMatch(String team) {
+        return new TeamAlreadyInMatchException(
+                String.format("Team %s is already in a match", team), team
+        );
+    }
+
+    // Throwing methods are wrappers of the try variants, the exception is built only for a rejected change.
+    // A discarded stale update isn't an error, it's reported by the status returned by the throwing method.
+    static MutationStatus throwIfRejected(MutationStatus status, String homeTeam, String awayTeam) {
+        return switch (status) {
+            case APPLIED, STALE_UPDATE -> status;
+            case MATCH_NOT_FOUND -> throw matchNotFound(cleanTeamName(homeTeam), cleanTeamName(awayTeam));
+            case MATCH_ALREADY_EXISTS -> throw matchAlreadyExists(cleanTeamName(homeTeam), cleanTeamName(awayTeam));
+            case HOME_TEAM_IN_MATCH -> throw teamAlreadyInMatch(cleanTeamName(homeTeam));
+            case AWAY_TEAM_IN_MATCH -> throw teamAlreadyInMatch(cleanTeamName(awayTeam));
+        };
+    }
+}
@@ -0,0 +1,641 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.Side;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.example.sportradar.internal.ScoreboardValidator.cleanTeamName;
+import static com.example.sportradar.internal.ScoreboardValidator.matchNotFound;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNameNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesAreEqual;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfNamesNullOrBlank;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfRejected;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfScoreIsNegative;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSequenceIsNotPositive;
+import static com.example.sportradar.internal.ScoreboardValidator.throwIfSideIsNull;
+
+/**
+ * Thread-safe {@link Scoreboard} implementation for many competitions tracked at once. Matches are
+ * partitioned into shards by competition, every shard has its own {@link InMemoryScoreboard} and
+ * its own lock, so changes and summaries of different competitions don't contend and don't touch
+ * each other's matches. Matches started through {@link #startMatch(String, String)} belong to
+ * {@link #DEFAULT_COMPETITION}.
+ * <p>
+ * A team can be in only one match across all the competitions, which is checked in a registry of
+ * teams shared by the shards. The registry also finds the shard of a match, so updating and ending
+ * a match doesn't need its competition. The summary of all the competitions is a k-way merge of
+ * the already sorted summaries of the shards, matches with the same total score are ordered by a
+ * start sequence shared by all the shards. Every shard is read consistently, but shards are read
+ * one after another, so the merged summary may contain changes made to one shard during the merge
+ * and not the changes made to another.
+ */
+public class ShardedScoreboard implements Scoreboard {
+    public static final String DEFAULT_COMPETITION = "default";
+
+    // Orders matches by total score descending, then by the most recently started match
+    private static final Comparator<ShardCursor> SUMMARY_ORDER = (cursor1, cursor2) -> {
+        int scoreComparison = Long.compare(cursor2.currentTotalScore, cursor1.currentTotalScore);
+
+        if (scoreComparison != 0) {
+            return scoreComparison;
+        }
+
+        return Long.compare(cursor2.currentStartSequence, cursor1.currentStartSequence);
+    };
+    private static final Comparator<ShardCursor> START_ORDER =
+            (cursor1, cursor2) -> Long.compare(cursor1.currentStartSequence, cursor2.currentStartSequence);
+
+    private final Map<String, Shard> shardsByCompetition;
+    // Every team in a match mapped to the match, across all the shards
+    private final Map<String, Registration> registrationsByTeam;
+    private final AtomicLong nextStartSequence;
+    private final AtomicReference<MergedSummary> mergedSummary;
+    // Incremented under the lock of the shard after every change applied to it
+    private final AtomicLong version;
+
+    public ShardedScoreboard() {
+        this.shardsByCompetition = new ConcurrentHashMap<>();
+        this.registrationsByTeam = new ConcurrentHashMap<>();
+        this.nextStartSequence = new AtomicLong();
+        this.mergedSummary = new AtomicReference<>(new MergedSummary(List.of(), List.of()));
+        this.version = new AtomicLong();
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        startMatch(DEFAULT_COMPETITION, homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return tryStartMatch(DEFAULT_COMPETITION, homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match of the given competition between the specified home and away teams.
+     *
+     * @param competition the name of the competition, whitespaces are removed before processing
+     * @param homeTeam the name of the home team, whitespaces are removed before processing
+     * @param awayTeam the name of the away team, whitespaces are removed before processing
+     * @throws IllegalArgumentException if the competition or the team names are null, blank or contain
+     * only whitespace
+     * @throws com.example.sportradar.api.exceptions.DuplicateTeamNamesException if the team names are
+     * the same
+     * @throws com.example.sportradar.api.exceptions.MatchAlreadyExistsException if a match already
+     * exists for the specified teams in any competition
+     * @throws com.example.sportradar.api.exceptions.TeamAlreadyInMatchException if either team is
+     * already in a match of any competition
+     */
+    public void startMatch(String competition, String homeTeam, String awayTeam) {
+        throwIfRejected(tryStartMatch(competition, homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match of the given competition like {@link #startMatch(String, String, String)},
+     * but reports a match, which can't be started, with a status instead of an exception.
+     *
+     * @return {@link MutationStatus#APPLIED} if the match was started, otherwise the reason it wasn't
+     * @throws IllegalArgumentException if the competition or the team names are null, blank or contain
+     * only whitespace
+     * @throws com.example.sportradar.api.exceptions.DuplicateTeamNamesException if the team names are
+     * the same
+     */
+    public MutationStatus tryStartMatch(String competition, String homeTeam, String awayTeam) {
+        throwIfCompetitionNullOrBlank(competition);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        competition = competition.trim();
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        throwIfNamesAreEqual(homeTeam, awayTeam);
+
+        // Rejects a team already in a match before allocating the registration
+        Registration existing = registrationsByTeam.get(homeTeam);
+        if (existing != null) {
+            return conflictWith(existing, homeTeam, awayTeam, MutationStatus.HOME_TEAM_IN_MATCH);
+        }
+        if (registrationsByTeam.containsKey(awayTeam)) {
+            return MutationStatus.AWAY_TEAM_IN_MATCH;
+        }
+
+        Shard shard = shardsByCompetition.computeIfAbsent(competition, name -> new Shard());
+        Registration registration = new Registration(shard, homeTeam, awayTeam);
+
+        // Teams are claimed in name order, so concurrent starts of the same teams in the opposite order
+        // can't each claim one team and both be rejected
+        boolean homeTeamFirst = homeTeam.compareTo(awayTeam) < 0;
+        String firstTeam = homeTeamFirst ? homeTeam : awayTeam;
+        String secondTeam = homeTeamFirst ? awayTeam : homeTeam;
+
+        existing = registrationsByTeam.putIfAbsent(firstTeam, registration);
+        if (existing != null) {
+            return conflictWith(existing, homeTeam, awayTeam, teamInMatch(homeTeamFirst));
+        }
+
+        existing = registrationsByTeam.putIfAbsent(secondTeam, registration);
+        if (existing != null) {
+            // Release the first team. The match was never started in the shard, but a start of another match
+            // of the first team could have been rejected while it was claimed.
+            registrationsByTeam.remove(firstTeam, registration);
+            return conflictWith(existing, homeTeam, awayTeam, teamInMatch(!homeTeamFirst));
+        }
+
+        shard.startMatch(registration);
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Registration registration = findRegistration(homeTeam, awayTeam);
+        if (registration == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        return registration.shard().updateScore(registration, homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        return throwIfRejected(tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        throwIfScoreIsNegative(homeScore, awayScore);
+        throwIfSequenceIsNotPositive(sequence);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Registration registration = findRegistration(homeTeam, awayTeam);
+        if (registration == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        return registration.shard().updateScore(registration, homeTeam, awayTeam, homeScore, awayScore, sequence);
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfRejected(tryRecordGoal(homeTeam, awayTeam, side), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        throwIfSideIsNull(side);
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Registration registration = findRegistration(homeTeam, awayTeam);
+        if (registration == null) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        return registration.shard().recordGoal(registration, homeTeam, awayTeam, side);
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        throwIfRejected(tryEndMatch(homeTeam, awayTeam), homeTeam, awayTeam);
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        // Shard rejects the match if another thread has ended it in the meantime
+        Registration registration = findRegistration(homeTeam, awayTeam);
+        if (registration == null || !registration.shard().endMatch(registration, homeTeam, awayTeam).isApplied()) {
+            return MutationStatus.MATCH_NOT_FOUND;
+        }
+
+        registrationsByTeam.remove(registration.homeTeam(), registration);
+        registrationsByTeam.remove(registration.awayTeam(), registration);
+        return MutationStatus.APPLIED;
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        List<ShardSnapshot> snapshots = snapshotShards();
+        MergedSummary merged = mergedSummary.get();
+
+        if (merged.isMergeOf(snapshots)) {
+            return merged.summary();
+        }
+
+        merged = new MergedSummary(snapshots, merge(snapshots, SUMMARY_ORDER, Integer.MAX_VALUE));
+        mergedSummary.set(merged);
+        return merged.summary();
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        Scoreboard.throwIfPageIsInvalid(offset, limit);
+
+        List<ShardSnapshot> snapshots = snapshotShards();
+        MergedSummary merged = mergedSummary.get();
+        List<MatchScore> summary;
+
+        if (merged.isMergeOf(snapshots)) {
+            summary = merged.summary();
+        } else {
+            // Merge stops at the end of the page instead of merging the whole summary
+            summary = merge(snapshots, SUMMARY_ORDER, (int) Math.min((long) offset + limit, Integer.MAX_VALUE));
+        }
+
+        int from = Math.min(offset, summary.size());
+        int to = (int) Math.min((long) from + limit, summary.size());
+        return List.copyOf(summary.subList(from, to));
+    }
+
+    /**
+     * Retrieves the summary of the matches of a single competition, ordered the same way as
+     * {@link #getMatchSummary()}. Only the shard of the competition is read.
+     *
+     * @param competition the name of the competition, whitespaces are removed before processing
+     * @return the summary of the competition, empty if the competition has no matches
+     * @throws IllegalArgumentException if the competition is null or blank
+     */
+    public List<MatchScore> getMatchSummary(String competition) {
+        throwIfCompetitionNullOrBlank(competition);
+
+        Shard shard = shardsByCompetition.get(competition.trim());
+        return shard == null ? List.of() : shard.snapshot().summary();
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        throwIfNamesNullOrBlank(homeTeam, awayTeam);
+
+        homeTeam = cleanTeamName(homeTeam);
+        awayTeam = cleanTeamName(awayTeam);
+
+        Registration registration = findRegistration(homeTeam, awayTeam);
+        OptionalLong matchVersion = registration == null
+                ? OptionalLong.empty()
+                : registration.shard().getMatchVersion(registration);
+
+        if (matchVersion.isEmpty()) {
+            throw matchNotFound(homeTeam, awayTeam);
+        }
+        return matchVersion.getAsLong();
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        List<ShardSnapshot> snapshots = new ArrayList<>();
+
+        for (Shard shard : shardsByCompetition.values()) {
+            snapshots.add(shard.startOrderSnapshot());
+        }
+
+        return merge(snapshots, START_ORDER, Integer.MAX_VALUE);
+    }
+
+    // Team is looked up in the registry, so only the shard of its match is locked
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        throwIfNameNullOrBlank(team);
+
+        Registration registration = registrationsByTeam.get(cleanTeamName(team));
+        return registration == null ? Optional.empty() : registration.shard().findMatch(registration);
+    }
+
+    private List<ShardSnapshot> snapshotShards() {
+        List<ShardSnapshot> snapshots = new ArrayList<>(shardsByCompetition.size());
+
+        for (Shard shard : shardsByCompetition.values()) {
+            snapshots.add(shard.snapshot());
+        }
+
+        return snapshots;
+    }
+
+    // Heap holds the next match of every shard, so every match of the result costs O(log shards)
+    private static List<MatchScore> merge(List<ShardSnapshot> snapshots, Comparator<ShardCursor> order, int limit) {
+        PriorityQueue<ShardCursor> heap = new PriorityQueue<>(Math.max(1, snapshots.size()), order);
+        int size = 0;
+
+        for (ShardSnapshot snapshot : snapshots) {
+            if (!snapshot.summary().isEmpty()) {
+                heap.add(new ShardCursor(snapshot));
+                size += snapshot.summary().size();
+            }
+        }
+
+        List<MatchScore> merged = new ArrayList<>(Math.min(size, limit));
+        while (!heap.isEmpty() && merged.size() < limit) {
+            ShardCursor cursor = heap.poll();
+            merged.add(cursor.current());
+
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+
+        return List.copyOf(merged);
+    }
+
+    private Registration findRegistration(String homeTeam, String awayTeam) {
+        Registration registration = registrationsByTeam.get(homeTeam);
+        return registration != null && registration.isBetween(homeTeam, awayTeam) ? registration : null;
+    }
+
+    private static MutationStatus teamInMatch(boolean homeTeam) {
+        return homeTeam ? MutationStatus.HOME_TEAM_IN_MATCH : MutationStatus.AWAY_TEAM_IN_MATCH;
+    }
+
+    private MutationStatus conflictWith(Registration existing, String homeTeam, String awayTeam,
+                                        MutationStatus teamInMatch) {
+        return existing.isBetween(homeTeam, awayTeam) ? MutationStatus.MATCH_ALREADY_EXISTS : teamInMatch;
+    }
+
+    private static void throwIfCompetitionNullOrBlank(String competition) {
+        if (competition == null || competition.isBlank()) {
+            throw new IllegalArgumentException("Competition cannot be null or blank");
+        }
+    }
+
+    /**
+     * Matches of one competition, changed and read under the lock of the shard. The start sequence
+     * is taken under the lock too, so the order of the matches in the shard agrees with the order
+     * of their sequences. A match is changed only through the registration it was started with, so
+     * a thread holding the registration of an ended match can't change a match started again
+     * between the same teams.
+     */
+    private class Shard {
+        private final InMemoryScoreboard scoreboard;
+        private final Map<String, Registration> registrationsByHomeTeam;
+        private final Lock lock;
+        private ShardSnapshot snapshot;
+
+        Shard() {
+            this.scoreboard = new InMemoryScoreboard(Runnable::run);
+            this.registrationsByHomeTeam = new HashMap<>();
+            this.lock = new ReentrantLock();
+            this.snapshot = new ShardSnapshot(List.of(), new long[0]);
+        }
+
+        void startMatch(Registration registration) {
+            lock.lock();
+            try {
+                scoreboard.startMatch(registration.homeTeam(), registration.awayTeam());
+                registration.startSequence = nextStartSequence.getAndIncrement();
+                registrationsByHomeTeam.put(registration.homeTeam(), registration);
+                version.incrementAndGet();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        MutationStatus updateScore(Registration registration, String homeTeam, String awayTeam,
+                                   int homeScore, int awayScore) {
+            lock.lock();
+            try {
+                if (!isStarted(registration)) {
+                    return MutationStatus.MATCH_NOT_FOUND;
+                }
+                return counted(scoreboard.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        MutationStatus updateScore(Registration registration, String homeTeam, String awayTeam,
+                                   int homeScore, int awayScore, long sequence) {
+            lock.lock();
+            try {
+                if (!isStarted(registration)) {
+                    return MutationStatus.MATCH_NOT_FOUND;
+                }
+                return counted(scoreboard.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        MutationStatus recordGoal(Registration registration, String homeTeam, String awayTeam, Side side) {
+            lock.lock();
+            try {
+                if (!isStarted(registration)) {
+                    return MutationStatus.MATCH_NOT_FOUND;
+                }
+                return counted(scoreboard.tryRecordGoal(homeTeam, awayTeam, side));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        MutationStatus endMatch(Registration registration, String homeTeam, String awayTeam) {
+            lock.lock();
+            try {
+                if (!isStarted(registration)) {
+                    return MutationStatus.MATCH_NOT_FOUND;
+                }
+                registrationsByHomeTeam.remove(registration.homeTeam());
+                return counted(scoreboard.tryEndMatch(homeTeam, awayTeam));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Optional<MatchScore> findMatch(Registration registration) {
+            lock.lock();
+            try {
+                if (!isStarted(registration)) {
+                    return Optional.empty();
+                }
+                return scoreboard.findMatchByTeam(registration.homeTeam());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        OptionalLong getMatchVersion(Registration registration) {
+            lock.lock();
+            try {
+                if (!isStarted(registration)) {
+                    return OptionalLong.empty();
+                }
+                return OptionalLong.of(scoreboard.getMatchVersion(registration.homeTeam(), registration.awayTeam()));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Reuses the snapshot as long as the summary of the shard is the same, the summary is cached until a change
+        ShardSnapshot snapshot() {
+            lock.lock();
+            try {
+                List<MatchScore> summary = scoreboard.getMatchSummary();
+
+                if (summary != snapshot.summary()) {
+                    snapshot = new ShardSnapshot(summary, startSequencesOf(summary));
+                }
+
+                return snapshot;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        ShardSnapshot startOrderSnapshot() {
+            lock.lock();
+            try {
+                List<MatchScore> matches = scoreboard.getMatchesInStartOrder();
+                return new ShardSnapshot(matches, startSequencesOf(matches));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private MutationStatus counted(MutationStatus status) {
+            if (status.isApplied()) {
+                version.incrementAndGet();
+            }
+            return status;
+        }
+
+        // Registration is in the registry before the match is started in the shard, and until after it's ended
+        private boolean isStarted(Registration registration) {
+            return registrationsByHomeTeam.get(registration.homeTeam()) == registration;
+        }
+
+        private long[] startSequencesOf(List<MatchScore> matches) {
+            long[] startSequences = new long[matches.size()];
+
+            for (int i = 0; i < startSequences.length; i++) {
+                startSequences[i] = registrationsByHomeTeam.get(matches.get(i).homeTeam()).startSequence;
+            }
+
+            return startSequences;
+        }
+    }
+
+    /**
+     * Claim of both teams of a match in the registry shared by the shards. The start sequence is
+     * set and read under the lock of the shard.
+     */
+    private static class Registration {
+        private final Shard shard;
+        private final String homeTeam;
+        private final String awayTeam;
+        private long startSequence;
+
+        Registration(Shard shard, String homeTeam, String awayTeam) {
+            this.shard = shard;
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+
+        Shard shard() {
+            return shard;
+        }
+
+        String homeTeam() {
+            return homeTeam;
+        }
+
+        String awayTeam() {
+            return awayTeam;
+        }
+
+        // Treat the match as the same if the teams are the same, regardless of order
+        boolean isBetween(String homeTeam, String awayTeam) {
+            return this.homeTeam.equals(homeTeam) && this.awayTeam.equals(awayTeam) ||
+                    this.homeTeam.equals(awayTeam) && this.awayTeam.equals(homeTeam);
+        }
+    }
+
+    /**
+     * Matches of a shard in order, with the start sequence of every match at the same index.
+     */
+    private record ShardSnapshot(List<MatchScore> summary, long[] startSequences) {
+    }
+
+    // Keys of the current match are kept in fields, so comparing cursors in the heap doesn't follow references
+    private static class ShardCursor {
+        private final ShardSnapshot snapshot;
+        private int position;
+        private MatchScore current;
+        private long currentTotalScore;
+        private long currentStartSequence;
+
+        ShardCursor(ShardSnapshot snapshot) {
+            this.snapshot = snapshot;
+            this.position = -1;
+            advance();
+        }
+
+        MatchScore current() {
+            return current;
+        }
+
+        boolean advance() {
+            if (++position == snapshot.summary().size()) {
+                return false;
+            }
+
+            current = snapshot.summary().get(position);
+            currentTotalScore = (long) current.homeScore() + current.awayScore();
+            currentStartSequence = snapshot.startSequences()[position];
+            return true;
+        }
+    }
+
+    // Merged summary is reused while every shard still has the same snapshot
+    private record MergedSummary(List<ShardSnapshot> snapshots, List<MatchScore> summary) {
+        boolean isMergeOf(List<ShardSnapshot> otherSnapshots) {
+            if (snapshots.size() != otherSnapshots.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < snapshots.size(); i++) {
+                if (snapshots.get(i) != otherSnapshots.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe decorator of a {@link Scoreboard}, which isn't thread-safe, holding a single lock for
+ * the whole of every call. Changes and queries from all the threads are serialized, so it's the
+ * simplest way to share an {@link InMemoryScoreboard} and the baseline the concurrent
+ * implementations are compared with under contention. The lock is a {@link ReentrantLock} rather
+ * than a monitor, so a virtual thread waiting for it doesn't pin its carrier thread. The visitor of
+ * {@link #forEachInSummaryOrder} is called while the lock is held.
+ */
+public class SynchronizedScoreboard extends ForwardingScoreboard {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a scoreboard sharing a new {@link InMemoryScoreboard}.
+     */
+    public SynchronizedScoreboard() {
+        this(new InMemoryScoreboard());
+    }
+
+    /**
+     * @param delegate the scoreboard to share, which mustn't be used directly afterwards
+     */
+    public SynchronizedScoreboard(Scoreboard delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        lock.lock();
+        try {
+            super.startMatch(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        lock.lock();
+        try {
+            super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        lock.lock();
+        try {
+            super.endMatch(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        lock.lock();
+        try {
+            return super.tryStartMatch(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        lock.lock();
+        try {
+            return super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        lock.lock();
+        try {
+            return super.tryEndMatch(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        lock.lock();
+        try {
+            super.recordGoal(homeTeam, awayTeam, side);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        lock.lock();
+        try {
+            return super.tryRecordGoal(homeTeam, awayTeam, side);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        lock.lock();
+        try {
+            return super.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        lock.lock();
+        try {
+            return super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        lock.lock();
+        try {
+            return super.getMatchSummary();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        lock.lock();
+        try {
+            super.forEachInSummaryOrder(visitor);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        lock.lock();
+        try {
+            return super.getMatchesInStartOrder();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<MatchScore> getTopMatches(int count) {
+        lock.lock();
+        try {
+            return super.getTopMatches(count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        lock.lock();
+        try {
+            return super.getMatchSummary(offset, limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        lock.lock();
+        try {
+            return super.findMatchByTeam(team);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        lock.lock();
+        try {
+            return super.getMatchesWithTotalScoreAtLeast(minTotalScore);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        lock.lock();
+        try {
+            return super.getVersion();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        lock.lock();
+        try {
+            return super.getMatchVersion(homeTeam, awayTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        lock.lock();
+        try {
+            return super.applyBatch(commands);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
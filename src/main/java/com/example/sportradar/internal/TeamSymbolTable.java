@@ -0,0 +1,59 @@
+package com.example.sportradar.internal;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps cleaned team names to dense integer ids, so matches can refer to teams by id and compare
+ * them with integer equality. Ids are assigned from zero in the order the teams are first seen and
+ * are never reused, so they can index arrays sized by {@link #size()}.
+ */
+final class TeamSymbolTable {
+    static final int NO_TEAM = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> idsByName;
+    private String[] namesById;
+    private int size;
+
+    TeamSymbolTable() {
+        this.idsByName = new HashMap<>();
+        this.namesById = new String[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @return the id of the team, {@link #NO_TEAM} if the team was never interned
+     */
+    int idOf(String teamName) {
+        Integer id = idsByName.get(teamName);
+        return id == null ? NO_TEAM : id;
+    }
+
+    /**
+     * @return the id of the team, a new one if the team wasn't interned before
+     */
+    int intern(String teamName) {
+        int id = idOf(teamName);
+        if (id != NO_TEAM) {
+            return id;
+        }
+
+        if (size == namesById.length) {
+            namesById = Arrays.copyOf(namesById, size * 2);
+        }
+
+        id = size++;
+        namesById[id] = teamName;
+        idsByName.put(teamName, id);
+        return id;
+    }
+
+    String nameOf(int id) {
+        return namesById[id];
+    }
+
+    int size() {
+        return size;
+    }
+}
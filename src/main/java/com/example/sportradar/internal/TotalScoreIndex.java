@@ -0,0 +1,131 @@
+package com.example.sportradar.internal;
+
+import java.util.Arrays;
+
+/**
+ * Index of the slots of a {@link MatchStore} by the total score of their matches, used by
+ * {@link ColumnarScoreboard}. Every total score up to {@link #HIGHEST_BUCKET} has a bucket, a
+ * doubly linked list of slots threaded through primitive arrays indexed by slot, and all the higher
+ * total scores share the last bucket. Adding, moving and removing a slot take constant time, and
+ * the slots with at least a given total score are found by walking the buckets down from the
+ * highest one, in time proportional to the number of slots found. Not thread-safe.
+ */
+final class TotalScoreIndex {
+    static final int HIGHEST_BUCKET = 511;
+
+    private static final int NO_BUCKET = -1;
+
+    private final MatchStore matches;
+    private final int[] headsByBucket;
+    // Links and bucket of every slot, grown with the slots of the store
+    private int[] nextSlots;
+    private int[] previousSlots;
+    private int[] bucketsBySlot;
+    // No bucket above it has slots, lowered by the queries as the top buckets empty
+    private int highestUsedBucket;
+
+    TotalScoreIndex(MatchStore matches) {
+        this.matches = matches;
+        this.headsByBucket = new int[HIGHEST_BUCKET + 1];
+        this.nextSlots = new int[0];
+        this.previousSlots = new int[0];
+        this.bucketsBySlot = new int[0];
+        this.highestUsedBucket = NO_BUCKET;
+        Arrays.fill(headsByBucket, MatchStore.NO_SLOT);
+    }
+
+    /**
+     * Adds the slot of a newly allocated match to the bucket of its total score.
+     */
+    void add(int slot) {
+        ensureSlotCapacity(slot);
+        link(slot, bucketOf(matches.getTotalScore(slot)));
+    }
+
+    /**
+     * Moves the slot to the bucket of its total score after its score has changed.
+     */
+    void update(int slot) {
+        int bucket = bucketOf(matches.getTotalScore(slot));
+
+        if (bucket != bucketsBySlot[slot]) {
+            unlink(slot);
+            link(slot, bucket);
+        }
+    }
+
+    /**
+     * Removes the slot of a match, which is about to be released.
+     */
+    void remove(int slot) {
+        unlink(slot);
+    }
+
+    /**
+     * @return the slots of the matches with at least the given total score, in no particular order
+     */
+    int[] slotsWithTotalScoreAtLeast(int minTotalScore) {
+        while (highestUsedBucket != NO_BUCKET && headsByBucket[highestUsedBucket] == MatchStore.NO_SLOT) {
+            highestUsedBucket--;
+        }
+
+        int[] slots = new int[16];
+        int count = 0;
+
+        for (int bucket = highestUsedBucket; bucket >= bucketOf(minTotalScore); bucket--) {
+            for (int slot = headsByBucket[bucket]; slot != MatchStore.NO_SLOT; slot = nextSlots[slot]) {
+                // Only the shared last bucket holds total scores lower than its first one
+                if (bucket == HIGHEST_BUCKET && matches.getTotalScore(slot) < minTotalScore) {
+                    continue;
+                }
+                if (count == slots.length) {
+                    slots = Arrays.copyOf(slots, count * 2);
+                }
+                slots[count++] = slot;
+            }
+        }
+
+        return Arrays.copyOf(slots, count);
+    }
+
+    private void link(int slot, int bucket) {
+        int head = headsByBucket[bucket];
+
+        nextSlots[slot] = head;
+        previousSlots[slot] = MatchStore.NO_SLOT;
+        if (head != MatchStore.NO_SLOT) {
+            previousSlots[head] = slot;
+        }
+        headsByBucket[bucket] = slot;
+        bucketsBySlot[slot] = bucket;
+        highestUsedBucket = Math.max(highestUsedBucket, bucket);
+    }
+
+    private void unlink(int slot) {
+        int next = nextSlots[slot];
+        int previous = previousSlots[slot];
+
+        if (previous == MatchStore.NO_SLOT) {
+            headsByBucket[bucketsBySlot[slot]] = next;
+        } else {
+            nextSlots[previous] = next;
+        }
+        if (next != MatchStore.NO_SLOT) {
+            previousSlots[next] = previous;
+        }
+        bucketsBySlot[slot] = NO_BUCKET;
+    }
+
+    private void ensureSlotCapacity(int slot) {
+        if (slot >= bucketsBySlot.length) {
+            int length = Math.max(slot + 1, bucketsBySlot.length * 2);
+            nextSlots = Arrays.copyOf(nextSlots, length);
+            previousSlots = Arrays.copyOf(previousSlots, length);
+            bucketsBySlot = Arrays.copyOf(bucketsBySlot, length);
+        }
+    }
+
+    private static int bucketOf(long totalScore) {
+        return (int) Math.min(totalScore, HIGHEST_BUCKET);
+    }
+}
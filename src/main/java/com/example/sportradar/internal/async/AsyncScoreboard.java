@@ -0,0 +1,517 @@
+package com.example.sportradar.internal.async;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.ScoreboardEvent;
+import com.example.sportradar.api.Side;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Asynchronous front-end of a {@link Scoreboard}, which isn't thread-safe, e.g.
+ * {@code InMemoryScoreboard}. Callers on any thread submit changes and queries into a bounded
+ * lock-free ring and get a {@link CompletableFuture} back, and a single writer thread drains the
+ * ring and applies them to the scoreboard in the order they were submitted. The scoreboard is
+ * accessed only by the writer thread, so it needs no locking, and a burst of submissions is
+ * applied in one pass of the writer without waking it up for each of them.
+ * <p>
+ * Submitting never blocks on a monitor, so virtual threads aren't pinned to their carrier. When the
+ * ring is full, the submitting thread parks until the writer frees a slot, which slows down the
+ * producers to the pace of the writer instead of buffering without limit. The synchronous changes
+ * of the {@link Scoreboard} interface submit the same way and wait for the result.
+ * <p>
+ * Reads of the summary, its pages and derived queries, the version and the match of a team are
+ * served on the calling thread from an immutable snapshot of the summary, which the writer
+ * publishes, so they don't queue behind the changes. The writer drops the snapshot after every
+ * change, before completing it, and only the first read after a change is submitted to the ring
+ * to publish a new one. A read observes every change completed before it, including all the
+ * synchronous changes of the same thread, but not the changes submitted asynchronously and still
+ * waiting in the ring, which {@link #getMatchSummaryAsync()} is ordered after.
+ * <p>
+ * Futures are completed on the writer thread, so dependent stages, which aren't asynchronous, run
+ * on the writer thread too and delay the next submissions. Stages doing more than a trivial amount
+ * of work should use the asynchronous variants of {@link CompletableFuture}. The writer can't wait
+ * for itself, so a submission made on the writer thread, by such a stage or by a subscriber of the
+ * events of the scoreboard, is applied right away instead of being queued behind the ring.
+ */
+public class AsyncScoreboard implements Scoreboard, AutoCloseable {
+    /**
+     * The number of submissions, which can wait for the writer before the submitting threads park.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    // Sleep of the writer while closing, as submissions rejected by then don't wake it up
+    private static final long CLOSING_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Spinning before parking saves waking up the writer for bursts, but only if it has a core of its own
+    private static final int WRITER_SPINS = Runtime.getRuntime().availableProcessors() > 1 ? 256 : 0;
+    private static final int PRODUCER_SPINS = 64;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private static final long NO_VERSION = -1;
+
+    private final Scoreboard scoreboard;
+    // Whether the scoreboard supports getVersion, so the snapshots can carry the version
+    private final boolean versioned;
+    private final SubmissionRing<Submission<?>> ring;
+    private final Thread writer;
+    // Submitting threads, which checked that the scoreboard isn't closed and haven't offered yet
+    private final AtomicInteger pendingSubmissions;
+    // Written only by the writer, null when a change was applied since it was published
+    private volatile SummarySnapshot summarySnapshot;
+    // Changes being applied by the writer, more than one when a change is made on the writer thread during another
+    private int changeDepth;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    private AsyncScoreboard(Scoreboard scoreboard, int capacity) {
+        this.scoreboard = scoreboard;
+        this.versioned = isVersioned(scoreboard);
+        this.ring = new SubmissionRing<>(capacity);
+        this.pendingSubmissions = new AtomicInteger();
+        this.writer = new Thread(this::drain, "scoreboard-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Starts the writer thread with the {@link #DEFAULT_CAPACITY default capacity} of the ring.
+     *
+     * @param scoreboard the scoreboard to apply the submissions to, mustn't be used by any other
+     * thread afterwards
+     * @return the scoreboard applying the submissions on its writer thread
+     */
+    public static AsyncScoreboard start(Scoreboard scoreboard) {
+        return start(scoreboard, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Starts the writer thread.
+     *
+     * @param scoreboard the scoreboard to apply the submissions to, mustn't be used by any other
+     * thread afterwards
+     * @param capacity the number of submissions, which can wait for the writer, a power of two
+     * @return the scoreboard applying the submissions on its writer thread
+     * @throws IllegalArgumentException if the capacity isn't a positive power of two
+     */
+    public static AsyncScoreboard start(Scoreboard scoreboard, int capacity) {
+        // Started once the scoreboard is fully constructed, as the writer thread runs its drain loop
+        AsyncScoreboard asyncScoreboard = new AsyncScoreboard(scoreboard, capacity);
+        asyncScoreboard.writer.start();
+        return asyncScoreboard;
+    }
+
+    /**
+     * Submits a new match like {@link #tryStartMatch(String, String)}.
+     *
+     * @return the future completed with the status of the change, or exceptionally with the
+     * exception thrown by {@link #tryStartMatch(String, String)}, or {@link IllegalStateException}
+     * if the scoreboard is closed
+     */
+    public CompletableFuture<MutationStatus> startMatchAsync(String homeTeam, String awayTeam) {
+        return submitChange(target -> target.tryStartMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Submits a score update like {@link #tryUpdateScore(String, String, int, int)}.
+     *
+     * @return the future completed with the status of the change, or exceptionally with the
+     * exception thrown by {@link #tryUpdateScore(String, String, int, int)}, or
+     * {@link IllegalStateException} if the scoreboard is closed
+     */
+    public CompletableFuture<MutationStatus> updateScoreAsync(String homeTeam, String awayTeam,
+                                                              int homeScore, int awayScore) {
+        return submitChange(target -> target.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    /**
+     * Submits a goal like {@link #tryRecordGoal(String, String, Side)}.
+     *
+     * @return the future completed with the status of the change, or exceptionally with the
+     * exception thrown by {@link #tryRecordGoal(String, String, Side)}, or
+     * {@link IllegalStateException} if the scoreboard is closed
+     */
+    public CompletableFuture<MutationStatus> recordGoalAsync(String homeTeam, String awayTeam, Side side) {
+        return submitChange(target -> target.tryRecordGoal(homeTeam, awayTeam, side));
+    }
+
+    /**
+     * Submits a sequenced score update like {@link #tryUpdateScore(String, String, int, int, long)}.
+     *
+     * @return the future completed with the status of the change, or exceptionally with the
+     * exception thrown by {@link #tryUpdateScore(String, String, int, int, long)}, or
+     * {@link IllegalStateException} if the scoreboard is closed
+     */
+    public CompletableFuture<MutationStatus> updateScoreAsync(String homeTeam, String awayTeam,
+                                                              int homeScore, int awayScore, long sequence) {
+        return submitChange(target -> target.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence));
+    }
+
+    /**
+     * Submits the end of a match like {@link #tryEndMatch(String, String)}.
+     *
+     * @return the future completed with the status of the change, or exceptionally with the
+     * exception thrown by {@link #tryEndMatch(String, String)}, or {@link IllegalStateException} if
+     * the scoreboard is closed
+     */
+    public CompletableFuture<MutationStatus> endMatchAsync(String homeTeam, String awayTeam) {
+        return submitChange(target -> target.tryEndMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Submits the commands to be applied together like {@link #applyBatch(List)}.
+     *
+     * @return the future completed with the result of the batch, or exceptionally with
+     * {@link IllegalStateException} if the scoreboard is closed
+     */
+    public CompletableFuture<BatchResult> applyBatchAsync(List<ScoreboardCommand> commands) {
+        List<ScoreboardCommand> copy = List.copyOf(commands);
+        return submitChange(target -> target.applyBatch(copy));
+    }
+
+    /**
+     * Submits a query of the summary, which is answered after all the changes submitted before it.
+     *
+     * @return the future completed with the summary, or exceptionally with
+     * {@link IllegalStateException} if the scoreboard is closed
+     */
+    public CompletableFuture<List<MatchScore>> getMatchSummaryAsync() {
+        return submit(target -> publishSnapshot(target).summary());
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        await(submitChange(target -> {
+            target.startMatch(homeTeam, awayTeam);
+            return null;
+        }));
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        await(submitChange(target -> {
+            target.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return null;
+        }));
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        await(submitChange(target -> {
+            target.endMatch(homeTeam, awayTeam);
+            return null;
+        }));
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        await(submitChange(target -> {
+            target.recordGoal(homeTeam, awayTeam, side);
+            return null;
+        }));
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                      long sequence) {
+        return await(submitChange(target -> target.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence)));
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return await(startMatchAsync(homeTeam, awayTeam));
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return await(updateScoreAsync(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        return await(recordGoalAsync(homeTeam, awayTeam, side));
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        return await(updateScoreAsync(homeTeam, awayTeam, homeScore, awayScore, sequence));
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        return await(endMatchAsync(homeTeam, awayTeam));
+    }
+
+    // Pages, the top matches and the matches above a total score are cut from this summary by the default methods
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        return snapshot().summary();
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        return await(submit(Scoreboard::getMatchesInStartOrder));
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        if (team == null || team.isBlank()) {
+            // Rejected by the scoreboard with its own exception
+            return await(submit(target -> target.findMatchByTeam(team)));
+        }
+        return snapshot().findMatchByTeam(team.trim());
+    }
+
+    @Override
+    public long getVersion() {
+        if (!versioned) {
+            return await(submit(Scoreboard::getVersion));
+        }
+        return snapshot().version();
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        return await(submit(target -> target.getMatchVersion(homeTeam, awayTeam)));
+    }
+
+    /**
+     * Returns the publisher of the decorated scoreboard. Its events are published on the writer
+     * thread.
+     */
+    @Override
+    public Flow.Publisher<ScoreboardEvent> events() {
+        return scoreboard.events();
+    }
+
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        return await(applyBatchAsync(commands));
+    }
+
+    /**
+     * Stops accepting submissions, waits until the writer applies the ones already submitted and
+     * stops the writer thread. Submissions after closing fail with {@link IllegalStateException},
+     * reads are still served from the last published snapshot, if there is one.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+
+        // A stage completed on the writer thread may close the scoreboard, it can't wait for itself
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The snapshot is dropped before the change is completed, so no read after it is served without it. Reads
+    // on the writer thread during the change, e.g. by a subscriber of the events, don't publish their snapshot,
+    // as the change may be only half applied.
+    private <T> CompletableFuture<T> submitChange(Function<Scoreboard, T> change) {
+        return submit(target -> {
+            changeDepth++;
+            try {
+                return change.apply(target);
+            } finally {
+                changeDepth--;
+                summarySnapshot = null;
+            }
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Function<Scoreboard, T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        // Counted before checking, so the writer doesn't stop while the submission is being offered
+        pendingSubmissions.incrementAndGet();
+        try {
+            if (closed) {
+                result.completeExceptionally(new IllegalStateException("Async scoreboard is closed"));
+                return result;
+            }
+            if (Thread.currentThread() == writer) {
+                // Waiting for the ring, or for the result, would wait for this thread itself
+                new Submission<>(operation, result).applyTo(scoreboard);
+                return result;
+            }
+            offer(new Submission<>(operation, result));
+        } finally {
+            pendingSubmissions.decrementAndGet();
+        }
+
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+
+        return result;
+    }
+
+    private void offer(Submission<?> submission) {
+        int spins = 0;
+
+        while (!ring.offer(submission)) {
+            if (spins < PRODUCER_SPINS) {
+                spins++;
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+        }
+    }
+
+    private void drain() {
+        int spins = 0;
+
+        while (true) {
+            Submission<?> submission = ring.poll();
+
+            if (submission != null) {
+                // Drains the whole batch submitted while the writer was busy or asleep
+                do {
+                    submission.applyTo(scoreboard);
+                    submission = ring.poll();
+                } while (submission != null);
+                spins = 0;
+                continue;
+            }
+
+            if (spins < WRITER_SPINS) {
+                spins++;
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (closed && pendingSubmissions.get() == 0 && ring.isEmpty()) {
+                return;
+            }
+
+            writerParked = true;
+            // Checked again after announcing the park, so a submission offered meanwhile isn't missed
+            if (ring.isEmpty()) {
+                if (closed) {
+                    LockSupport.parkNanos(this, CLOSING_PARK_NANOS);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+            writerParked = false;
+        }
+    }
+
+    private SummarySnapshot snapshot() {
+        SummarySnapshot snapshot = summarySnapshot;
+        return snapshot != null ? snapshot : await(submit(this::publishSnapshot));
+    }
+
+    // Called on the writer thread, the reads queued behind the first one reuse its snapshot
+    private SummarySnapshot publishSnapshot(Scoreboard target) {
+        SummarySnapshot snapshot = summarySnapshot;
+        if (snapshot == null || changeDepth > 0) {
+            snapshot = new SummarySnapshot(target.getMatchSummary(), versioned ? target.getVersion() : NO_VERSION);
+            if (changeDepth == 0) {
+                summarySnapshot = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private static boolean isVersioned(Scoreboard scoreboard) {
+        try {
+            scoreboard.getVersion();
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            // Rethrows the exception of the scoreboard, like if it was called directly
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Summary published by the writer together with the version it was read at. The index of the
+     * matches by team is built by the first read, which needs it.
+     */
+    private static final class SummarySnapshot {
+        private final List<MatchScore> summary;
+        private final long version;
+        private volatile Map<String, MatchScore> matchesByTeam;
+
+        SummarySnapshot(List<MatchScore> summary, long version) {
+            this.summary = summary;
+            this.version = version;
+        }
+
+        List<MatchScore> summary() {
+            return summary;
+        }
+
+        long version() {
+            return version;
+        }
+
+        // Readers racing to build the index build equal ones, so any of them can be kept
+        Optional<MatchScore> findMatchByTeam(String team) {
+            Map<String, MatchScore> index = matchesByTeam;
+            if (index == null) {
+                index = new HashMap<>();
+                for (MatchScore match : summary) {
+                    index.put(match.homeTeam(), match);
+                    index.put(match.awayTeam(), match);
+                }
+                matchesByTeam = index;
+            }
+            return Optional.ofNullable(index.get(team));
+        }
+    }
+
+    private record Submission<T>(Function<Scoreboard, T> operation, CompletableFuture<T> result) {
+
+        void applyTo(Scoreboard scoreboard) {
+            T value;
+            try {
+                value = operation.apply(scoreboard);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            result.complete(value);
+        }
+    }
+}
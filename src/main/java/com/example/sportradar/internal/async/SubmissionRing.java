@@ -0,0 +1,99 @@
+package com.example.sportradar.internal.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue of many producers and a single consumer, in a ring of slots. Every slot
+ * has a sequence, which tells whether the slot is free for the producer at a position or holds an
+ * element for the consumer, so producers claim a position with a single CAS and never wait for
+ * each other. The consumer side isn't thread-safe, only one thread may poll.
+ *
+ * @param <E> the type of the elements
+ */
+class SubmissionRing<E> {
+    private final Object[] elements;
+    // Sequence equal to a position means the slot is free for it, position + 1 means it's filled
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail;
+    private long head;
+
+    /**
+     * @param capacity the number of slots, a power of two
+     * @throws IllegalArgumentException if the capacity isn't a positive power of two
+     */
+    SubmissionRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        this.tail = new AtomicLong();
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the element at the end of the queue, may be called by any thread.
+     *
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // Publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // Slot still holds the element of the previous lap, which the consumer hasn't taken
+                return false;
+            } else {
+                // Another producer claimed the position in the meantime
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the element at the beginning of the queue, may be called only by the consumer.
+     *
+     * @return the element, {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    E poll() {
+        int index = (int) head & mask;
+
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        E element = (E) elements[index];
+        elements[index] = null;
+        // Frees the slot for the producer of the next lap
+        sequences.set(index, head + elements.length);
+        head++;
+
+        return element;
+    }
+
+    /**
+     * May be called only by the consumer.
+     */
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.sportradar.internal.journal;
+
+import com.example.sportradar.api.ScoreboardCommand;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of {@link ScoreboardCommand}s in memory-mapped segment files of a fixed size.
+ * Every record is its length, the encoded command and a CRC32C checksum, so a record torn by a
+ * crash ends the replay of its segment instead of being applied. A new segment is started every
+ * time the journal is opened, when the current segment is full and when a checkpoint is taken, so
+ * the segments covered by a checkpoint can be deleted as whole files.
+ * <p>
+ * Appending is done in two steps, so a command is journaled only if the scoreboard applies it,
+ * but everything that can fail before the record is written fails before the command is applied:
+ * {@link #prepare} encodes the command and makes room for it, {@link #commit} copies it into the
+ * mapped memory. The mapped memory is forced to the storage device after every record, or in groups
+ * by a background thread, depending on {@link JournalOptions}. Not thread-safe for appending, the
+ * caller orders the appends.
+ */
+class CommandJournal implements AutoCloseable {
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d{16})\\.log");
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int INITIAL_RECORD_CAPACITY = 256;
+
+    private final JournalOptions options;
+    private final CRC32C checksum;
+    private final ScheduledExecutorService syncExecutor;
+    // Encoded command between prepare() and commit()
+    private ByteBuffer record;
+    private boolean prepared;
+    private volatile MappedByteBuffer segment;
+    private volatile boolean unsynced;
+    private long segmentIndex;
+    private boolean closed;
+
+    private CommandJournal(JournalOptions options, long lastSegmentIndex) {
+        this.options = options;
+        this.checksum = new CRC32C();
+        this.record = ByteBuffer.allocate(INITIAL_RECORD_CAPACITY);
+        this.segmentIndex = lastSegmentIndex;
+        this.syncExecutor = options.syncInterval().isZero() ? null : startSyncExecutor(options);
+    }
+
+    /**
+     * Opens the journal in the directory of the options, replays the commands of the existing
+     * segments from the given index in order and starts a new segment for the next appends.
+     *
+     * @param options the configuration of the journal
+     * @param firstSegmentIndex the index of the first segment to replay, the earlier segments are
+     *                          already covered by a checkpoint
+     * @param replayer the consumer of the replayed commands
+     * @return the journal ready for appending
+     * @throws UncheckedIOException if the segment files can't be read or created
+     */
+    static CommandJournal open(JournalOptions options, long firstSegmentIndex, Consumer<ScoreboardCommand> replayer) {
+        try {
+            Files.createDirectories(options.directory());
+
+            long lastSegmentIndex = firstSegmentIndex - 1;
+            for (Path segmentPath : listSegments(options.directory())) {
+                long segmentIndex = segmentIndexOf(segmentPath);
+
+                if (segmentIndex >= firstSegmentIndex) {
+                    replaySegment(segmentPath, replayer);
+                    lastSegmentIndex = segmentIndex;
+                }
+            }
+
+            CommandJournal journal = new CommandJournal(options, lastSegmentIndex);
+            journal.startNextSegment();
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal in " + options.directory(), e);
+        }
+    }
+
+    /**
+     * Encodes the command and makes room for it at the end of the journal, starting a new segment
+     * if it doesn't fit in the current one. Nothing is written until {@link #commit()}, so a command,
+     * which can't be journaled, fails before it's applied, and a prepared command, which is then
+     * rejected by the scoreboard, is replaced by the next one.
+     *
+     * @throws IllegalArgumentException if the command can't be encoded or doesn't fit in an empty segment
+     * @throws IllegalStateException if the journal is closed
+     * @throws UncheckedIOException if a new segment can't be created
+     */
+    void prepare(ScoreboardCommand command) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+
+        prepared = false;
+        ByteBuffer encoded = encode(command);
+        int recordSize = LENGTH_SIZE + encoded.remaining() + CHECKSUM_SIZE;
+
+        if (recordSize > options.segmentSize()) {
+            throw new IllegalArgumentException("Command doesn't fit in a journal segment: " + command);
+        }
+        if (segment.remaining() < recordSize) {
+            startNextSegment();
+        }
+        prepared = true;
+    }
+
+    /**
+     * Writes the prepared command into the room made for it and forces it to the storage device,
+     * or leaves it to the background thread, depending on {@link JournalOptions}.
+     *
+     * @throws IllegalStateException if no command is prepared
+     * @throws UncheckedIOException if the record can't be forced, it's still in the mapped memory
+     */
+    void commit() {
+        if (!prepared) {
+            throw new IllegalStateException("No command is prepared");
+        }
+        prepared = false;
+
+        checksum.reset();
+        checksum.update(record.duplicate());
+
+        segment.putInt(record.remaining());
+        segment.put(record);
+        segment.putInt((int) checksum.getValue());
+
+        if (syncExecutor == null) {
+            segment.force();
+        } else {
+            unsynced = true;
+        }
+    }
+
+    /**
+     * Forces the current segment to the storage device and starts a new one for the next appends.
+     *
+     * @return the index of the new segment
+     * @throws UncheckedIOException if the new segment can't be created
+     */
+    long startNextSegment() {
+        if (segment != null) {
+            segment.force();
+        }
+
+        segmentIndex++;
+        Path segmentPath = options.directory().resolve(String.format("journal-%016d.log", segmentIndex));
+
+        try (FileChannel channel = FileChannel.open(segmentPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping stays valid after the channel is closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, options.segmentSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal segment " + segmentPath, e);
+        }
+
+        return segmentIndex;
+    }
+
+    /**
+     * Deletes the segment files before the given index, once their changes are covered by a checkpoint.
+     *
+     * @throws UncheckedIOException if a segment file can't be deleted
+     */
+    void deleteSegmentsBefore(long segmentIndex) {
+        try {
+            for (Path segmentPath : listSegments(options.directory())) {
+                if (segmentIndexOf(segmentPath) < segmentIndex) {
+                    Files.delete(segmentPath);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete journal segments in " + options.directory(), e);
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+        segment.force();
+    }
+
+    private ByteBuffer encode(ScoreboardCommand command) {
+        while (true) {
+            try {
+                record.clear();
+                ScoreboardCommandCodec.encode(command, record);
+                return record.flip();
+            } catch (BufferOverflowException e) {
+                record = ByteBuffer.allocate(record.capacity() * 2);
+            }
+        }
+    }
+
+    private void sync() {
+        if (unsynced) {
+            unsynced = false;
+            segment.force();
+        }
+    }
+
+    private static void replaySegment(Path segmentPath, Consumer<ScoreboardCommand> replayer) throws IOException {
+        MappedByteBuffer records;
+        try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+            records = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        CRC32C checksum = new CRC32C();
+        while (records.remaining() >= LENGTH_SIZE) {
+            int length = records.getInt();
+
+            // Zero length is the unused end of the segment, anything else invalid is a torn record
+            if (length <= 0 || length > records.remaining() - CHECKSUM_SIZE) {
+                return;
+            }
+
+            ByteBuffer encoded = records.slice(records.position(), length);
+            records.position(records.position() + length);
+
+            checksum.reset();
+            checksum.update(encoded.duplicate());
+            if ((int) checksum.getValue() != records.getInt()) {
+                return;
+            }
+
+            replayer.accept(ScoreboardCommandCodec.decode(encoded));
+        }
+    }
+
+    private static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(paths
+                    .filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .toList());
+            segments.sort(null);
+            return segments;
+        }
+    }
+
+    private static long segmentIndexOf(Path segmentPath) {
+        Matcher matcher = SEGMENT_NAME.matcher(segmentPath.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private ScheduledExecutorService startSyncExecutor(JournalOptions options) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalNanos = options.syncInterval().toNanos();
+        executor.scheduleWithFixedDelay(this::sync, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        return executor;
+    }
+}
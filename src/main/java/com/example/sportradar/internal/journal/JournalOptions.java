@@ -0,0 +1,46 @@
+package com.example.sportradar.internal.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration of the journal of a {@link JournalingScoreboard}.
+ *
+ * @param directory the directory of the segment files of the journal, created if it doesn't exist
+ * @param segmentSize the size in bytes of every segment file, mapped into memory as a whole
+ * @param syncInterval how often the appended records are forced to the storage device, records
+ *                     appended since the last sync may be lost if the machine crashes; with
+ *                     {@link Duration#ZERO} every record is forced before the change returns
+ * @param checkpointInterval how often a snapshot of the scoreboard is written, so the journal
+ *                           before it doesn't need to be replayed and is deleted; with
+ *                           {@link Duration#ZERO} snapshots are written only on request
+ */
+public record JournalOptions(Path directory, int segmentSize, Duration syncInterval, Duration checkpointInterval) {
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10);
+    public static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(1);
+
+    public JournalOptions {
+        Objects.requireNonNull(directory, "Directory cannot be null");
+        Objects.requireNonNull(syncInterval, "Sync interval cannot be null");
+        Objects.requireNonNull(checkpointInterval, "Checkpoint interval cannot be null");
+
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        if (syncInterval.isNegative()) {
+            throw new IllegalArgumentException("Sync interval cannot be negative");
+        }
+        if (checkpointInterval.isNegative()) {
+            throw new IllegalArgumentException("Checkpoint interval cannot be negative");
+        }
+    }
+
+    /**
+     * @return the options with the default segment size, sync interval and checkpoint interval
+     */
+    public static JournalOptions of(Path directory) {
+        return new JournalOptions(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SYNC_INTERVAL, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+}
@@ -0,0 +1,294 @@
+package com.example.sportradar.internal.journal;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.internal.ForwardingScoreboard;
+import com.example.sportradar.internal.ShardedScoreboard;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Decorator of a {@link Scoreboard}, which makes its state durable. Every successful change is
+ * appended to a memory-mapped journal, and when the journal is opened again, its changes are
+ * replayed into the decorated scoreboard, so the scoreboard is restored to its state before the
+ * restart.
+ * <p>
+ * Every change is encoded and given room in the journal before it's applied to the decorated
+ * scoreboard, so a change, which can't be journaled, fails without changing the scoreboard. It's
+ * written to the journal before the call returns, and only if the decorated scoreboard applied it,
+ * so the journal never contains rejected changes. Changes are journaled in the same order they're
+ * applied in, even if the decorated scoreboard is shared between threads. Reads are forwarded to
+ * the decorated scoreboard without any locking.
+ * <p>
+ * The written changes are forced to the storage device together once every
+ * {@link JournalOptions#syncInterval()}, after their calls returned, which is the durability
+ * window: the changes of the last interval survive a restart of the process, but may be lost if
+ * the machine crashes. Only with a sync interval of {@link java.time.Duration#ZERO} is every change
+ * forced before the call returns.
+ * <p>
+ * A checkpoint writes the matches in progress to a snapshot file, so only the journal after it
+ * needs to be replayed when the scoreboard is opened again, and the journal before it is deleted.
+ * Changes are paused only while the matches are copied from the decorated scoreboard, the file is
+ * written while changes continue to be journaled into a new segment.
+ */
+public class JournalingScoreboard extends ForwardingScoreboard implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(JournalingScoreboard.class.getName());
+
+    private final JournalOptions options;
+    private final CommandJournal journal;
+    private final Lock writeLock;
+    // Taken before the write lock, so only one checkpoint is written at a time
+    private final Lock checkpointLock;
+    private final ScheduledExecutorService checkpointExecutor;
+
+    private JournalingScoreboard(Scoreboard delegate, JournalOptions options, CommandJournal journal) {
+        super(delegate);
+        this.options = options;
+        this.journal = journal;
+        this.writeLock = new ReentrantLock();
+        this.checkpointLock = new ReentrantLock();
+        this.checkpointExecutor = options.checkpointInterval().isZero() ? null : startCheckpointExecutor(options);
+    }
+
+    /**
+     * Restores the given scoreboard from the latest snapshot and the journal after it, and opens the
+     * journal for the next changes.
+     *
+     * @param delegate the scoreboard to restore and decorate, normally empty
+     * @param options the configuration of the journal
+     * @return the scoreboard journaling every successful change
+     * @throws IllegalArgumentException if the scoreboard is a {@link ShardedScoreboard}, whose
+     * competitions the journal and the snapshots don't record
+     * @throws UncheckedIOException if the snapshot or the journal can't be read
+     * @throws IllegalStateException if the snapshot is corrupted or can't be restored
+     */
+    public static JournalingScoreboard open(Scoreboard delegate, JournalOptions options) {
+        // Commands don't carry the competition, so every match would be restored into the default one
+        if (delegate instanceof ShardedScoreboard) {
+            throw new IllegalArgumentException("Sharded scoreboard cannot be journaled without its competitions");
+        }
+
+        long firstSegmentIndex = ScoreboardSnapshot.readLatest(options.directory())
+                .map(snapshot -> {
+                    snapshot.restoreInto(delegate);
+                    return snapshot.firstSegmentIndex();
+                })
+                .orElse(0L);
+
+        CommandJournal journal = CommandJournal.open(options, firstSegmentIndex, command -> command.applyTo(delegate));
+        // Segments left behind by a checkpoint interrupted before it deleted them
+        journal.deleteSegmentsBefore(firstSegmentIndex);
+
+        return new JournalingScoreboard(delegate, options, journal);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        journaled(new ScoreboardCommand.StartMatch(homeTeam, awayTeam), () -> {
+            super.startMatch(homeTeam, awayTeam);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        journaled(new ScoreboardCommand.UpdateScore(homeTeam, awayTeam, homeScore, awayScore), () -> {
+            super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        journaled(new ScoreboardCommand.EndMatch(homeTeam, awayTeam), () -> {
+            super.endMatch(homeTeam, awayTeam);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return journaled(new ScoreboardCommand.StartMatch(homeTeam, awayTeam),
+                () -> super.tryStartMatch(homeTeam, awayTeam));
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return journaled(new ScoreboardCommand.UpdateScore(homeTeam, awayTeam, homeScore, awayScore),
+                () -> super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        return journaled(new ScoreboardCommand.EndMatch(homeTeam, awayTeam),
+                () -> super.tryEndMatch(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        journaled(new ScoreboardCommand.RecordGoal(homeTeam, awayTeam, side), () -> {
+            super.recordGoal(homeTeam, awayTeam, side);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        return journaled(new ScoreboardCommand.RecordGoal(homeTeam, awayTeam, side),
+                () -> super.tryRecordGoal(homeTeam, awayTeam, side));
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        ScoreboardCommand command = new ScoreboardCommand.SequencedUpdateScore(
+                homeTeam, awayTeam, homeScore, awayScore, sequence
+        );
+        return journaled(command, () -> super.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence));
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        ScoreboardCommand command = new ScoreboardCommand.SequencedUpdateScore(
+                homeTeam, awayTeam, homeScore, awayScore, sequence
+        );
+        return journaled(command, () -> super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence));
+    }
+
+    // Commands are journaled one by one like the single changes, so a command, which can't be journaled,
+    // fails without being applied. The write lock is held for the whole batch, so it's journaled in one piece.
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        writeLock.lock();
+        try {
+            throwIfClosed();
+            List<BatchResult.Failure> failures = new ArrayList<>();
+
+            for (int i = 0; i < commands.size(); i++) {
+                ScoreboardCommand command = commands.get(i);
+
+                try {
+                    if (command == null) {
+                        throw new IllegalArgumentException("Command cannot be null");
+                    }
+                    command.applyTo(this);
+                } catch (RuntimeException e) {
+                    failures.add(new BatchResult.Failure(i, command, e));
+                }
+            }
+
+            return new BatchResult(commands.size(), failures);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the matches in progress and deletes the journal covered by it. Changes
+     * are paused only while the matches are copied from the decorated scoreboard.
+     *
+     * @throws IllegalStateException if the scoreboard is closed
+     * @throws UncheckedIOException if the snapshot can't be written
+     */
+    public void checkpoint() {
+        checkpointLock.lock();
+        try {
+            List<ScoreboardSnapshot.VersionedMatch> matches;
+            long firstSegmentIndex;
+
+            writeLock.lock();
+            try {
+                throwIfClosed();
+                matches = ScoreboardSnapshot.matchesOf(delegate());
+                firstSegmentIndex = journal.startNextSegment();
+            } finally {
+                writeLock.unlock();
+            }
+
+            new ScoreboardSnapshot(firstSegmentIndex, matches).writeTo(options.directory());
+            journal.deleteSegmentsBefore(firstSegmentIndex);
+            ScoreboardSnapshot.syncDirectory(options.directory());
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a checkpoint in progress, forces the journal to the storage device and closes it.
+     * Changes made through this decorator after it's closed are rejected with
+     * {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (checkpointExecutor != null) {
+            checkpointExecutor.shutdown();
+        }
+
+        checkpointLock.lock();
+        writeLock.lock();
+        try {
+            journal.close();
+        } finally {
+            writeLock.unlock();
+            checkpointLock.unlock();
+        }
+    }
+
+    private ScheduledExecutorService startCheckpointExecutor(JournalOptions options) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalNanos = options.checkpointInterval().toNanos();
+        executor.scheduleWithFixedDelay(this::checkpointQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        return executor;
+    }
+
+    // Failed periodic checkpoint is retried at the next interval, the journal still has all the changes
+    private void checkpointQuietly() {
+        try {
+            if (!journal.isClosed()) {
+                checkpoint();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Periodic checkpoint failed", e);
+        }
+    }
+
+    // The command is prepared in the journal before the change, so everything that can fail to journal it
+    // fails before the change is applied, and written once the change is applied
+    private MutationStatus journaled(ScoreboardCommand command, Supplier<MutationStatus> change) {
+        writeLock.lock();
+        try {
+            throwIfClosed();
+            journal.prepare(command);
+
+            MutationStatus status = change.get();
+            if (status.isApplied()) {
+                journal.commit();
+            }
+            return status;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void throwIfClosed() {
+        if (journal.isClosed()) {
+            throw new IllegalStateException("Journaling scoreboard is closed");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.sportradar.internal.journal;
+
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact binary encoding of {@link ScoreboardCommand}s: a type byte followed by the team names as
+ * length-prefixed UTF-8, the scores as 32-bit integers, the side of a goal as a byte and the
+ * sequence of an update as a 64-bit integer.
+ */
+public final class ScoreboardCommandCodec {
+    private static final byte START_MATCH = 1;
+    private static final byte UPDATE_SCORE = 2;
+    private static final byte END_MATCH = 3;
+    private static final byte RECORD_GOAL = 4;
+    private static final byte SEQUENCED_UPDATE_SCORE = 5;
+    private static final Side[] SIDES = Side.values();
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+
+    private ScoreboardCommandCodec() {
+    }
+
+    /**
+     * Writes the command at the position of the buffer and advances the position past it.
+     *
+     * @throws BufferOverflowException if the command doesn't fit in the remaining space of the buffer
+     * @throws IllegalArgumentException if a team name or the side of a goal is null, or a team name is
+     * longer than 65535 bytes in UTF-8
+     */
+    public static void encode(ScoreboardCommand command, ByteBuffer target) {
+        if (command instanceof ScoreboardCommand.StartMatch startMatch) {
+            target.put(START_MATCH);
+            putTeams(target, startMatch.homeTeam(), startMatch.awayTeam());
+        } else if (command instanceof ScoreboardCommand.UpdateScore updateScore) {
+            target.put(UPDATE_SCORE);
+            putTeams(target, updateScore.homeTeam(), updateScore.awayTeam());
+            target.putInt(updateScore.homeScore());
+            target.putInt(updateScore.awayScore());
+        } else if (command instanceof ScoreboardCommand.EndMatch endMatch) {
+            target.put(END_MATCH);
+            putTeams(target, endMatch.homeTeam(), endMatch.awayTeam());
+        } else if (command instanceof ScoreboardCommand.RecordGoal recordGoal) {
+            target.put(RECORD_GOAL);
+            putTeams(target, recordGoal.homeTeam(), recordGoal.awayTeam());
+            putSide(target, recordGoal.side());
+        } else if (command instanceof ScoreboardCommand.SequencedUpdateScore updateScore) {
+            target.put(SEQUENCED_UPDATE_SCORE);
+            putTeams(target, updateScore.homeTeam(), updateScore.awayTeam());
+            target.putInt(updateScore.homeScore());
+            target.putInt(updateScore.awayScore());
+            target.putLong(updateScore.sequence());
+        }
+    }
+
+    /**
+     * Reads the command at the position of the buffer and advances the position past it.
+     *
+     * @throws IllegalArgumentException if the buffer doesn't contain a valid command
+     */
+    public static ScoreboardCommand decode(ByteBuffer source) {
+        byte type = source.get();
+
+        return switch (type) {
+            case START_MATCH -> new ScoreboardCommand.StartMatch(getName(source), getName(source));
+            case UPDATE_SCORE -> new ScoreboardCommand.UpdateScore(
+                    getName(source), getName(source), source.getInt(), source.getInt()
+            );
+            case END_MATCH -> new ScoreboardCommand.EndMatch(getName(source), getName(source));
+            case RECORD_GOAL -> new ScoreboardCommand.RecordGoal(getName(source), getName(source), getSide(source));
+            case SEQUENCED_UPDATE_SCORE -> new ScoreboardCommand.SequencedUpdateScore(
+                    getName(source), getName(source), source.getInt(), source.getInt(), source.getLong()
+            );
+            default -> throw new IllegalArgumentException("Unknown command type: " + type);
+        };
+    }
+
+    private static void putTeams(ByteBuffer target, String homeTeam, String awayTeam) {
+        putName(target, homeTeam);
+        putName(target, awayTeam);
+    }
+
+    private static void putSide(ByteBuffer target, Side side) {
+        if (side == null) {
+            throw new IllegalArgumentException("Side cannot be null");
+        }
+
+        target.put((byte) side.ordinal());
+    }
+
+    private static Side getSide(ByteBuffer source) {
+        byte side = source.get();
+
+        if (side < 0 || side >= SIDES.length) {
+            throw new IllegalArgumentException("Unknown side: " + side);
+        }
+
+        return SIDES[side];
+    }
+
+    static void putName(ByteBuffer target, String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Team names cannot be null");
+        }
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Team name is too long to encode: " + name);
+        }
+
+        target.putShort((short) bytes.length);
+        target.put(bytes);
+    }
+
+    static String getName(ByteBuffer source) {
+        byte[] bytes = new byte[Short.toUnsignedInt(source.getShort())];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
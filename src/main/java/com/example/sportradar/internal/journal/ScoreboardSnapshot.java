@@ -0,0 +1,269 @@
+package com.example.sportradar.internal.journal;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static com.example.sportradar.internal.journal.ScoreboardCommandCodec.getName;
+import static com.example.sportradar.internal.journal.ScoreboardCommandCodec.putName;
+
+/**
+ * Checkpoint of the matches in progress of a scoreboard, together with the index of the first
+ * journal segment, whose changes aren't included in it. The scoreboard is restored by applying the
+ * snapshot and replaying only the segments from that index.
+ * <p>
+ * The file is a header with the format version, the segment index and the number of matches, then
+ * the matches in the order they were started as length-prefixed UTF-8 team names, scores and
+ * versions, and a CRC32C checksum of everything before it. It's written to a temporary file,
+ * forced to the storage device and renamed, so a snapshot file is either complete or doesn't exist
+ * at all.
+ *
+ * @param firstSegmentIndex the index of the first journal segment to replay after the snapshot
+ * @param matches the matches in progress in the order they were started, with their versions
+ */
+record ScoreboardSnapshot(long firstSegmentIndex, List<VersionedMatch> matches) {
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d{16})\\.snap");
+    private static final int MAGIC = 0x53425353;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    // Two names of at most 65535 bytes with their lengths, two scores and the version
+    private static final int MAX_MATCH_SIZE = 2 * (Short.BYTES + 0xFFFF) + 2 * Integer.BYTES + Long.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Copies the matches in progress of the scoreboard in the order they were started, with their
+     * versions. The scoreboard mustn't change during the copy.
+     */
+    static List<VersionedMatch> matchesOf(Scoreboard scoreboard) {
+        List<MatchScore> matchesInStartOrder = scoreboard.getMatchesInStartOrder();
+        List<VersionedMatch> matches = new ArrayList<>(matchesInStartOrder.size());
+
+        for (MatchScore match : matchesInStartOrder) {
+            matches.add(new VersionedMatch(match, scoreboard.getMatchVersion(match.homeTeam(), match.awayTeam())));
+        }
+
+        return matches;
+    }
+
+    /**
+     * Reads the most recent snapshot in the directory.
+     *
+     * @return the snapshot, empty if the directory doesn't contain any
+     * @throws IllegalStateException if the snapshot file is corrupted
+     * @throws UncheckedIOException if the snapshot file can't be read
+     */
+    static Optional<ScoreboardSnapshot> readLatest(Path directory) {
+        try {
+            if (!Files.isDirectory(directory)) {
+                return Optional.empty();
+            }
+
+            List<Path> snapshots = listSnapshots(directory);
+            if (snapshots.isEmpty()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(read(snapshots.get(snapshots.size() - 1)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot in " + directory, e);
+        }
+    }
+
+    /**
+     * Writes the snapshot to the directory and deletes the snapshots written before it.
+     *
+     * @throws IllegalArgumentException if a team name is longer than 65535 bytes in UTF-8
+     * @throws UncheckedIOException if the snapshot file can't be written
+     */
+    void writeTo(Path directory) {
+        Path path = directory.resolve(String.format("snapshot-%016d.snap", firstSegmentIndex));
+        Path temporaryPath = directory.resolve(path.getFileName() + ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeContent(channel);
+                channel.force(true);
+            }
+
+            Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory(directory);
+
+            for (Path snapshot : listSnapshots(directory)) {
+                if (snapshotIndexOf(snapshot) < firstSegmentIndex) {
+                    Files.delete(snapshot);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Starts the matches of the snapshot on the scoreboard in their start order and sets their
+     * scores and versions, in a single batch.
+     *
+     * @throws IllegalStateException if a match can't be restored, e.g. the scoreboard isn't empty
+     */
+    void restoreInto(Scoreboard scoreboard) {
+        List<ScoreboardCommand> commands = new ArrayList<>(matches.size() * 2);
+
+        for (VersionedMatch versionedMatch : matches) {
+            MatchScore match = versionedMatch.score();
+            commands.add(new ScoreboardCommand.StartMatch(match.homeTeam(), match.awayTeam()));
+
+            if (versionedMatch.version() > 0) {
+                commands.add(new ScoreboardCommand.SequencedUpdateScore(
+                        match.homeTeam(), match.awayTeam(), match.homeScore(), match.awayScore(),
+                        versionedMatch.version()
+                ));
+            } else if (match.homeScore() != Scoreboard.INITIAL_SCORE
+                    || match.awayScore() != Scoreboard.INITIAL_SCORE) {
+                commands.add(new ScoreboardCommand.UpdateScore(
+                        match.homeTeam(), match.awayTeam(), match.homeScore(), match.awayScore()
+                ));
+            }
+        }
+
+        BatchResult result = scoreboard.applyBatch(commands);
+        if (!result.isSuccessful()) {
+            throw new IllegalStateException("Snapshot cannot be restored", result.failures().get(0).exception());
+        }
+    }
+
+    // Forcing a directory makes the renames and deletions in it durable, not supported on every platform
+    static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Best effort, the files themselves are already forced
+        }
+    }
+
+    private void writeContent(FileChannel channel) throws IOException {
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+
+        buffer.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(firstSegmentIndex)
+                .putInt(matches.size());
+
+        for (VersionedMatch versionedMatch : matches) {
+            if (buffer.remaining() < MAX_MATCH_SIZE) {
+                flush(channel, buffer, checksum);
+            }
+
+            MatchScore match = versionedMatch.score();
+            putName(buffer, match.homeTeam());
+            putName(buffer, match.awayTeam());
+            buffer.putInt(match.homeScore());
+            buffer.putInt(match.awayScore());
+            buffer.putLong(versionedMatch.version());
+        }
+
+        flush(channel, buffer, checksum);
+        buffer.putInt((int) checksum.getValue()).flip();
+        writeFully(channel, buffer);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ScoreboardSnapshot read(Path path) throws IOException {
+        ByteBuffer content;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || size > Integer.MAX_VALUE) {
+                throw corrupted(path);
+            }
+
+            content = ByteBuffer.allocate((int) size);
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                // Read until the buffer is full
+            }
+            content.flip();
+        }
+
+        int checksumPosition = content.limit() - CHECKSUM_SIZE;
+        CRC32C checksum = new CRC32C();
+        checksum.update(content.slice(0, checksumPosition));
+
+        if ((int) checksum.getValue() != content.getInt(checksumPosition) || content.getInt() != MAGIC) {
+            throw corrupted(path);
+        }
+
+        if (content.getInt() != FORMAT_VERSION) {
+            throw corrupted(path);
+        }
+
+        long firstSegmentIndex = content.getLong();
+        int matchCount = content.getInt();
+        List<VersionedMatch> matches = new ArrayList<>(matchCount);
+
+        for (int i = 0; i < matchCount; i++) {
+            MatchScore match = new MatchScore(getName(content), getName(content), content.getInt(), content.getInt());
+            matches.add(new VersionedMatch(match, content.getLong()));
+        }
+
+        return new ScoreboardSnapshot(firstSegmentIndex, matches);
+    }
+
+    private static IllegalStateException corrupted(Path path) {
+        return new IllegalStateException("Snapshot is corrupted: " + path);
+    }
+
+    private static List<Path> listSnapshots(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            List<Path> snapshots = new ArrayList<>(paths
+                    .filter(path -> SNAPSHOT_NAME.matcher(path.getFileName().toString()).matches())
+                    .toList());
+            snapshots.sort(null);
+            return snapshots;
+        }
+    }
+
+    private static long snapshotIndexOf(Path snapshotPath) {
+        Matcher matcher = SNAPSHOT_NAME.matcher(snapshotPath.getFileName().toString());
+        matcher.matches();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * Match in progress together with its version, which isn't part of {@link MatchScore}.
+     *
+     * @param score the teams and the score of the match
+     * @param version the version of the match, 0 if it wasn't updated with a sequence
+     */
+    record VersionedMatch(MatchScore score, long version) {
+    }
+}
@@ -0,0 +1,448 @@
+package com.example.sportradar.internal.metrics;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.api.exceptions.MatchAlreadyExistsException;
+import com.example.sportradar.api.exceptions.MatchNotFoundException;
+import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
+import com.example.sportradar.internal.ForwardingScoreboard;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of a {@link Scoreboard}, which records the cost of its operations. Every call is timed
+ * into a latency histogram of its {@link ScoreboardOperation}, rejected changes are counted by the
+ * type of the exception, which rejected them, and the number of matches in progress is tracked
+ * from the changes, which succeeded. The metrics are available from {@link #metrics()}, from an
+ * MXBean registered with {@link #registerMXBean()} and as Flight Recorder events: a periodic
+ * {@code com.example.sportradar.ScoreboardStatistics} event with the counters, registered with
+ * {@link #registerStatisticsEvent()}, and a {@code com.example.sportradar.ScoreboardOperation} event
+ * of every call taking at least the threshold of the recording, 1 ms by default.
+ * <p>
+ * The number of matches in progress is counted from the changes made through the decorator, so
+ * the decorator must be the only writer of the decorated scoreboard; the count drifts if the
+ * decorated scoreboard is changed any other way. It's counted rather than read from the decorated
+ * scoreboard, so the MXBean and the periodic event don't read a scoreboard, which isn't
+ * thread-safe, from their own threads.
+ * <p>
+ * Recording doesn't take locks and doesn't allocate, it's a few atomic increments per call, so the
+ * decorator can stay on in production. Only while a Flight Recorder recording has the operation
+ * event enabled, every call creates its event. It's thread-safe if the decorated scoreboard is.
+ */
+public class InstrumentedScoreboard extends ForwardingScoreboard implements AutoCloseable {
+    private static final String APPLIED = MutationStatus.APPLIED.name();
+    private static final EventType OPERATION_EVENT_TYPE = EventType.getEventType(ScoreboardOperationEvent.class);
+
+    private final String name;
+    private final LatencyHistogram[] latencies;
+    private final Map<Class<?>, LongAdder> rejections;
+    private final LongAdder liveMatches;
+    private final Runnable statisticsHook;
+    private ObjectName mxBeanName;
+    private boolean statisticsEventRegistered;
+
+    /**
+     * @param delegate the scoreboard to instrument, the matches already in progress are counted,
+     *                 any later change has to be made through the decorator
+     * @param name the name of the scoreboard in the events and the MXBean
+     */
+    public InstrumentedScoreboard(Scoreboard delegate, String name) {
+        super(delegate);
+        this.name = name;
+        this.latencies = new LatencyHistogram[ScoreboardOperation.values().length];
+        this.rejections = new ConcurrentHashMap<>();
+        this.liveMatches = new LongAdder();
+        this.statisticsHook = this::emitStatistics;
+
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+        liveMatches.add(delegate.getMatchSummary().size());
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        try {
+            super.startMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.START_MATCH, start, event, e.getClass());
+            throw e;
+        }
+        liveMatches.increment();
+        record(ScoreboardOperation.START_MATCH, start, event, APPLIED);
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        try {
+            super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.UPDATE_SCORE, start, event, e.getClass());
+            throw e;
+        }
+        record(ScoreboardOperation.UPDATE_SCORE, start, event, APPLIED);
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        try {
+            super.endMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.END_MATCH, start, event, e.getClass());
+            throw e;
+        }
+        liveMatches.decrement();
+        record(ScoreboardOperation.END_MATCH, start, event, APPLIED);
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        try {
+            super.recordGoal(homeTeam, awayTeam, side);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.UPDATE_SCORE, start, event, e.getClass());
+            throw e;
+        }
+        record(ScoreboardOperation.UPDATE_SCORE, start, event, APPLIED);
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                      long sequence) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        MutationStatus status;
+        try {
+            status = super.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.UPDATE_SCORE, start, event, e.getClass());
+            throw e;
+        }
+        record(ScoreboardOperation.UPDATE_SCORE, start, event, status);
+        return status;
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        MutationStatus status;
+        try {
+            status = super.tryStartMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.START_MATCH, start, event, e.getClass());
+            throw e;
+        }
+        if (status.isApplied()) {
+            liveMatches.increment();
+        }
+        record(ScoreboardOperation.START_MATCH, start, event, status);
+        return status;
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        MutationStatus status;
+        try {
+            status = super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.UPDATE_SCORE, start, event, e.getClass());
+            throw e;
+        }
+        record(ScoreboardOperation.UPDATE_SCORE, start, event, status);
+        return status;
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        MutationStatus status;
+        try {
+            status = super.tryRecordGoal(homeTeam, awayTeam, side);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.UPDATE_SCORE, start, event, e.getClass());
+            throw e;
+        }
+        record(ScoreboardOperation.UPDATE_SCORE, start, event, status);
+        return status;
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        MutationStatus status;
+        try {
+            status = super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.UPDATE_SCORE, start, event, e.getClass());
+            throw e;
+        }
+        record(ScoreboardOperation.UPDATE_SCORE, start, event, status);
+        return status;
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        MutationStatus status;
+        try {
+            status = super.tryEndMatch(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            recordRejection(ScoreboardOperation.END_MATCH, start, event, e.getClass());
+            throw e;
+        }
+        if (status.isApplied()) {
+            liveMatches.decrement();
+        }
+        record(ScoreboardOperation.END_MATCH, start, event, status);
+        return status;
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        List<MatchScore> summary = super.getMatchSummary();
+        record(ScoreboardOperation.GET_MATCH_SUMMARY, start, event, APPLIED);
+        return summary;
+    }
+
+    @Override
+    public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        super.forEachInSummaryOrder(visitor);
+        record(ScoreboardOperation.GET_MATCH_SUMMARY, start, event, APPLIED);
+    }
+
+    @Override
+    public List<MatchScore> getTopMatches(int count) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        List<MatchScore> topMatches = super.getTopMatches(count);
+        record(ScoreboardOperation.GET_MATCH_SUMMARY, start, event, APPLIED);
+        return topMatches;
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        List<MatchScore> page = super.getMatchSummary(offset, limit);
+        record(ScoreboardOperation.GET_MATCH_SUMMARY, start, event, APPLIED);
+        return page;
+    }
+
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        List<MatchScore> matches = super.getMatchesWithTotalScoreAtLeast(minTotalScore);
+        record(ScoreboardOperation.GET_MATCH_SUMMARY, start, event, APPLIED);
+        return matches;
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        Optional<MatchScore> match = super.findMatchByTeam(team);
+        record(ScoreboardOperation.FIND_MATCH, start, event, APPLIED);
+        return match;
+    }
+
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        ScoreboardOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+        BatchResult result = super.applyBatch(commands);
+
+        List<BatchResult.Failure> failures = result.failures();
+        int nextFailure = 0;
+        for (int i = 0; i < commands.size(); i++) {
+            if (nextFailure < failures.size() && failures.get(nextFailure).index() == i) {
+                rejections(failures.get(nextFailure).exception().getClass()).increment();
+                nextFailure++;
+            } else if (commands.get(i) instanceof ScoreboardCommand.StartMatch) {
+                liveMatches.increment();
+            } else if (commands.get(i) instanceof ScoreboardCommand.EndMatch) {
+                liveMatches.decrement();
+            }
+        }
+
+        record(ScoreboardOperation.APPLY_BATCH, start, event, APPLIED);
+        return result;
+    }
+
+    /**
+     * Returns the metrics recorded since the scoreboard was created.
+     */
+    public ScoreboardMetrics metrics() {
+        Map<ScoreboardOperation, LatencyStatistics> statistics = new EnumMap<>(ScoreboardOperation.class);
+        for (ScoreboardOperation operation : ScoreboardOperation.values()) {
+            statistics.put(operation, latencies[operation.ordinal()].statistics());
+        }
+
+        Map<String, Long> rejectionCounts = new HashMap<>();
+        rejections.forEach((type, count) -> rejectionCounts.put(type.getSimpleName(), count.sum()));
+
+        return new ScoreboardMetrics(liveMatches.sum(), statistics, rejectionCounts);
+    }
+
+    /**
+     * Registers the {@link ScoreboardMetricsMXBean} of the scoreboard with the platform MBean server
+     * under {@code com.example.sportradar:type=Scoreboard,name=<name>}. It's unregistered when the
+     * scoreboard is closed.
+     *
+     * @return the name of the registered MXBean
+     * @throws IllegalStateException if the MXBean can't be registered, e.g. because another
+     * scoreboard with the same name registered it
+     */
+    public synchronized ObjectName registerMXBean() {
+        if (mxBeanName != null) {
+            return mxBeanName;
+        }
+
+        try {
+            ObjectName objectName = ObjectName.getInstance("com.example.sportradar:type=Scoreboard,name="
+                    + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new ScoreboardMetricsBean(this), objectName);
+            mxBeanName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register MXBean of scoreboard " + name, e);
+        }
+    }
+
+    /**
+     * Registers the periodic {@code com.example.sportradar.ScoreboardStatistics} Flight Recorder
+     * event of the scoreboard, emitted at the period of the recordings, which enable it. Flight
+     * Recorder holds the scoreboard until it's closed, so a scoreboard, which registers the event,
+     * has to be closed.
+     */
+    public synchronized void registerStatisticsEvent() {
+        if (!statisticsEventRegistered) {
+            FlightRecorder.addPeriodicEvent(ScoreboardStatisticsEvent.class, statisticsHook);
+            statisticsEventRegistered = true;
+        }
+    }
+
+    /**
+     * Stops the periodic statistics event and unregisters the MXBean. The decorated scoreboard
+     * isn't closed and calls are still forwarded and recorded.
+     */
+    @Override
+    public synchronized void close() {
+        if (statisticsEventRegistered) {
+            FlightRecorder.removePeriodicEvent(statisticsHook);
+            statisticsEventRegistered = false;
+        }
+
+        if (mxBeanName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.unregisterMBean(mxBeanName);
+            } catch (JMException e) {
+                // Already unregistered through the MBean server
+            }
+            mxBeanName = null;
+        }
+    }
+
+    private void record(ScoreboardOperation operation, long start, ScoreboardOperationEvent event,
+                        MutationStatus status) {
+        switch (status) {
+            case APPLIED -> record(operation, start, event, APPLIED);
+            // Discarded, but not rejected, the update was only late
+            case STALE_UPDATE -> record(operation, start, event, status.name());
+            case MATCH_NOT_FOUND -> recordRejection(operation, start, event, MatchNotFoundException.class);
+            case MATCH_ALREADY_EXISTS -> recordRejection(operation, start, event, MatchAlreadyExistsException.class);
+            case HOME_TEAM_IN_MATCH, AWAY_TEAM_IN_MATCH ->
+                    recordRejection(operation, start, event, TeamAlreadyInMatchException.class);
+        }
+    }
+
+    private void recordRejection(ScoreboardOperation operation, long start, ScoreboardOperationEvent event,
+                                 Class<?> exceptionType) {
+        rejections(exceptionType).increment();
+        record(operation, start, event, exceptionType.getSimpleName());
+    }
+
+    private void record(ScoreboardOperation operation, long start, ScoreboardOperationEvent event, String outcome) {
+        latencies[operation.ordinal()].record(System.nanoTime() - start);
+
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.scoreboard = name;
+            event.operation = operation.name();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    // The event is created only while a recording has it enabled, so calls don't allocate otherwise
+    private static ScoreboardOperationEvent beginEvent() {
+        if (!OPERATION_EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+
+        ScoreboardOperationEvent event = new ScoreboardOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    private LongAdder rejections(Class<?> exceptionType) {
+        // Allocates only for the first rejection of the type
+        LongAdder count = rejections.get(exceptionType);
+        return count != null ? count : rejections.computeIfAbsent(exceptionType, type -> new LongAdder());
+    }
+
+    private void emitStatistics() {
+        ScoreboardStatisticsEvent event = new ScoreboardStatisticsEvent();
+        event.scoreboard = name;
+        event.liveMatches = liveMatches.sum();
+        event.changes = count(ScoreboardOperation.START_MATCH) + count(ScoreboardOperation.UPDATE_SCORE)
+                + count(ScoreboardOperation.END_MATCH) + count(ScoreboardOperation.APPLY_BATCH);
+        event.summaryReads = count(ScoreboardOperation.GET_MATCH_SUMMARY);
+        event.rejections = rejections.values().stream().mapToLong(LongAdder::sum).sum();
+        event.commit();
+    }
+
+    private long count(ScoreboardOperation operation) {
+        return latencies[operation.ordinal()].count();
+    }
+}
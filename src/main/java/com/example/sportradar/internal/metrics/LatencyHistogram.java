@@ -0,0 +1,119 @@
+package com.example.sportradar.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with buckets of logarithmic width. A value is
+ * counted in the bucket given by its highest set bit and the two bits after it, so every bucket is
+ * at most a quarter of its lower bound wide and percentiles are reported within 25% of the exact
+ * value. Recording a value is a few atomic increments of preallocated counters and doesn't allocate.
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values below SUB_BUCKETS have a bucket of their own, every higher power of two has SUB_BUCKETS
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * Records the latency, a negative latency is recorded as zero.
+     */
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+
+        counts.incrementAndGet(bucketOf(value));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     */
+    long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the statistics of the latencies recorded so far. Latencies recorded concurrently may
+     * be included only partially, e.g. in the count but not yet in the maximum.
+     */
+    LatencyStatistics statistics() {
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+
+        long max = maxNanos.get();
+        double mean = count == 0 ? 0 : (double) totalNanos.sum() / count;
+
+        return new LatencyStatistics(count, mean,
+                percentile(snapshot, count, 0.5, max),
+                percentile(snapshot, count, 0.9, max),
+                percentile(snapshot, count, 0.99, max),
+                percentile(snapshot, count, 0.999, max),
+                max);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // The highest value counted in the bucket
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = bucket / SUB_BUCKETS - 1;
+        if (shift >= Long.SIZE - SUB_BUCKET_BITS - 1) {
+            // Bounds of the highest power of two don't fit into a long
+            return Long.MAX_VALUE;
+        }
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long count, double percentile, long max) {
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * count);
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+
+        return max;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.sportradar.internal.metrics;
+
+/**
+ * Statistics of the latencies of an operation of the scoreboard. The percentiles are the upper
+ * bounds of the buckets of the histogram they fall in, so they may be up to 25% higher than the
+ * exact values, but never higher than the maximum.
+ *
+ * @param count the number of recorded calls
+ * @param meanNanos the mean latency in nanoseconds
+ * @param p50Nanos the median latency in nanoseconds
+ * @param p90Nanos the 90th percentile of the latency in nanoseconds
+ * @param p99Nanos the 99th percentile of the latency in nanoseconds
+ * @param p999Nanos the 99.9th percentile of the latency in nanoseconds
+ * @param maxNanos the maximum latency in nanoseconds
+ */
+public record LatencyStatistics(long count, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                                long p999Nanos, long maxNanos) {
+}
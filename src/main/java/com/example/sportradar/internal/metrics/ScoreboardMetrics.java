@@ -0,0 +1,27 @@
+package com.example.sportradar.internal.metrics;
+
+import java.util.Map;
+
+/**
+ * Metrics of an {@link InstrumentedScoreboard} at a point in time.
+ *
+ * @param liveMatches the number of matches in progress
+ * @param latencies the statistics of the latencies of every operation
+ * @param rejections the number of rejected changes by the simple name of the exception type, which
+ * rejected them or would have rejected them for the {@code try} variants
+ */
+public record ScoreboardMetrics(long liveMatches, Map<ScoreboardOperation, LatencyStatistics> latencies,
+                                Map<String, Long> rejections) {
+
+    public ScoreboardMetrics {
+        latencies = Map.copyOf(latencies);
+        rejections = Map.copyOf(rejections);
+    }
+
+    /**
+     * Returns the number of changes rejected with the given exception type.
+     */
+    public long rejections(Class<? extends RuntimeException> exceptionType) {
+        return rejections.getOrDefault(exceptionType.getSimpleName(), 0L);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sportradar.internal.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Adapter of {@link InstrumentedScoreboard#metrics()} to {@link ScoreboardMetricsMXBean}.
+ */
+class ScoreboardMetricsBean implements ScoreboardMetricsMXBean {
+    private final InstrumentedScoreboard scoreboard;
+
+    ScoreboardMetricsBean(InstrumentedScoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+    }
+
+    @Override
+    public long getLiveMatches() {
+        return scoreboard.metrics().liveMatches();
+    }
+
+    @Override
+    public Map<String, Long> getRejections() {
+        return new TreeMap<>(scoreboard.metrics().rejections());
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return latencies(LatencyStatistics::count);
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatencyNanos() {
+        return latencies(LatencyStatistics::meanNanos);
+    }
+
+    @Override
+    public Map<String, Long> getP50LatencyNanos() {
+        return latencies(LatencyStatistics::p50Nanos);
+    }
+
+    @Override
+    public Map<String, Long> getP99LatencyNanos() {
+        return latencies(LatencyStatistics::p99Nanos);
+    }
+
+    @Override
+    public Map<String, Long> getP999LatencyNanos() {
+        return latencies(LatencyStatistics::p999Nanos);
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencyNanos() {
+        return latencies(LatencyStatistics::maxNanos);
+    }
+
+    private <T> Map<String, T> latencies(Function<LatencyStatistics, T> statistic) {
+        Map<String, T> values = new TreeMap<>();
+        scoreboard.metrics().latencies()
+                .forEach((operation, statistics) -> values.put(operation.name(), statistic.apply(statistics)));
+        return values;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.sportradar.internal.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of an {@link InstrumentedScoreboard}, registered with
+ * {@link InstrumentedScoreboard#registerMXBean()}. Maps of latencies are keyed by the name of the
+ * {@link ScoreboardOperation}.
+ */
+public interface ScoreboardMetricsMXBean {
+
+    long getLiveMatches();
+
+    Map<String, Long> getRejections();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Double> getMeanLatencyNanos();
+
+    Map<String, Long> getP50LatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    Map<String, Long> getP999LatencyNanos();
+
+    Map<String, Long> getMaxLatencyNanos();
+}
@@ -0,0 +1,32 @@
+package com.example.sportradar.internal.metrics;
+
+/**
+ * The operations of the scoreboard, which latencies are recorded by {@link InstrumentedScoreboard}.
+ */
+public enum ScoreboardOperation {
+    /**
+     * Starting a match, including {@code tryStartMatch}.
+     */
+    START_MATCH,
+    /**
+     * Updating a score, including {@code tryUpdateScore}.
+     */
+    UPDATE_SCORE,
+    /**
+     * Ending a match, including {@code tryEndMatch}.
+     */
+    END_MATCH,
+    /**
+     * Reading the summary, including its top matches, its pages and the matches with a total score
+     * of at least a given score.
+     */
+    GET_MATCH_SUMMARY,
+    /**
+     * Looking up the match of a team.
+     */
+    FIND_MATCH,
+    /**
+     * Applying a batch of commands.
+     */
+    APPLY_BATCH
+}
@@ -0,0 +1,31 @@
+package com.example.sportradar.internal.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event of a call of the scoreboard, which took at least the threshold of the
+ * recording. The event object is created only while a recording has the event enabled.
+ */
+@Name("com.example.sportradar.ScoreboardOperation")
+@Label("Scoreboard Operation")
+@Category("Scoreboard")
+@Description("Call of a scoreboard operation")
+@Threshold("1 ms")
+@StackTrace(false)
+class ScoreboardOperationEvent extends Event {
+    @Label("Scoreboard")
+    String scoreboard;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("APPLIED, or the simple name of the exception type, which rejected the call")
+    String outcome;
+}
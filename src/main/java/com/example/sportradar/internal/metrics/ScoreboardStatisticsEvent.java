@@ -0,0 +1,36 @@
+package com.example.sportradar.internal.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic Flight Recorder event with the counters of an {@link InstrumentedScoreboard}.
+ */
+@Name("com.example.sportradar.ScoreboardStatistics")
+@Label("Scoreboard Statistics")
+@Category("Scoreboard")
+@Description("Matches in progress and calls of a scoreboard")
+@Period("1 s")
+@StackTrace(false)
+class ScoreboardStatisticsEvent extends Event {
+    @Label("Scoreboard")
+    String scoreboard;
+
+    @Label("Live Matches")
+    long liveMatches;
+
+    @Label("Changes")
+    @Description("Calls of start, update and end operations and batches since the scoreboard was created")
+    long changes;
+
+    @Label("Summary Reads")
+    long summaryReads;
+
+    @Label("Rejections")
+    long rejections;
+}
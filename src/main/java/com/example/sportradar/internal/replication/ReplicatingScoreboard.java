@@ -0,0 +1,439 @@
+package com.example.sportradar.internal.replication;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.internal.ForwardingScoreboard;
+import com.example.sportradar.internal.ShardedScoreboard;
+import com.example.sportradar.internal.journal.ScoreboardCommandCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Decorator of a {@link Scoreboard}, which makes it the primary of any number of read replicas.
+ * Every successful change gets the next sequence number and is streamed in that order over TCP to
+ * every connected {@link ScoreboardReplica}. A replica, which connects, first receives a snapshot
+ * of the matches in progress together with the sequence of the last change it includes, and then
+ * every change after it.
+ * <p>
+ * Every change is encoded before it's applied to the decorated scoreboard, so a change, which
+ * can't be replicated, fails without changing the scoreboard. It's replicated only if the decorated
+ * scoreboard applied it, in the same order they're applied in, even if the decorated scoreboard is
+ * shared between threads.
+ * All the changes must be made through this decorator. A change is encoded once for all the
+ * replicas and queued for each of them, and a thread per replica sends it, so a slow replica never
+ * blocks the changes. A replica, which falls more than the replica backlog behind, is disconnected
+ * and catches up from a new snapshot when it reconnects. Reads are forwarded to the decorated
+ * scoreboard without any locking.
+ */
+public class ReplicatingScoreboard extends ForwardingScoreboard implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ReplicatingScoreboard.class.getName());
+
+    private final ReplicationOptions options;
+    private final ServerSocket serverSocket;
+    private final Lock writeLock;
+    private final List<ReplicaConnection> replicas;
+    // Guarded by the write lock, like the sequence
+    private final ByteBuffer commandBuffer;
+    private final Thread acceptor;
+    private volatile long sequence;
+    private volatile boolean closed;
+
+    private ReplicatingScoreboard(Scoreboard delegate, ServerSocket serverSocket, ReplicationOptions options) {
+        super(delegate);
+        this.options = options;
+        this.serverSocket = serverSocket;
+        this.writeLock = new ReentrantLock();
+        this.replicas = new CopyOnWriteArrayList<>();
+        this.commandBuffer = ByteBuffer.allocate(ReplicationProtocol.MAX_COMMAND_SIZE);
+        this.acceptor = new Thread(this::acceptReplicas, "scoreboard-replication-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Starts accepting replicas of the given scoreboard.
+     *
+     * @param delegate the scoreboard to replicate, with the matches already in progress sent to the
+     *                 replicas in their snapshots
+     * @param address the address to accept the replicas on, port 0 for any free port
+     * @param options the configuration of the replication
+     * @return the scoreboard replicating every successful change
+     * @throws IllegalArgumentException if the scoreboard is a {@link ShardedScoreboard}, whose
+     * competitions the replicated changes and snapshots don't carry
+     * @throws UncheckedIOException if the address can't be bound
+     */
+    public static ReplicatingScoreboard start(Scoreboard delegate, InetSocketAddress address,
+                                              ReplicationOptions options) {
+        // Commands don't carry the competition, so the replicas would have every match in the default one
+        if (delegate instanceof ShardedScoreboard) {
+            throw new IllegalArgumentException("Sharded scoreboard cannot be replicated without its competitions");
+        }
+
+        ServerSocket serverSocket = null;
+        try {
+            serverSocket = new ServerSocket();
+            // A restarted primary binds the same port while connections of the previous one are in TIME_WAIT
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(address);
+        } catch (IOException e) {
+            closeQuietly(serverSocket);
+            throw new UncheckedIOException("Cannot accept replicas on " + address, e);
+        }
+
+        ReplicatingScoreboard scoreboard = new ReplicatingScoreboard(delegate, serverSocket, options);
+        scoreboard.acceptor.start();
+        return scoreboard;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        replicated(new ScoreboardCommand.StartMatch(homeTeam, awayTeam), () -> {
+            super.startMatch(homeTeam, awayTeam);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        replicated(new ScoreboardCommand.UpdateScore(homeTeam, awayTeam, homeScore, awayScore), () -> {
+            super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        replicated(new ScoreboardCommand.EndMatch(homeTeam, awayTeam), () -> {
+            super.endMatch(homeTeam, awayTeam);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        return replicated(new ScoreboardCommand.StartMatch(homeTeam, awayTeam),
+                () -> super.tryStartMatch(homeTeam, awayTeam));
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return replicated(new ScoreboardCommand.UpdateScore(homeTeam, awayTeam, homeScore, awayScore),
+                () -> super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        return replicated(new ScoreboardCommand.EndMatch(homeTeam, awayTeam),
+                () -> super.tryEndMatch(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        replicated(new ScoreboardCommand.RecordGoal(homeTeam, awayTeam, side), () -> {
+            super.recordGoal(homeTeam, awayTeam, side);
+            return MutationStatus.APPLIED;
+        });
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        return replicated(new ScoreboardCommand.RecordGoal(homeTeam, awayTeam, side),
+                () -> super.tryRecordGoal(homeTeam, awayTeam, side));
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        ScoreboardCommand command = new ScoreboardCommand.SequencedUpdateScore(
+                homeTeam, awayTeam, homeScore, awayScore, sequence
+        );
+        return replicated(command, () -> super.updateScore(homeTeam, awayTeam, homeScore, awayScore, sequence));
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        ScoreboardCommand command = new ScoreboardCommand.SequencedUpdateScore(
+                homeTeam, awayTeam, homeScore, awayScore, sequence
+        );
+        return replicated(command, () -> super.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore, sequence));
+    }
+
+    // Commands are applied one by one like the single changes, so only the changes actually applied are replicated,
+    // not e.g. a stale sequenced update, which the batch doesn't report as a failure. The write lock is held for
+    // the whole batch, so it's replicated in one piece.
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        writeLock.lock();
+        try {
+            throwIfClosed();
+            List<BatchResult.Failure> failures = new ArrayList<>();
+
+            for (int i = 0; i < commands.size(); i++) {
+                ScoreboardCommand command = commands.get(i);
+
+                try {
+                    if (command == null) {
+                        throw new IllegalArgumentException("Command cannot be null");
+                    }
+                    command.applyTo(this);
+                } catch (RuntimeException e) {
+                    failures.add(new BatchResult.Failure(i, command, e));
+                }
+            }
+
+            return new BatchResult(commands.size(), failures);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return the address the replicas connect to, with the actual port if started on port 0
+     */
+    public InetSocketAddress address() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * @return the sequence of the latest replicated change, 0 before the first change
+     */
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * @return the number of replicas connected at the moment
+     */
+    public int replicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Stops accepting replicas and disconnects the connected ones. The address is released when
+     * the call returns, so a new primary can be started on it. Changes made through this decorator
+     * after it's closed are rejected with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            closed = true;
+        } finally {
+            writeLock.unlock();
+        }
+
+        closeQuietly(serverSocket);
+        for (ReplicaConnection replica : replicas) {
+            replica.disconnect();
+        }
+
+        // The server socket is released only once the acceptor blocked on it returns
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // The command is encoded before the change, so a command, which can't be replicated, e.g. with a team name
+    // too long to encode, fails without changing the scoreboard or taking a sequence number
+    private MutationStatus replicated(ScoreboardCommand command, Supplier<MutationStatus> change) {
+        writeLock.lock();
+        try {
+            throwIfClosed();
+            commandBuffer.clear();
+            ScoreboardCommandCodec.encode(command, commandBuffer);
+
+            MutationStatus status = change.get();
+            if (status.isApplied()) {
+                replicate();
+            }
+            return status;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Called with the write lock held, after the change encoded in the command buffer was applied
+    private void replicate() {
+        long changeSequence = sequence + 1;
+        sequence = changeSequence;
+
+        if (replicas.isEmpty()) {
+            return;
+        }
+
+        Change change = new Change(changeSequence, Arrays.copyOf(commandBuffer.array(), commandBuffer.position()));
+        for (ReplicaConnection replica : replicas) {
+            replica.offer(change);
+        }
+    }
+
+    private void acceptReplicas() {
+        while (!closed) {
+            try {
+                register(serverSocket.accept());
+            } catch (SocketException e) {
+                // Server socket closed
+                return;
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Cannot accept replica", e);
+            }
+        }
+    }
+
+    // The snapshot and the registration for the next changes are taken together, so no change is missed
+    private void register(Socket socket) throws IOException {
+        socket.setTcpNoDelay(true);
+        ReplicaConnection replica;
+
+        writeLock.lock();
+        try {
+            if (closed) {
+                socket.close();
+                return;
+            }
+            replica = new ReplicaConnection(socket, ReplicationProtocol.snapshotCommands(delegate()), sequence);
+            replicas.add(replica);
+        } finally {
+            writeLock.unlock();
+        }
+
+        replica.thread.start();
+    }
+
+    private void throwIfClosed() {
+        if (closed) {
+            throw new IllegalStateException("Replicating scoreboard is closed");
+        }
+    }
+
+    private static void writeHeader(DataOutputStream out, byte type, long frameSequence, long primarySequence)
+            throws IOException {
+        out.writeByte(type);
+        out.writeLong(frameSequence);
+        out.writeLong(primarySequence);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            if (closeable != null) {
+                closeable.close();
+            }
+        } catch (Exception e) {
+            // Nothing left to do with it
+        }
+    }
+
+    /**
+     * Encoded change shared by the queues of all the replicas.
+     */
+    private record Change(long sequence, byte[] command) {
+    }
+
+    /**
+     * Connection to a replica with the changes queued for it, sent by its own thread.
+     */
+    private class ReplicaConnection implements Runnable {
+        private final Socket socket;
+        private final List<ScoreboardCommand> snapshot;
+        private final long snapshotSequence;
+        private final BlockingQueue<Change> backlog;
+        private final Thread thread;
+        private volatile boolean disconnected;
+
+        ReplicaConnection(Socket socket, List<ScoreboardCommand> snapshot, long snapshotSequence) {
+            this.socket = socket;
+            this.snapshot = snapshot;
+            this.snapshotSequence = snapshotSequence;
+            this.backlog = new ArrayBlockingQueue<>(options.replicaBacklog());
+            this.thread = new Thread(this, "scoreboard-replication-" + socket.getRemoteSocketAddress());
+            this.thread.setDaemon(true);
+        }
+
+        // Called with the write lock held
+        void offer(Change change) {
+            if (!backlog.offer(change)) {
+                LOGGER.log(System.Logger.Level.WARNING, "Replica " + socket.getRemoteSocketAddress()
+                        + " fell more than " + options.replicaBacklog() + " changes behind, disconnecting");
+                disconnect();
+            }
+        }
+
+        void disconnect() {
+            disconnected = true;
+            replicas.remove(this);
+            closeQuietly(socket);
+            thread.interrupt();
+        }
+
+        @Override
+        public void run() {
+            long heartbeatNanos = options.heartbeatInterval().toNanos();
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+                out.writeInt(ReplicationProtocol.MAGIC);
+                out.writeInt(ReplicationProtocol.VERSION);
+                writeSnapshot(out);
+                out.flush();
+
+                while (!disconnected) {
+                    Change change = backlog.poll(heartbeatNanos, TimeUnit.NANOSECONDS);
+
+                    if (change == null) {
+                        long primarySequence = sequence;
+                        writeHeader(out, ReplicationProtocol.HEARTBEAT, primarySequence, primarySequence);
+                    } else {
+                        writeHeader(out, ReplicationProtocol.CHANGE, change.sequence(), sequence);
+                        out.writeInt(change.command().length);
+                        out.write(change.command());
+                    }
+
+                    // Changes queued meanwhile are sent together
+                    if (backlog.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                if (!disconnected) {
+                    LOGGER.log(System.Logger.Level.INFO, "Replica " + socket.getRemoteSocketAddress() + " disconnected");
+                }
+            } finally {
+                disconnect();
+            }
+        }
+
+        private void writeSnapshot(DataOutputStream out) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(ReplicationProtocol.MAX_COMMAND_SIZE);
+
+            writeHeader(out, ReplicationProtocol.SNAPSHOT, snapshotSequence, sequence);
+            out.writeInt(snapshot.size());
+            for (ScoreboardCommand command : snapshot) {
+                buffer.clear();
+                ScoreboardCommandCodec.encode(command, buffer);
+                out.writeInt(buffer.position());
+                out.write(buffer.array(), 0, buffer.position());
+            }
+        }
+    }
+}
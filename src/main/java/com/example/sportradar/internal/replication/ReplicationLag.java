@@ -0,0 +1,23 @@
+package com.example.sportradar.internal.replication;
+
+import java.time.Duration;
+
+/**
+ * How far a {@link ScoreboardReplica} is behind its primary, as of the last frame it received.
+ *
+ * @param appliedSequence the sequence of the last change applied by the replica, -1 before its
+ *                        first snapshot
+ * @param primarySequence the sequence of the latest change of the primary, as of the last frame
+ * @param connected whether the replica is connected to the primary
+ * @param sinceLastContact the time since the replica last received a frame from the primary, which
+ *                         sends at least a heartbeat every heartbeat interval
+ */
+public record ReplicationLag(long appliedSequence, long primarySequence, boolean connected, Duration sinceLastContact) {
+
+    /**
+     * @return the number of changes of the primary, which the replica didn't apply yet
+     */
+    public long changesBehind() {
+        return Math.max(0, primarySequence - appliedSequence);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.sportradar.internal.replication;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration of the replication between a {@link ReplicatingScoreboard} and its
+ * {@link ScoreboardReplica}s.
+ *
+ * @param heartbeatInterval how long the primary waits without changes before it tells the replicas
+ *                          its latest sequence, so they can tell an idle primary from a lost one
+ * @param replicaBacklog the most changes the primary holds for a replica, which didn't receive
+ *                       them yet; a replica falling further behind is disconnected and catches up
+ *                       from a new snapshot when it reconnects
+ * @param reconnectDelay how long a replica waits before it connects again after losing the primary
+ */
+public record ReplicationOptions(Duration heartbeatInterval, int replicaBacklog, Duration reconnectDelay) {
+    public static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(500);
+    public static final int DEFAULT_REPLICA_BACKLOG = 64 * 1024;
+    public static final Duration DEFAULT_RECONNECT_DELAY = Duration.ofSeconds(1);
+
+    public ReplicationOptions {
+        Objects.requireNonNull(heartbeatInterval, "Heartbeat interval cannot be null");
+        Objects.requireNonNull(reconnectDelay, "Reconnect delay cannot be null");
+
+        if (heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+            throw new IllegalArgumentException("Heartbeat interval must be positive");
+        }
+        if (replicaBacklog <= 0) {
+            throw new IllegalArgumentException("Replica backlog must be positive");
+        }
+        if (reconnectDelay.isNegative()) {
+            throw new IllegalArgumentException("Reconnect delay cannot be negative");
+        }
+    }
+
+    /**
+     * @return the options with the default heartbeat interval, replica backlog and reconnect delay
+     */
+    public static ReplicationOptions defaults() {
+        return new ReplicationOptions(DEFAULT_HEARTBEAT_INTERVAL, DEFAULT_REPLICA_BACKLOG, DEFAULT_RECONNECT_DELAY);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.sportradar.internal.replication;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stream sent by the primary to every replica over its connection. The stream starts with a magic
+ * number and the protocol version, followed by frames, each with a type byte, the sequence of the
+ * frame and the latest sequence of the primary when the frame was sent:
+ * <pre>
+ * SNAPSHOT   sequence  primarySequence  count  count * (length  command)
+ * CHANGE     sequence  primarySequence  length  command
+ * HEARTBEAT  sequence  primarySequence
+ * </pre>
+ * Commands are encoded with {@code ScoreboardCommandCodec}. The first frame is a snapshot of the
+ * matches in progress as the commands restoring them, and its sequence is the sequence of the last
+ * change it includes. Every following change has the next sequence. A heartbeat is sent when the
+ * primary had no change to send for a heartbeat interval.
+ */
+final class ReplicationProtocol {
+    static final int MAGIC = 0x53425250;
+    static final int VERSION = 1;
+    static final byte SNAPSHOT = 1;
+    static final byte CHANGE = 2;
+    static final byte HEARTBEAT = 3;
+    // Type, two names of at most 65535 bytes with their lengths, two scores and the sequence
+    static final int MAX_COMMAND_SIZE = 1 + 2 * (Short.BYTES + 0xFFFF) + 2 * Integer.BYTES + Long.BYTES;
+
+    private ReplicationProtocol() {
+    }
+
+    /**
+     * Commands restoring the matches of the scoreboard on an empty scoreboard with their start
+     * order, scores and versions. The scoreboard mustn't change while they're built.
+     */
+    static List<ScoreboardCommand> snapshotCommands(Scoreboard scoreboard) {
+        List<MatchScore> matchesInStartOrder = scoreboard.getMatchesInStartOrder();
+        List<ScoreboardCommand> commands = new ArrayList<>(matchesInStartOrder.size() * 2);
+
+        for (MatchScore match : matchesInStartOrder) {
+            commands.add(new ScoreboardCommand.StartMatch(match.homeTeam(), match.awayTeam()));
+
+            long version = scoreboard.getMatchVersion(match.homeTeam(), match.awayTeam());
+            if (version > 0) {
+                commands.add(new ScoreboardCommand.SequencedUpdateScore(
+                        match.homeTeam(), match.awayTeam(), match.homeScore(), match.awayScore(), version
+                ));
+            } else if (match.homeScore() != Scoreboard.INITIAL_SCORE
+                    || match.awayScore() != Scoreboard.INITIAL_SCORE) {
+                commands.add(new ScoreboardCommand.UpdateScore(
+                        match.homeTeam(), match.awayTeam(), match.homeScore(), match.awayScore()
+                ));
+            }
+        }
+
+        return commands;
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.sportradar.internal.replication;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.internal.ConcurrentScoreboard;
+import com.example.sportradar.internal.journal.ScoreboardCommandCodec;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Read-only copy of the scoreboard of a {@link ReplicatingScoreboard}, kept up to date over a TCP
+ * connection to the primary. Reads are served by a local scoreboard, to which a single thread
+ * applies the changes of the primary in their sequence order. The local scoreboard must be safe to
+ * read while it's changed, like {@link ConcurrentScoreboard}.
+ * <p>
+ * When the replica connects, it builds a new local scoreboard from the snapshot sent by the
+ * primary and only then replaces the previous one, so readers see either the old state or the
+ * complete new one. A change out of sequence or rejected by the local scoreboard means the replica
+ * diverged from the primary, so it reconnects and catches up from a new snapshot, like after a
+ * lost connection. How far the replica is behind is reported by {@link #lag()}.
+ * <p>
+ * Changes must be made on the primary, the changes of this scoreboard throw
+ * {@link UnsupportedOperationException}.
+ */
+public class ScoreboardReplica implements Scoreboard, AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ScoreboardReplica.class.getName());
+    private static final long AWAIT_POLL_NANOS = 1_000_000;
+
+    private final InetSocketAddress primaryAddress;
+    private final Supplier<Scoreboard> scoreboardFactory;
+    private final ReplicationOptions options;
+    private final Thread thread;
+    private volatile Scoreboard scoreboard;
+    private volatile Socket socket;
+    private volatile boolean connected;
+    private volatile boolean closed;
+    private volatile long appliedSequence = -1;
+    private volatile long primarySequence = -1;
+    // Written only by the replication thread, after the change or the snapshot it counts is applied
+    private volatile long version;
+    private volatile long lastContactNanos;
+    private byte[] commandBytes = new byte[256];
+
+    private ScoreboardReplica(InetSocketAddress primaryAddress, Supplier<Scoreboard> scoreboardFactory,
+                              ReplicationOptions options) {
+        this.primaryAddress = Objects.requireNonNull(primaryAddress, "Primary address cannot be null");
+        this.scoreboardFactory = Objects.requireNonNull(scoreboardFactory, "Scoreboard factory cannot be null");
+        this.options = Objects.requireNonNull(options, "Options cannot be null");
+        this.scoreboard = scoreboardFactory.get();
+        this.lastContactNanos = System.nanoTime();
+        this.thread = new Thread(this::replicate, "scoreboard-replica-" + primaryAddress);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts replicating the primary with {@link ConcurrentScoreboard}s as the local scoreboards.
+     * The replica connects in the background and is empty until it receives the first snapshot.
+     *
+     * @param primaryAddress the address of the primary
+     * @param options the configuration of the replication
+     */
+    public static ScoreboardReplica connect(InetSocketAddress primaryAddress, ReplicationOptions options) {
+        return connect(primaryAddress, ConcurrentScoreboard::new, options);
+    }
+
+    /**
+     * Starts replicating the primary. The replica connects in the background and is empty until it
+     * receives the first snapshot.
+     *
+     * @param primaryAddress the address of the primary
+     * @param scoreboardFactory creates an empty local scoreboard for every snapshot
+     * @param options the configuration of the replication
+     */
+    public static ScoreboardReplica connect(InetSocketAddress primaryAddress, Supplier<Scoreboard> scoreboardFactory,
+                                            ReplicationOptions options) {
+        ScoreboardReplica replica = new ScoreboardReplica(primaryAddress, scoreboardFactory, options);
+        replica.thread.start();
+        return replica;
+    }
+
+    /**
+     * @return how far the replica is behind the primary
+     */
+    public ReplicationLag lag() {
+        return new ReplicationLag(appliedSequence, primarySequence, connected,
+                Duration.ofNanos(System.nanoTime() - lastContactNanos));
+    }
+
+    /**
+     * Waits until the replica applied the change with the given sequence of the primary.
+     *
+     * @return true if the change was applied, false if the timeout elapsed first
+     */
+    public boolean awaitSequence(long sequence, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (appliedSequence < sequence) {
+            if (System.nanoTime() - deadline >= 0 || closed) {
+                return false;
+            }
+            LockSupport.parkNanos(AWAIT_POLL_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Disconnects from the primary and stops replicating. The replica still serves the state it
+     * had when it was closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closeQuietly(socket);
+        thread.interrupt();
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary() {
+        return scoreboard.getMatchSummary();
+    }
+
+    @Override
+    public void forEachInSummaryOrder(MatchScoreVisitor visitor) {
+        scoreboard.forEachInSummaryOrder(visitor);
+    }
+
+    @Override
+    public List<MatchScore> getMatchesInStartOrder() {
+        return scoreboard.getMatchesInStartOrder();
+    }
+
+    @Override
+    public List<MatchScore> getTopMatches(int count) {
+        return scoreboard.getTopMatches(count);
+    }
+
+    @Override
+    public List<MatchScore> getMatchSummary(int offset, int limit) {
+        return scoreboard.getMatchSummary(offset, limit);
+    }
+
+    @Override
+    public Optional<MatchScore> findMatchByTeam(String team) {
+        return scoreboard.findMatchByTeam(team);
+    }
+
+    @Override
+    public List<MatchScore> getMatchesWithTotalScoreAtLeast(int minTotalScore) {
+        return scoreboard.getMatchesWithTotalScoreAtLeast(minTotalScore);
+    }
+
+    /**
+     * Returns the number of changes and snapshots applied by the replica. It's counted by the
+     * replica rather than taken from the sequence of the primary, which starts again from 0 when
+     * the primary restarts, so it never goes back or repeats with a different summary.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getMatchVersion(String homeTeam, String awayTeam) {
+        return scoreboard.getMatchVersion(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throw readOnly();
+    }
+
+    @Override
+    public void endMatch(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public void recordGoal(String homeTeam, String awayTeam, Side side) {
+        throw readOnly();
+    }
+
+    @Override
+    public MutationStatus updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        throw readOnly();
+    }
+
+    @Override
+    public MutationStatus tryStartMatch(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        throw readOnly();
+    }
+
+    @Override
+    public MutationStatus tryEndMatch(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public MutationStatus tryRecordGoal(String homeTeam, String awayTeam, Side side) {
+        throw readOnly();
+    }
+
+    @Override
+    public MutationStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                         long sequence) {
+        throw readOnly();
+    }
+
+    @Override
+    public BatchResult applyBatch(List<ScoreboardCommand> commands) {
+        throw readOnly();
+    }
+
+    private void replicate() {
+        while (!closed) {
+            try (Socket connection = new Socket()) {
+                socket = connection;
+                connection.connect(primaryAddress);
+                connection.setTcpNoDelay(true);
+                receive(new DataInputStream(new BufferedInputStream(connection.getInputStream())));
+            } catch (IOException | RuntimeException e) {
+                if (!closed) {
+                    LOGGER.log(System.Logger.Level.WARNING,
+                            "Replication from " + primaryAddress + " interrupted, reconnecting", e);
+                }
+            } finally {
+                connected = false;
+            }
+
+            if (!closed) {
+                LockSupport.parkNanos(options.reconnectDelay().toNanos());
+            }
+        }
+    }
+
+    private void receive(DataInputStream in) throws IOException {
+        if (in.readInt() != ReplicationProtocol.MAGIC || in.readInt() != ReplicationProtocol.VERSION) {
+            throw new IOException("Not a replication primary or unsupported protocol version");
+        }
+        connected = true;
+
+        while (!closed) {
+            byte type = in.readByte();
+            long frameSequence = in.readLong();
+            primarySequence = in.readLong();
+            lastContactNanos = System.nanoTime();
+
+            switch (type) {
+                case ReplicationProtocol.SNAPSHOT -> {
+                    int commandCount = in.readInt();
+                    List<ScoreboardCommand> commands = new ArrayList<>(commandCount);
+                    for (int i = 0; i < commandCount; i++) {
+                        commands.add(readCommand(in));
+                    }
+
+                    Scoreboard restored = scoreboardFactory.get();
+                    BatchResult result = restored.applyBatch(commands);
+                    if (!result.isSuccessful()) {
+                        throw new IllegalStateException("Snapshot cannot be applied",
+                                result.failures().get(0).exception());
+                    }
+                    scoreboard = restored;
+                    appliedSequence = frameSequence;
+                    version++;
+                }
+                case ReplicationProtocol.CHANGE -> {
+                    if (frameSequence != appliedSequence + 1) {
+                        throw new IllegalStateException(
+                                "Expected change " + (appliedSequence + 1) + " but got " + frameSequence
+                        );
+                    }
+                    readCommand(in).applyTo(scoreboard);
+                    appliedSequence = frameSequence;
+                    version++;
+                }
+                case ReplicationProtocol.HEARTBEAT -> {
+                    // Only the sequence of the primary and the time of the contact
+                }
+                default -> throw new IOException("Unknown frame type: " + type);
+            }
+        }
+    }
+
+    // Called only by the replication thread, which owns the buffer
+    private ScoreboardCommand readCommand(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length <= 0 || length > ReplicationProtocol.MAX_COMMAND_SIZE) {
+            throw new IOException("Invalid command length: " + length);
+        }
+
+        if (length > commandBytes.length) {
+            commandBytes = new byte[length];
+        }
+        in.readFully(commandBytes, 0, length);
+        return ScoreboardCommandCodec.decode(ByteBuffer.wrap(commandBytes, 0, length));
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Replica is read-only, changes must be made on the primary");
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException e) {
+            // Nothing left to do with it
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.sportradar.internal.wire;
+
+import com.example.sportradar.api.MatchScore;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.sportradar.internal.wire.SummaryEncoder.COPIED_RUN;
+import static com.example.sportradar.internal.wire.SummaryEncoder.DELTA_FRAME;
+import static com.example.sportradar.internal.wire.SummaryEncoder.FULL_FRAME;
+import static com.example.sportradar.internal.wire.SummaryEncoder.LISTED_RUN;
+
+/**
+ * Decodes the frames written by a {@link SummaryEncoder} back into summaries. The decoder keeps
+ * the dictionary of the team names and the summary of the last frame, which the next delta frame
+ * is applied to, so it has to read all the frames of the stream in order, starting with a full
+ * frame. Matches copied from the previous summary are the same {@link MatchScore} objects, only
+ * the changed matches are created. Not thread-safe.
+ * <p>
+ * A frame, which isn't valid, is rejected and the decoder then accepts only a full frame. Frames
+ * longer than the maximum frame length are rejected before any memory is allocated for them, and
+ * the number of matches of a frame is checked against the bytes of the frame, so a corrupted or
+ * hostile stream is rejected with {@link IllegalArgumentException} instead of exhausting the heap.
+ */
+public final class SummaryDecoder {
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+    private static final int INITIAL_CAPACITY = 64;
+    // A listed match is at least the four one-byte varints of its team ids and scores
+    private static final int MIN_LISTED_MATCH_SIZE = 4;
+
+    private final int maxFrameLength;
+    private String[] namesById;
+    private int teamCount;
+    private MatchScore[] previous;
+    private boolean fullFrameRequired;
+
+    public SummaryDecoder() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    /**
+     * @param maxFrameLength the maximum length in bytes of a frame after its length prefix
+     * @throws IllegalArgumentException if the maximum frame length isn't positive
+     */
+    public SummaryDecoder(int maxFrameLength) {
+        if (maxFrameLength <= 0) {
+            throw new IllegalArgumentException("Maximum frame length must be positive");
+        }
+
+        this.maxFrameLength = maxFrameLength;
+        this.namesById = new String[INITIAL_CAPACITY];
+        this.previous = new MatchScore[0];
+        this.fullFrameRequired = true;
+    }
+
+    /**
+     * Reads the frame at the position of the buffer and advances the position past it.
+     *
+     * @return the summary of the frame, immutable
+     * @throws BufferUnderflowException if the buffer doesn't contain the whole frame yet, the
+     * position of the buffer is then unchanged
+     * @throws IllegalArgumentException if the frame isn't valid or longer than the maximum frame
+     * length, or it's a delta frame and the decoder hasn't read a full frame before it
+     */
+    public List<MatchScore> decode(ByteBuffer source) {
+        int start = source.position();
+        if (source.remaining() < Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+
+        int length = frameLength(source.getInt(start));
+        if (source.remaining() - Integer.BYTES < length) {
+            throw new BufferUnderflowException();
+        }
+
+        ByteBuffer frame = source.slice(start + Integer.BYTES, length);
+        source.position(start + Integer.BYTES + length);
+
+        return decodeFrame(frame);
+    }
+
+    /**
+     * Reads the next frame from the channel, blocking until the whole frame is read.
+     *
+     * @return the summary of the frame, immutable
+     * @throws EOFException if the channel reaches the end of the stream before the end of the frame
+     * @throws IOException if the frame can't be read
+     * @throws IllegalArgumentException if the frame isn't valid or longer than the maximum frame
+     * length, or it's a delta frame and the decoder hasn't read a full frame before it
+     */
+    public List<MatchScore> decode(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, ByteBuffer.allocate(Integer.BYTES));
+        ByteBuffer frame = readFully(channel, ByteBuffer.allocate(frameLength(header.getInt())));
+
+        return decodeFrame(frame);
+    }
+
+    private List<MatchScore> decodeFrame(ByteBuffer frame) {
+        try {
+            MatchScore[] summary = readFrame(frame);
+            if (frame.hasRemaining()) {
+                throw new IllegalArgumentException("Frame has " + frame.remaining() + " bytes after its matches");
+            }
+
+            previous = summary;
+            fullFrameRequired = false;
+            return List.of(summary);
+        } catch (BufferUnderflowException e) {
+            fullFrameRequired = true;
+            throw new IllegalArgumentException("Frame ends before its matches", e);
+        } catch (RuntimeException e) {
+            fullFrameRequired = true;
+            throw e;
+        }
+    }
+
+    private MatchScore[] readFrame(ByteBuffer frame) {
+        byte type = frame.get();
+
+        if (type == FULL_FRAME) {
+            Arrays.fill(namesById, 0, teamCount, null);
+            teamCount = 0;
+        } else if (type != DELTA_FRAME) {
+            throw new IllegalArgumentException("Unknown frame type: " + type);
+        } else if (fullFrameRequired) {
+            throw new IllegalArgumentException("Delta frame without a full frame before it");
+        }
+
+        int newTeamCount = getVarInt(frame);
+        for (int i = 0; i < newTeamCount; i++) {
+            addName(getName(frame));
+        }
+
+        int matchCount = getVarInt(frame);
+        // Matches are either listed in the frame or copied from the previous summary
+        long maxMatchCount = (type == DELTA_FRAME ? previous.length : 0L) + frame.remaining() / MIN_LISTED_MATCH_SIZE;
+        if (matchCount > maxMatchCount) {
+            throw new IllegalArgumentException("Frame of " + frame.limit() + " bytes cannot have " + matchCount
+                    + " matches");
+        }
+
+        MatchScore[] summary = new MatchScore[matchCount];
+        int position = 0;
+
+        while (position < summary.length) {
+            int header = getVarInt(frame);
+            int runLength = header >>> 1;
+
+            if (runLength == 0 || runLength > summary.length - position) {
+                throw new IllegalArgumentException("Run of " + runLength + " matches doesn't fit in the summary");
+            }
+
+            if ((header & 1) == LISTED_RUN) {
+                for (int end = position + runLength; position < end; position++) {
+                    summary[position] = new MatchScore(
+                            nameOf(getVarInt(frame)), nameOf(getVarInt(frame)), getVarInt(frame), getVarInt(frame)
+                    );
+                }
+            } else if (type == DELTA_FRAME && (header & 1) == COPIED_RUN) {
+                int from = getVarInt(frame);
+                if (runLength > previous.length - from) {
+                    throw new IllegalArgumentException("Run of " + runLength + " matches from position " + from
+                            + " isn't in the previous summary");
+                }
+                System.arraycopy(previous, from, summary, position, runLength);
+                position += runLength;
+            } else {
+                throw new IllegalArgumentException("Full frame cannot copy matches");
+            }
+        }
+
+        return summary;
+    }
+
+    private void addName(String name) {
+        if (teamCount == namesById.length) {
+            namesById = Arrays.copyOf(namesById, teamCount * 2);
+        }
+        namesById[teamCount++] = name;
+    }
+
+    private String nameOf(int id) {
+        if (id >= teamCount) {
+            throw new IllegalArgumentException("Unknown team id: " + id);
+        }
+        return namesById[id];
+    }
+
+    private static String getName(ByteBuffer frame) {
+        int length = getVarInt(frame);
+        if (length > frame.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] bytes = new byte[length];
+        frame.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int frameLength(int length) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Invalid frame length: " + length);
+        }
+        if (length > maxFrameLength) {
+            throw new IllegalArgumentException("Frame length " + length + " exceeds the maximum of " + maxFrameLength);
+        }
+        return length;
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Channel ended " + buffer.remaining() + " bytes before the end of the frame");
+            }
+        }
+        return buffer.flip();
+    }
+
+    // Values are never negative, so only 31 bits fit in the at most 5 bytes of a varint
+    static int getVarInt(ByteBuffer source) {
+        int value = 0;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = source.get();
+
+            if (shift == 28 && (b & 0xF8) != 0) {
+                break;
+            }
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid varint");
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.sportradar.internal.wire;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MatchScoreVisitor;
+import com.example.sportradar.api.Scoreboard;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes successive summaries of a scoreboard into a stream of compact binary frames, which are
+ * read by a {@link SummaryDecoder}. Team names are sent once and referred to by their id in a
+ * dictionary shared by the encoder and the decoder, and all the numbers are varints, so a match
+ * usually takes 4 bytes.
+ * <p>
+ * The first frame, and the first one after {@link #reset()}, is a full frame: it clears the
+ * dictionary and lists all the matches. The following frames are delta frames against the summary
+ * of the frame before: matches, which didn't change, are copied from the previous summary in runs
+ * and only the changed ones are listed, so a frame after a single update of a large summary takes
+ * a few bytes. A consumer can start reading the stream only at a full frame, and a producer, which
+ * serves consumers joining later, resets the encoder when one joins. Resetting also drops the
+ * names of the teams, which are no longer on the scoreboard, from the dictionary.
+ * <p>
+ * Frames are written straight into the target buffer. The encoder reuses its arrays from frame to
+ * frame, so once they have grown to the size of the summary, encoding allocates only the UTF-8
+ * bytes of the names of new teams. Not thread-safe.
+ * <p>
+ * A frame is the length of the rest of the frame as a 32-bit integer, the frame type, the number
+ * of new team names and the names as length-prefixed UTF-8, the number of matches and the runs of
+ * the matches. A run starts with a varint of its length shifted left by one bit, with the lowest
+ * bit set for a run of listed matches, which follow as the ids of the teams and the scores, and
+ * clear for a run of matches copied from the previous summary, which is followed by the position
+ * of the first of them in the previous summary.
+ */
+public final class SummaryEncoder {
+    static final byte FULL_FRAME = 1;
+    static final byte DELTA_FRAME = 2;
+    static final int LISTED_RUN = 1;
+    static final int COPIED_RUN = 0;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_MATCH = -1;
+
+    private final Map<String, Integer> idsByName;
+    private final MatchScoreVisitor collector;
+    private String[] namesById;
+    private int teamCount;
+    // Position in the previous summary of the match of every home team by its id, NO_MATCH if none
+    private int[] previousPositionByTeamId;
+    private EncodedSummary previous;
+    private EncodedSummary next;
+    private boolean fullFrameRequired;
+    private ByteBuffer channelBuffer;
+
+    public SummaryEncoder() {
+        this.idsByName = new HashMap<>();
+        this.collector = this::collect;
+        this.namesById = new String[INITIAL_CAPACITY];
+        this.previousPositionByTeamId = new int[INITIAL_CAPACITY];
+        this.previous = new EncodedSummary();
+        this.next = new EncodedSummary();
+        this.fullFrameRequired = true;
+
+        Arrays.fill(previousPositionByTeamId, NO_MATCH);
+    }
+
+    /**
+     * Writes the frame of the current summary of the scoreboard at the position of the buffer and
+     * advances the position past it. The summary is read with
+     * {@link Scoreboard#forEachInSummaryOrder(MatchScoreVisitor)}, so no list is built.
+     *
+     * @throws BufferOverflowException if the frame doesn't fit in the remaining space of the buffer,
+     * the position of the buffer and the state of the encoder are then unchanged
+     */
+    public void encode(Scoreboard scoreboard, ByteBuffer target) {
+        int firstNewTeamId = begin();
+        try {
+            scoreboard.forEachInSummaryOrder(collector);
+            write(target, firstNewTeamId);
+        } catch (RuntimeException e) {
+            truncateDictionary(firstNewTeamId);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the frame of the summary at the position of the buffer and advances the position past
+     * it.
+     *
+     * @param summary the matches in the order of {@link Scoreboard#getMatchSummary()}
+     * @throws BufferOverflowException if the frame doesn't fit in the remaining space of the buffer,
+     * the position of the buffer and the state of the encoder are then unchanged
+     */
+    public void encode(List<MatchScore> summary, ByteBuffer target) {
+        int firstNewTeamId = begin();
+        try {
+            for (int i = 0; i < summary.size(); i++) {
+                MatchScore matchScore = summary.get(i);
+                collect(matchScore.homeTeam(), matchScore.awayTeam(), matchScore.homeScore(), matchScore.awayScore());
+            }
+            write(target, firstNewTeamId);
+        } catch (RuntimeException e) {
+            truncateDictionary(firstNewTeamId);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the frame of the current summary of the scoreboard to the channel. The frame is
+     * encoded into a buffer of the encoder, which grows to the size of the largest frame.
+     *
+     * @throws IOException if the frame can't be written, the state of the encoder is then undefined
+     * and it has to be {@link #reset()} before the next frame
+     */
+    public void encode(Scoreboard scoreboard, WritableByteChannel channel) throws IOException {
+        if (channelBuffer == null) {
+            channelBuffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY * INITIAL_CAPACITY);
+        }
+
+        while (true) {
+            channelBuffer.clear();
+            try {
+                encode(scoreboard, channelBuffer);
+                break;
+            } catch (BufferOverflowException e) {
+                channelBuffer = ByteBuffer.allocateDirect(channelBuffer.capacity() * 2);
+            }
+        }
+
+        channelBuffer.flip();
+        while (channelBuffer.hasRemaining()) {
+            channel.write(channelBuffer);
+        }
+    }
+
+    /**
+     * Makes the next frame a full frame, which clears the dictionary of the decoder and can be
+     * read by a decoder, which hasn't read any frame before.
+     */
+    public void reset() {
+        fullFrameRequired = true;
+    }
+
+    private int begin() {
+        if (fullFrameRequired) {
+            truncateDictionary(0);
+        }
+        next.size = 0;
+
+        return teamCount;
+    }
+
+    private void collect(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        next.add(intern(homeTeam), intern(awayTeam), homeScore, awayScore);
+    }
+
+    private void write(ByteBuffer target, int firstNewTeamId) {
+        int start = target.position();
+
+        try {
+            // Length is written once the frame is complete
+            target.putInt(0);
+            target.put(fullFrameRequired ? FULL_FRAME : DELTA_FRAME);
+
+            putVarInt(target, teamCount - firstNewTeamId);
+            for (int id = firstNewTeamId; id < teamCount; id++) {
+                byte[] name = namesById[id].getBytes(StandardCharsets.UTF_8);
+                putVarInt(target, name.length);
+                target.put(name);
+            }
+
+            putVarInt(target, next.size);
+            writeRuns(target);
+
+            target.putInt(start, target.position() - start - Integer.BYTES);
+        } catch (BufferOverflowException e) {
+            target.position(start);
+            throw e;
+        }
+
+        commit();
+    }
+
+    private void writeRuns(ByteBuffer target) {
+        int runType = LISTED_RUN;
+        int runStart = 0;
+        int runFrom = 0;
+        int runLength = 0;
+
+        for (int position = 0; position < next.size; position++) {
+            int from = fullFrameRequired ? NO_MATCH : previousPositionOf(position);
+
+            if (from == NO_MATCH && runType == LISTED_RUN) {
+                runLength++;
+            } else if (from != NO_MATCH && runType == COPIED_RUN && from == runFrom + runLength) {
+                runLength++;
+            } else {
+                writeRun(target, runType, runStart, runFrom, runLength);
+                runType = from == NO_MATCH ? LISTED_RUN : COPIED_RUN;
+                runStart = position;
+                runFrom = from;
+                runLength = 1;
+            }
+        }
+
+        writeRun(target, runType, runStart, runFrom, runLength);
+    }
+
+    private void writeRun(ByteBuffer target, int runType, int runStart, int runFrom, int runLength) {
+        if (runLength == 0) {
+            return;
+        }
+
+        putVarInt(target, runLength << 1 | runType);
+
+        if (runType == COPIED_RUN) {
+            putVarInt(target, runFrom);
+            return;
+        }
+
+        for (int position = runStart; position < runStart + runLength; position++) {
+            putVarInt(target, next.homeTeamIds[position]);
+            putVarInt(target, next.awayTeamIds[position]);
+            putVarInt(target, next.homeScores[position]);
+            putVarInt(target, next.awayScores[position]);
+        }
+    }
+
+    // Position of the same match with the same score in the previous summary
+    private int previousPositionOf(int position) {
+        int homeTeamId = next.homeTeamIds[position];
+        int from = previousPositionByTeamId[homeTeamId];
+
+        if (from != NO_MATCH
+                && previous.awayTeamIds[from] == next.awayTeamIds[position]
+                && previous.homeScores[from] == next.homeScores[position]
+                && previous.awayScores[from] == next.awayScores[position]) {
+            return from;
+        }
+
+        return NO_MATCH;
+    }
+
+    private void commit() {
+        for (int position = 0; position < previous.size; position++) {
+            previousPositionByTeamId[previous.homeTeamIds[position]] = NO_MATCH;
+        }
+
+        EncodedSummary encoded = next;
+        next = previous;
+        previous = encoded;
+
+        for (int position = 0; position < previous.size; position++) {
+            previousPositionByTeamId[previous.homeTeamIds[position]] = position;
+        }
+        fullFrameRequired = false;
+    }
+
+    private int intern(String teamName) {
+        Integer id = idsByName.get(teamName);
+        if (id != null) {
+            return id;
+        }
+
+        if (teamCount == namesById.length) {
+            namesById = Arrays.copyOf(namesById, teamCount * 2);
+            previousPositionByTeamId = Arrays.copyOf(previousPositionByTeamId, teamCount * 2);
+            Arrays.fill(previousPositionByTeamId, teamCount, previousPositionByTeamId.length, NO_MATCH);
+        }
+
+        namesById[teamCount] = teamName;
+        idsByName.put(teamName, teamCount);
+        return teamCount++;
+    }
+
+    private void truncateDictionary(int size) {
+        for (int id = size; id < teamCount; id++) {
+            idsByName.remove(namesById[id]);
+            namesById[id] = null;
+        }
+        teamCount = size;
+    }
+
+    static void putVarInt(ByteBuffer target, int value) {
+        while ((value & ~0x7F) != 0) {
+            target.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        target.put((byte) value);
+    }
+
+    // Matches of a summary as parallel arrays of the ids of the teams and the scores
+    private static final class EncodedSummary {
+        private int[] homeTeamIds = new int[INITIAL_CAPACITY];
+        private int[] awayTeamIds = new int[INITIAL_CAPACITY];
+        private int[] homeScores = new int[INITIAL_CAPACITY];
+        private int[] awayScores = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+            if (size == homeTeamIds.length) {
+                homeTeamIds = Arrays.copyOf(homeTeamIds, size * 2);
+                awayTeamIds = Arrays.copyOf(awayTeamIds, size * 2);
+                homeScores = Arrays.copyOf(homeScores, size * 2);
+                awayScores = Arrays.copyOf(awayScores, size * 2);
+            }
+
+            homeTeamIds[size] = homeTeamId;
+            awayTeamIds[size] = awayTeamId;
+            homeScores[size] = homeScore;
+            awayScores[size] = awayScore;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.sportradar.api;
+
+import com.example.sportradar.api.exceptions.MatchNotFoundException;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ScoreboardTest {
+    private final Scoreboard scoreboard = new ThrowingOnlyScoreboard(new InMemoryScoreboard());
+
+    @DisplayName("tryStartMatch: should map exceptions of startMatch to statuses by default")
+    @Test
+    void tryStartMatch_shouldMapExceptionsOfStartMatchToStatusesByDefault() {
+        assertThat(scoreboard.tryStartMatch("Spain", "Brazil")).isEqualTo(MutationStatus.APPLIED);
+        assertThat(scoreboard.tryStartMatch("Brazil", "Spain")).isEqualTo(MutationStatus.MATCH_ALREADY_EXISTS);
+        assertThat(scoreboard.tryStartMatch(" Spain ", "Germany")).isEqualTo(MutationStatus.HOME_TEAM_IN_MATCH);
+        assertThat(scoreboard.tryStartMatch("Germany", "Brazil")).isEqualTo(MutationStatus.AWAY_TEAM_IN_MATCH);
+    }
+
+    @DisplayName("tryUpdateScore and tryEndMatch: should map exceptions to statuses by default")
+    @Test
+    void tryUpdateScoreAndTryEndMatch_shouldMapExceptionsToStatusesByDefault() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.tryUpdateScore("Spain", "Germany", 1, 0)).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThat(scoreboard.tryUpdateScore("Spain", "Brazil", 1, 0)).isEqualTo(MutationStatus.APPLIED);
+        assertThat(scoreboard.tryEndMatch("Spain", "Brazil")).isEqualTo(MutationStatus.APPLIED);
+        assertThat(scoreboard.tryEndMatch("Spain", "Brazil")).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+    }
+
+    @DisplayName("forEachInSummaryOrder: should visit the matches of the summary by default")
+    @Test
+    void forEachInSummaryOrder_shouldVisitMatchesOfSummaryByDefault() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Argentina", "Germany");
+        scoreboard.updateScore("Argentina", "Germany", 0, 1);
+
+        List<MatchScore> visited = new ArrayList<>();
+        scoreboard.forEachInSummaryOrder((homeTeam, awayTeam, homeScore, awayScore) ->
+                visited.add(new MatchScore(homeTeam, awayTeam, homeScore, awayScore)));
+
+        assertThat(visited).containsExactly(
+                new MatchScore("Argentina", "Germany", 0, 1),
+                new MatchScore("Spain", "Brazil", 0, 0)
+        );
+    }
+
+    @DisplayName("findMatchByTeam and getMatchesWithTotalScoreAtLeast: should search the summary by default")
+    @Test
+    void findMatchByTeamAndGetMatchesWithTotalScoreAtLeast_shouldSearchSummaryByDefault() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Argentina", "Germany");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Argentina", "Germany", 2, 1);
+        scoreboard.updateScore("Mexico", "Canada", 0, 3);
+
+        assertThat(scoreboard.findMatchByTeam(" Germany ")).contains(new MatchScore("Argentina", "Germany", 2, 1));
+        assertThat(scoreboard.findMatchByTeam("France")).isEmpty();
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(1)).containsExactly(
+                new MatchScore("Mexico", "Canada", 0, 3),
+                new MatchScore("Argentina", "Germany", 2, 1)
+        );
+    }
+
+    @DisplayName("getVersion: should throw UnsupportedOperationException by default")
+    @Test
+    void getVersion_shouldThrowUnsupportedOperationExceptionByDefault() {
+        assertThatThrownBy(scoreboard::getVersion).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @DisplayName("getMatchesInStartOrder: should throw UnsupportedOperationException by default")
+    @Test
+    void getMatchesInStartOrder_shouldThrowUnsupportedOperationExceptionByDefault() {
+        assertThatThrownBy(scoreboard::getMatchesInStartOrder).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @DisplayName("getMatchVersion: should report version 0 of the matches in progress by default")
+    @Test
+    void getMatchVersion_shouldReportVersionZeroOfMatchesInProgressByDefault() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.getMatchVersion(" Spain ", "Brazil")).isZero();
+        assertThat(scoreboard.getMatchVersion("Brazil", "Spain")).isZero();
+        assertThatThrownBy(() -> scoreboard.getMatchVersion("Spain", "Germany"))
+                .isInstanceOf(MatchNotFoundException.class);
+        assertThatThrownBy(() -> scoreboard.getMatchVersion("Spain", " "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Implements only the abstract methods, so the default implementations of the interface are tested
+    private record ThrowingOnlyScoreboard(Scoreboard delegate) implements Scoreboard {
+        @Override
+        public void startMatch(String homeTeam, String awayTeam) {
+            delegate.startMatch(homeTeam, awayTeam);
+        }
+
+        @Override
+        public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            delegate.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+
+        @Override
+        public void endMatch(String homeTeam, String awayTeam) {
+            delegate.endMatch(homeTeam, awayTeam);
+        }
+
+        @Override
+        public List<MatchScore> getMatchSummary() {
+            return delegate.getMatchSummary();
+        }
+    }
+}
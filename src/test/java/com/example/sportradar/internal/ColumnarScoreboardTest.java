@@ -0,0 +1,58 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+public class ColumnarScoreboardTest extends InMemoryScoreboardTest {
+
+    @Override
+    protected Scoreboard createScoreboard() {
+        return new ColumnarScoreboard();
+    }
+
+    @DisplayName("startMatch: should keep the summary ordered when slots of ended matches are reused")
+    @Test
+    void startMatch_shouldKeepSummaryOrdered_whenSlotsOfEndedMatchesAreReused() {
+        Scoreboard scoreboard = createScoreboard();
+        for (int i = 0; i < 100; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            scoreboard.endMatch("Home " + i, "Away " + i);
+        }
+
+        // Started last, so ahead of all the matches with the same score despite taking an earlier slot
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Home 1", "Away 1", 1, 0);
+
+        assertThat(scoreboard.getMatchSummary())
+                .hasSize(51)
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam)
+                .startsWith(
+                        tuple("Home 1", "Away 1"),
+                        tuple("Spain", "Brazil"),
+                        tuple("Home 99", "Away 99")
+                )
+                .endsWith(tuple("Home 3", "Away 3"));
+    }
+
+    @DisplayName("startMatch: should start a match again when it was ended before")
+    @Test
+    void startMatch_shouldStartMatchAgain_whenItWasEndedBefore() {
+        Scoreboard scoreboard = createScoreboard();
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 2, 1);
+        scoreboard.endMatch("Spain", "Brazil");
+
+        scoreboard.startMatch("Brazil", "Spain");
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam, MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(tuple("Brazil", "Spain", 0, 0));
+    }
+}
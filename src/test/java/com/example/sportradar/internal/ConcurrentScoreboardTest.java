@@ -0,0 +1,319 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.Side;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentScoreboardTest extends InMemoryScoreboardTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected Scoreboard createScoreboard() {
+        return new ConcurrentScoreboard();
+    }
+
+    @DisplayName("startMatch: should let only one thread start a match when the same team is started concurrently")
+    @Test
+    void startMatch_shouldLetOnlyOneThreadStartMatch_whenSameTeamIsStartedConcurrently() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        AtomicInteger started = new AtomicInteger();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String awayTeam = "Team " + i;
+            tasks.add(() -> {
+                try {
+                    scoreboard.startMatch("Spain", awayTeam);
+                    started.incrementAndGet();
+                } catch (RuntimeException ignored) {
+                    // Expected for all the threads but one
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        assertThat(started).hasValue(1);
+        assertThat(scoreboard.getMatchSummary())
+                .hasSize(1)
+                .first()
+                .extracting(MatchScore::homeTeam)
+                .isEqualTo("Spain");
+    }
+
+    @DisplayName("startMatch: should start the match when the same teams are started concurrently in the opposite order")
+    @Test
+    void startMatch_shouldStartMatch_whenSameTeamsAreStartedConcurrentlyInOppositeOrder() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+
+        for (int round = 0; round < 200; round++) {
+            String firstTeam = "Spain " + round;
+            String secondTeam = "Brazil " + round;
+            AtomicInteger started = new AtomicInteger();
+
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                boolean reversed = i % 2 == 1;
+                tasks.add(() -> {
+                    MutationStatus status = reversed
+                            ? scoreboard.tryStartMatch(secondTeam, firstTeam)
+                            : scoreboard.tryStartMatch(firstTeam, secondTeam);
+                    if (status == MutationStatus.APPLIED) {
+                        started.incrementAndGet();
+                    } else {
+                        assertThat(status).isEqualTo(MutationStatus.MATCH_ALREADY_EXISTS);
+                    }
+                    return null;
+                });
+            }
+            invokeAll(tasks);
+
+            assertThat(started).hasValue(1);
+            assertThat(scoreboard.findMatchByTeam(firstTeam)).isPresent();
+        }
+    }
+
+    @DisplayName("getMatchSummary: should return the current summary when many readers find it outdated")
+    @Test
+    void getMatchSummary_shouldReturnCurrentSummary_whenManyReadersFindItOutdated() throws Exception {
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startMatch("Spain", "Brazil");
+
+        for (int score = 1; score <= 100; score++) {
+            scoreboard.updateScore("Spain", "Brazil", score, 0);
+            List<List<MatchScore>> summaries = new CopyOnWriteArrayList<>();
+
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                tasks.add(() -> {
+                    summaries.add(scoreboard.getMatchSummary());
+                    return null;
+                });
+            }
+            invokeAll(tasks);
+
+            List<MatchScore> expected = List.of(new MatchScore("Spain", "Brazil", score, 0));
+            assertThat(summaries).hasSize(THREADS).allSatisfy(summary -> assertThat(summary).isEqualTo(expected));
+            // One of the readers published its summary, so it's reused until the next change
+            assertThat(scoreboard.getMatchSummary()).isSameAs(scoreboard.getMatchSummary());
+        }
+    }
+
+    @DisplayName("getTopMatches: should publish the summary it's cut from when the summary is outdated")
+    @Test
+    void getTopMatches_shouldPublishSummaryItIsCutFrom_whenSummaryIsOutdated() {
+        ConcurrentScoreboard scoreboard = new ConcurrentScoreboard();
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.getMatchSummary();
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        List<MatchScore> topMatches = scoreboard.getTopMatches(1);
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+
+        assertThat(topMatches).containsExactly(new MatchScore("Spain", "Brazil", 1, 0));
+        assertThat(topMatches.get(0)).isSameAs(summary.get(0));
+        assertThat(scoreboard.getMatchSummary(1, 1).get(0)).isSameAs(summary.get(1));
+    }
+
+    @DisplayName("updateScore: should keep all matches consistent when different matches are updated concurrently")
+    @Test
+    void updateScore_shouldKeepAllMatchesConsistent_whenDifferentMatchesAreUpdatedConcurrently() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        int updates = 1_000;
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String homeTeam = "Home " + i;
+            String awayTeam = "Away " + i;
+            scoreboard.startMatch(homeTeam, awayTeam);
+            tasks.add(() -> {
+                for (int score = 1; score <= updates; score++) {
+                    scoreboard.updateScore(homeTeam, awayTeam, score, score);
+                    scoreboard.getMatchSummary();
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        assertThat(scoreboard.getMatchSummary())
+                .hasSize(THREADS)
+                .allSatisfy(matchScore -> assertThat(matchScore.homeScore()).isEqualTo(updates))
+                .allSatisfy(matchScore -> assertThat(matchScore.awayScore()).isEqualTo(updates));
+    }
+
+    @DisplayName("recordGoal: should count every goal when goals of the same match are recorded concurrently")
+    @Test
+    void recordGoal_shouldCountEveryGoal_whenGoalsOfSameMatchAreRecordedConcurrently() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        int goals = 1_000;
+        scoreboard.startMatch("Spain", "Brazil");
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Side side = i % 2 == 0 ? Side.HOME : Side.AWAY;
+            tasks.add(() -> {
+                for (int goal = 0; goal < goals; goal++) {
+                    scoreboard.recordGoal("Spain", "Brazil", side);
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        assertThat(scoreboard.getMatchSummary())
+                .singleElement()
+                .satisfies(matchScore -> {
+                    assertThat(matchScore.homeScore()).isEqualTo(THREADS / 2 * goals);
+                    assertThat(matchScore.awayScore()).isEqualTo(THREADS / 2 * goals);
+                });
+    }
+
+    @DisplayName("updateScore: should keep the score of the highest sequence when sequenced updates race")
+    @Test
+    void updateScore_shouldKeepScoreOfHighestSequence_whenSequencedUpdatesRace() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        int updates = 1_000;
+        AtomicInteger applied = new AtomicInteger();
+        scoreboard.startMatch("Spain", "Brazil");
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            tasks.add(() -> {
+                // Threads interleave the sequences, so most of the updates arrive late
+                for (int update = 0; update < updates; update++) {
+                    int sequence = update * THREADS + thread + 1;
+                    if (scoreboard.updateScore("Spain", "Brazil", sequence, 0, sequence) == MutationStatus.APPLIED) {
+                        applied.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        assertThat(applied.get()).isPositive();
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore)
+                .containsExactly(updates * THREADS);
+        assertThat(scoreboard.getMatchVersion("Spain", "Brazil")).isEqualTo((long) updates * THREADS);
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should find every match by its final score after concurrent changes")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldFindEveryMatchByItsFinalScore_afterConcurrentChanges() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        int goals = 500;
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+
+        // Goals and updates of the same match race, so the match moves between buckets concurrently
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            tasks.add(() -> {
+                for (int goal = 0; goal < goals; goal++) {
+                    if (thread % 2 == 0) {
+                        scoreboard.recordGoal("Spain", "Brazil", Side.HOME);
+                    } else {
+                        scoreboard.updateScore("Germany", "France", goal % 7, thread);
+                    }
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(0)).containsExactlyElementsOf(summary);
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(THREADS / 2 * goals))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Spain");
+
+        scoreboard.endMatch("Spain", "Brazil");
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(0))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Germany");
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should find every match when matches share and leave buckets concurrently")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldFindEveryMatch_whenMatchesShareAndLeaveBucketsConcurrently()
+            throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        int updates = 2000;
+        for (int i = 0; i < THREADS; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+
+        // Every match moves through the same few total scores, so buckets are emptied and refilled concurrently
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            tasks.add(() -> {
+                for (int update = 1; update <= updates; update++) {
+                    scoreboard.updateScore("Home " + thread, "Away " + thread, update % 3, 0);
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(0))
+                .hasSize(THREADS)
+                .containsExactlyElementsOf(scoreboard.getMatchSummary());
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(updates % 3 + 1)).isEmpty();
+    }
+
+    @DisplayName("endMatch: should let only one thread end a match when it is ended concurrently")
+    @Test
+    void endMatch_shouldLetOnlyOneThreadEndMatch_whenItIsEndedConcurrently() throws Exception {
+        Scoreboard scoreboard = createScoreboard();
+        AtomicInteger ended = new AtomicInteger();
+        scoreboard.startMatch("Spain", "Brazil");
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                try {
+                    scoreboard.endMatch("Spain", "Brazil");
+                    ended.incrementAndGet();
+                } catch (RuntimeException ignored) {
+                    // Expected for all the threads but one
+                }
+                return null;
+            });
+        }
+        invokeAll(tasks);
+
+        assertThat(ended).hasValue(1);
+        assertThat(scoreboard.getMatchSummary()).isEmpty();
+    }
+
+    private static void invokeAll(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
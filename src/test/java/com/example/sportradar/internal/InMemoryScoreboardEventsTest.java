@@ -0,0 +1,199 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.ScoreboardEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryScoreboardEventsTest {
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        // Events are delivered on the calling thread, so they can be checked right after the change
+        scoreboard = new InMemoryScoreboard(Runnable::run);
+    }
+
+    @DisplayName("events: should publish match started, score changed and match ended events in order")
+    @Test
+    void events_shouldPublishMatchStartedScoreChangedAndMatchEndedEventsInOrder() {
+        RecordingSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.endMatch("Spain", "Brazil");
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.MatchStarted("Spain", "Brazil", null, null),
+                new ScoreboardEvent.ScoreChanged("Spain", "Brazil", 1, 0),
+                new ScoreboardEvent.MatchEnded("Spain", "Brazil", 1, 0)
+        );
+    }
+
+    @DisplayName("events: should publish match started event with the next match when match isn't the last in the summary")
+    @Test
+    void events_shouldPublishMatchStartedEventWithNextMatch_whenMatchIsNotLastInSummary() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.startMatch("Argentina", "Germany");
+        RecordingSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        scoreboard.startMatch("Poland", "France");
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.MatchStarted("Poland", "France", "Argentina", "Germany")
+        );
+    }
+
+    @DisplayName("events: should publish match moved event when score change moves the match in the summary")
+    @Test
+    void events_shouldPublishMatchMovedEvent_whenScoreChangeMovesMatchInSummary() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Argentina", "Germany");
+        scoreboard.startMatch("Poland", "France");
+        RecordingSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.ScoreChanged("Spain", "Brazil", 1, 0),
+                new ScoreboardEvent.MatchMoved("Spain", "Brazil", "Poland", "France")
+        );
+    }
+
+    @DisplayName("events: should publish single summary reset when batch changes the scoreboard")
+    @Test
+    void events_shouldPublishSingleSummaryReset_whenBatchChangesScoreboard() {
+        scoreboard.startMatch("Spain", "Brazil");
+        RecordingSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        scoreboard.applyBatch(List.of(
+                new ScoreboardCommand.StartMatch("Poland", "France"),
+                new ScoreboardCommand.UpdateScore("Spain", "Brazil", 1, 0)
+        ));
+
+        assertThat(subscriber.events).containsExactly(new ScoreboardEvent.SummaryReset(List.of(
+                new MatchScore("Spain", "Brazil", 1, 0),
+                new MatchScore("Poland", "France", 0, 0)
+        )));
+    }
+
+    @DisplayName("events: should publish nothing when batch doesn't change the scoreboard")
+    @Test
+    void events_shouldPublishNothing_whenBatchDoesNotChangeScoreboard() {
+        RecordingSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        scoreboard.applyBatch(List.of(new ScoreboardCommand.EndMatch("Spain", "Brazil")));
+
+        assertThat(subscriber.events).isEmpty();
+    }
+
+    @DisplayName("events: should deliver only requested events when subscriber requests fewer events than published")
+    @Test
+    void events_shouldDeliverOnlyRequestedEvents_whenSubscriberRequestsFewerEventsThanPublished() {
+        RecordingSubscriber subscriber = subscribe(1);
+
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Argentina", "Germany");
+
+        assertThat(subscriber.events).containsExactly(new ScoreboardEvent.MatchStarted("Spain", "Brazil", null, null));
+
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.events).hasSize(2);
+    }
+
+    @DisplayName("events: should replace pending events with summary reset when subscriber falls behind")
+    @Test
+    void events_shouldReplacePendingEventsWithSummaryReset_whenSubscriberFallsBehind() {
+        RecordingSubscriber subscriber = subscribe(0);
+
+        for (int i = 0; i <= Flow.defaultBufferSize(); i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+        scoreboard.updateScore("Home 0", "Away 0", 1, 0);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.events).containsExactly(
+                new ScoreboardEvent.SummaryReset(summary),
+                new ScoreboardEvent.ScoreChanged("Home 0", "Away 0", 1, 0),
+                new ScoreboardEvent.MatchMoved(
+                        "Home 0", "Away 0", "Home " + Flow.defaultBufferSize(), "Away " + Flow.defaultBufferSize()
+                )
+        );
+    }
+
+    @DisplayName("events: should replace pending events with summary reset covering the whole change when score change moves the match")
+    @Test
+    void events_shouldReplacePendingEventsWithSummaryResetCoveringWholeChange_whenScoreChangeMovesMatch() {
+        RecordingSubscriber subscriber = subscribe(0);
+
+        for (int i = 0; i < Flow.defaultBufferSize(); i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        scoreboard.updateScore("Home 0", "Away 0", 1, 0);
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.events).containsExactly(new ScoreboardEvent.SummaryReset(summary));
+    }
+
+    @DisplayName("events: should stop delivering events when subscription is cancelled")
+    @Test
+    void events_shouldStopDeliveringEvents_whenSubscriptionIsCancelled() {
+        RecordingSubscriber subscriber = subscribe(Long.MAX_VALUE);
+
+        scoreboard.startMatch("Spain", "Brazil");
+        subscriber.subscription.cancel();
+        scoreboard.endMatch("Spain", "Brazil");
+
+        assertThat(subscriber.events).hasSize(1);
+    }
+
+    private RecordingSubscriber subscribe(long initialRequest) {
+        RecordingSubscriber subscriber = new RecordingSubscriber(initialRequest);
+        scoreboard.events().subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final long initialRequest;
+        private final List<ScoreboardEvent> events = new ArrayList<>();
+        private Flow.Subscription subscription;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package com.example.sportradar.internal;
 
+import com.example.sportradar.api.BatchResult;
 import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
 import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
 import com.example.sportradar.api.exceptions.DuplicateTeamNamesException;
 import com.example.sportradar.api.exceptions.MatchAlreadyExistsException;
 import com.example.sportradar.api.exceptions.MatchNotFoundException;
 import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +19,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,7 +33,18 @@ public class InMemoryScoreboardTest {
 
     @BeforeEach
     void setUp() {
-        scoreboard = new InMemoryScoreboard();
+        scoreboard = createScoreboard();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (scoreboard instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    protected Scoreboard createScoreboard() {
+        return new InMemoryScoreboard();
     }
 
     @DisplayName("startMatch: should add match when two correct names are given")
@@ -394,6 +413,233 @@ public class InMemoryScoreboardTest {
                 .isInstanceOf(MatchNotFoundException.class);
     }
 
+    @DisplayName("tryStartMatch: should start match and return applied status when teams are not in a match")
+    @Test
+    void tryStartMatch_shouldStartMatchAndReturnAppliedStatus_whenTeamsAreNotInMatch() {
+        assertThat(scoreboard.tryStartMatch(" Spain ", "Brazil")).isEqualTo(MutationStatus.APPLIED);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam)
+                .containsExactly(tuple("Spain", "Brazil"));
+    }
+
+    @DisplayName("tryStartMatch: should return the status of the conflict when match can't be started")
+    @Test
+    void tryStartMatch_shouldReturnStatusOfConflict_whenMatchCannotBeStarted() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.tryStartMatch("Spain", "Brazil")).isEqualTo(MutationStatus.MATCH_ALREADY_EXISTS);
+        assertThat(scoreboard.tryStartMatch("Brazil", "Spain")).isEqualTo(MutationStatus.MATCH_ALREADY_EXISTS);
+        assertThat(scoreboard.tryStartMatch("Spain", "Germany")).isEqualTo(MutationStatus.HOME_TEAM_IN_MATCH);
+        assertThat(scoreboard.tryStartMatch("Germany", "Brazil")).isEqualTo(MutationStatus.AWAY_TEAM_IN_MATCH);
+        assertThat(scoreboard.getMatchSummary()).hasSize(1);
+    }
+
+    @DisplayName("tryStartMatch: should throw exception when team names are invalid")
+    @Test
+    void tryStartMatch_shouldThrowException_whenTeamNamesAreInvalid() {
+        assertThatThrownBy(() -> scoreboard.tryStartMatch(null, "Brazil"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreboard.tryStartMatch("Spain", "Spain"))
+                .isInstanceOf(DuplicateTeamNamesException.class);
+    }
+
+    @DisplayName("tryUpdateScore: should update score and return applied status when match is ongoing")
+    @Test
+    void tryUpdateScore_shouldUpdateScoreAndReturnAppliedStatus_whenMatchIsOngoing() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.tryUpdateScore("Brazil", "Spain", 1, 2)).isEqualTo(MutationStatus.APPLIED);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(tuple(1, 2));
+    }
+
+    @DisplayName("tryUpdateScore: should return match not found status when match is not started")
+    @Test
+    void tryUpdateScore_shouldReturnMatchNotFoundStatus_whenMatchIsNotStarted() {
+        scoreboard.startMatch("Spain", "Germany");
+
+        assertThat(scoreboard.tryUpdateScore("Spain", "Brazil", 1, 0)).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThat(scoreboard.tryUpdateScore("Poland", "France", 1, 0)).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThatThrownBy(() -> scoreboard.tryUpdateScore("Spain", "Germany", -1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("tryEndMatch: should return match not found status when match is already ended")
+    @Test
+    void tryEndMatch_shouldReturnMatchNotFoundStatus_whenMatchIsAlreadyEnded() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.tryEndMatch("Spain", "Brazil")).isEqualTo(MutationStatus.APPLIED);
+        assertThat(scoreboard.tryEndMatch("Spain", "Brazil")).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThat(scoreboard.getMatchSummary()).isEmpty();
+    }
+
+    @DisplayName("recordGoal: should add a goal to the side of the match which scored it")
+    @Test
+    void recordGoal_shouldAddGoalToSideOfMatchWhichScoredIt() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        scoreboard.recordGoal(" Spain ", "Brazil", Side.HOME);
+        scoreboard.recordGoal("Brazil", "Spain", Side.AWAY);
+        scoreboard.recordGoal("Spain", "Brazil", Side.AWAY);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(tuple(2, 2));
+        assertThat(scoreboard.getMatchVersion("Spain", "Brazil")).isEqualTo(0);
+    }
+
+    @DisplayName("recordGoal: should throw exception when match is not started or the side is null")
+    @Test
+    void recordGoal_shouldThrowException_whenMatchIsNotStartedOrSideIsNull() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThatThrownBy(() -> scoreboard.recordGoal("Spain", "Germany", Side.HOME))
+                .isInstanceOf(MatchNotFoundException.class);
+        assertThatThrownBy(() -> scoreboard.recordGoal("Spain", "Brazil", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(scoreboard.tryRecordGoal("Spain", "Germany", Side.HOME)).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThat(scoreboard.tryRecordGoal("Spain", "Brazil", Side.HOME)).isEqualTo(MutationStatus.APPLIED);
+    }
+
+    @DisplayName("updateScore: should discard the update when its sequence isn't higher than the version")
+    @Test
+    void updateScore_shouldDiscardUpdate_whenSequenceIsNotHigherThanVersion() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.updateScore("Spain", "Brazil", 1, 0, 2)).isEqualTo(MutationStatus.APPLIED);
+        assertThat(scoreboard.updateScore("Spain", "Brazil", 0, 0, 1)).isEqualTo(MutationStatus.STALE_UPDATE);
+        assertThat(scoreboard.updateScore("Brazil", "Spain", 3, 3, 2)).isEqualTo(MutationStatus.STALE_UPDATE);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(tuple(1, 0));
+        assertThat(scoreboard.getMatchVersion("Spain", "Brazil")).isEqualTo(2);
+    }
+
+    @DisplayName("updateScore: should keep the version when the score is changed without a sequence")
+    @Test
+    void updateScore_shouldKeepVersion_whenScoreIsChangedWithoutSequence() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0, 5);
+
+        scoreboard.updateScore("Spain", "Brazil", 2, 0);
+        scoreboard.recordGoal("Spain", "Brazil", Side.AWAY);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(tuple(2, 1));
+        assertThat(scoreboard.getMatchVersion("Spain", "Brazil")).isEqualTo(5);
+        assertThat(scoreboard.updateScore("Spain", "Brazil", 3, 1, 6)).isEqualTo(MutationStatus.APPLIED);
+    }
+
+    @DisplayName("updateScore: should throw exception when the sequence isn't positive or match is not started")
+    @Test
+    void updateScore_shouldThrowException_whenSequenceIsNotPositiveOrMatchIsNotStarted() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThatThrownBy(() -> scoreboard.updateScore("Spain", "Brazil", 1, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreboard.updateScore("Spain", "Germany", 1, 0, 1))
+                .isInstanceOf(MatchNotFoundException.class);
+        assertThat(scoreboard.tryUpdateScore("Spain", "Germany", 1, 0, 1)).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore)
+                .containsExactly(0);
+        assertThat(scoreboard.getMatchVersion("Spain", "Brazil")).isZero();
+    }
+
+    @DisplayName("getMatchVersion: should throw exception when match is not started or team names are blank")
+    @Test
+    void getMatchVersion_shouldThrowException_whenMatchIsNotStartedOrTeamNamesAreBlank() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThatThrownBy(() -> scoreboard.getMatchVersion("Spain", "Germany"))
+                .isInstanceOf(MatchNotFoundException.class);
+        assertThatThrownBy(() -> scoreboard.getMatchVersion(null, "Brazil"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreboard.getMatchVersion("Spain", " "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("getMatchSummary: should report equal scores whether or not they were updated with a sequence")
+    @Test
+    void getMatchSummary_shouldReportEqualScores_whetherOrNotTheyWereUpdatedWithSequence() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0, 3);
+
+        assertThat(scoreboard.getMatchSummary()).isEqualTo(summary);
+        assertThat(scoreboard.getMatchSummary()).containsExactly(new MatchScore("Spain", "Brazil", 1, 0));
+    }
+
+    @DisplayName("applyBatch: should apply goals and sequenced updates")
+    @Test
+    void applyBatch_shouldApplyGoalsAndSequencedUpdates() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        BatchResult result = scoreboard.applyBatch(List.of(
+                new ScoreboardCommand.SequencedUpdateScore("Spain", "Brazil", 1, 1, 3),
+                new ScoreboardCommand.RecordGoal("Spain", "Brazil", Side.HOME),
+                new ScoreboardCommand.SequencedUpdateScore("Spain", "Brazil", 0, 0, 2),
+                new ScoreboardCommand.RecordGoal("Spain", "Germany", Side.HOME)
+        ));
+
+        assertThat(result.failures())
+                .extracting(BatchResult.Failure::index)
+                .containsExactly(3);
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(tuple(2, 1));
+        assertThat(scoreboard.getMatchVersion("Spain", "Brazil")).isEqualTo(3);
+    }
+
+    @DisplayName("forEachInSummaryOrder: should visit the matches in the order of the summary")
+    @Test
+    void forEachInSummaryOrder_shouldVisitMatchesInOrderOfSummary() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.updateScore("Germany", "France", 2, 2);
+        scoreboard.updateScore("Uruguay", "Italy", 6, 6);
+        scoreboard.endMatch("Germany", "France");
+
+        assertThat(visitSummary())
+                .containsExactly(
+                        tuple("Uruguay", "Italy", 6, 6),
+                        tuple("Spain", "Brazil", 10, 2),
+                        tuple("Mexico", "Canada", 0, 5)
+                );
+
+        scoreboard.updateScore("Mexico", "Canada", 8, 5);
+
+        assertThat(visitSummary())
+                .isEqualTo(scoreboard.getMatchSummary().stream()
+                        .map(matchScore -> tuple(matchScore.homeTeam(), matchScore.awayTeam(),
+                                matchScore.homeScore(), matchScore.awayScore()))
+                        .toList());
+    }
+
+    @DisplayName("forEachInSummaryOrder: should not call the visitor when no matches are in progress")
+    @Test
+    void forEachInSummaryOrder_shouldNotCallVisitor_whenNoMatchesInProgress() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.endMatch("Spain", "Brazil");
+
+        assertThat(visitSummary()).isEmpty();
+        assertThatThrownBy(() -> scoreboard.forEachInSummaryOrder(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
     @DisplayName("getMatchSummary: should return an empty list when no matches are in progress")
     @Test
     void getMatchSummary_shouldReturnEmptyList_whenNoMatchesInProgress() {
@@ -468,4 +714,376 @@ public class InMemoryScoreboardTest {
                         tuple("Spain", "Brazil", 0, 0)
                 );
     }
-}
\ No newline at end of file
+
+    @DisplayName("getMatchSummary: should return the same summary when nothing changed since the last call")
+    @Test
+    void getMatchSummary_shouldReturnSameSummary_whenNothingChangedSinceLastCall() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+        assertThat(scoreboard.getMatchSummary()).isSameAs(summary);
+    }
+
+    @DisplayName("getMatchSummary: should return a new summary when the score changed since the last call")
+    @Test
+    void getMatchSummary_shouldReturnNewSummary_whenScoreChangedSinceLastCall() {
+        scoreboard.startMatch("Spain", "Brazil");
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        assertThat(summary)
+                .extracting(MatchScore::homeScore)
+                .containsExactly(0);
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeScore)
+                .containsExactly(1);
+    }
+
+    @DisplayName("getMatchesInStartOrder: should return matches in progress in the order they were started")
+    @Test
+    void getMatchesInStartOrder_shouldReturnMatchesInProgressInOrderTheyWereStarted() {
+        scoreboard.startMatch("Argentina", "Germany");
+        scoreboard.startMatch("Poland", "France");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 3, 2);
+        scoreboard.endMatch("Poland", "France");
+        scoreboard.startMatch("France", "Poland");
+
+        assertThat(scoreboard.getMatchesInStartOrder())
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam, MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(
+                        tuple("Argentina", "Germany", 0, 0),
+                        tuple("Spain", "Brazil", 3, 2),
+                        tuple("France", "Poland", 0, 0)
+                );
+    }
+
+    @DisplayName("getTopMatches: should return the given number of matches from the top of the summary")
+    @Test
+    void getTopMatches_shouldReturnGivenNumberOfMatchesFromTopOfSummary() {
+        scoreboard.startMatch("Argentina", "Germany");
+        scoreboard.startMatch("Poland", "France");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 3, 2);
+        scoreboard.updateScore("Poland", "France", 8, 0);
+
+        List<MatchScore> topMatches = scoreboard.getTopMatches(2);
+        assertThat(topMatches)
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam)
+                .containsExactly(
+                        tuple("Poland", "France"),
+                        tuple("Spain", "Brazil")
+                );
+    }
+
+    @DisplayName("getTopMatches: should return all matches when fewer matches than requested are in progress")
+    @Test
+    void getTopMatches_shouldReturnAllMatches_whenFewerMatchesThanRequestedAreInProgress() {
+        scoreboard.startMatch("Spain", "Brazil");
+
+        assertThat(scoreboard.getTopMatches(10)).hasSize(1);
+        assertThat(scoreboard.getTopMatches(0)).isEmpty();
+    }
+
+    @DisplayName("getMatchSummary: should return the same page as slicing the full summary")
+    @ParameterizedTest(name = "offset: {0}, limit: {1}")
+    @MethodSource("providePages")
+    void getMatchSummary_shouldReturnSamePageAsSlicingFullSummary(int offset, int limit) {
+        for (int i = 0; i < 10; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.updateScore("Home " + i, "Away " + i, i % 4, i % 3);
+        }
+
+        // The page is taken first, so it's not served from an already built summary
+        List<MatchScore> page = scoreboard.getMatchSummary(offset, limit);
+
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+        int from = Math.min(offset, summary.size());
+        int to = Math.min(from + limit, summary.size());
+        assertThat(page).containsExactlyElementsOf(summary.subList(from, to));
+        assertThat(scoreboard.getMatchSummary(offset, limit)).containsExactlyElementsOf(summary.subList(from, to));
+    }
+
+    private static Stream<Arguments> providePages() {
+        return Stream.of(
+                Arguments.of(0, 3),
+                Arguments.of(3, 3),
+                Arguments.of(8, 5),
+                Arguments.of(10, 1),
+                Arguments.of(0, 0)
+        );
+    }
+
+    @DisplayName("findMatchByTeam: should return the match of the team when it plays as home or away team")
+    @Test
+    void findMatchByTeam_shouldReturnMatchOfTeam_whenItPlaysAsHomeOrAwayTeam() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Spain", "Brazil", 2, 1);
+
+        assertThat(scoreboard.findMatchByTeam(" Brazil "))
+                .map(matchScore -> tuple(matchScore.homeTeam(), matchScore.awayTeam(), matchScore.homeScore(),
+                        matchScore.awayScore()))
+                .contains(tuple("Spain", "Brazil", 2, 1));
+        assertThat(scoreboard.findMatchByTeam("Germany"))
+                .map(MatchScore::awayTeam)
+                .contains("France");
+    }
+
+    @DisplayName("findMatchByTeam: should return empty when the team isn't in a match")
+    @Test
+    void findMatchByTeam_shouldReturnEmpty_whenTeamIsNotInMatch() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.endMatch("Germany", "France");
+
+        assertThat(scoreboard.findMatchByTeam("Germany")).isEmpty();
+        assertThat(scoreboard.findMatchByTeam("Mexico")).isEqualTo(Optional.empty());
+    }
+
+    @DisplayName("findMatchByTeam: should throw exception when the team name is null or blank")
+    @Test
+    void findMatchByTeam_shouldThrowException_whenTeamNameIsNullOrBlank() {
+        assertThatThrownBy(() -> scoreboard.findMatchByTeam(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scoreboard.findMatchByTeam("  "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should return the beginning of the summary down to the total score")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldReturnBeginningOfSummaryDownToTotalScore() {
+        for (int i = 0; i < 10; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.updateScore("Home " + i, "Away " + i, i % 4, i % 3);
+        }
+        scoreboard.updateScore("Home 9", "Away 9", 5, 0);
+
+        // Taken first, so it's not served from an already built summary
+        List<MatchScore> matches = scoreboard.getMatchesWithTotalScoreAtLeast(3);
+
+        List<MatchScore> summary = scoreboard.getMatchSummary();
+        assertThat(matches)
+                .containsExactlyElementsOf(summary.stream()
+                        .filter(matchScore -> matchScore.homeScore() + matchScore.awayScore() >= 3)
+                        .toList())
+                .extracting(MatchScore::homeTeam)
+                .startsWith("Home 9");
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(0)).containsExactlyElementsOf(summary);
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(6)).isEmpty();
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should follow score updates and ended matches")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldFollowScoreUpdatesAndEndedMatches() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Spain", "Brazil", 3, 2);
+        scoreboard.updateScore("Germany", "France", 2, 3);
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(5))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Germany", "Spain");
+
+        scoreboard.updateScore("Spain", "Brazil", 0, 0);
+        scoreboard.endMatch("Germany", "France");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(5))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Mexico");
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should tell apart high total scores")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldTellApartHighTotalScores() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Spain", "Brazil", 600, 400);
+        scoreboard.updateScore("Germany", "France", 500, 300);
+        scoreboard.updateScore("Mexico", "Canada", 300, 212);
+
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(900))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Spain");
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(512))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Spain", "Germany", "Mexico");
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should keep total scores above the int range in order")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldKeepTotalScoresAboveIntRangeInOrder() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Spain", "Brazil", Integer.MAX_VALUE, 1);
+        scoreboard.updateScore("Germany", "France", 5, 0);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Spain", "Germany");
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(Integer.MAX_VALUE))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Spain");
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        assertThat(scoreboard.getMatchesWithTotalScoreAtLeast(5))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Germany");
+    }
+
+    @DisplayName("getMatchesWithTotalScoreAtLeast: should throw exception when the total score is negative")
+    @Test
+    void getMatchesWithTotalScoreAtLeast_shouldThrowException_whenTotalScoreIsNegative() {
+        assertThatThrownBy(() -> scoreboard.getMatchesWithTotalScoreAtLeast(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("getMatchSummary: should throw exception when offset or limit is negative")
+    @ParameterizedTest(name = "offset: {0}, limit: {1}")
+    @MethodSource("provideNegativePages")
+    void getMatchSummary_shouldThrowException_whenOffsetOrLimitIsNegative(int offset, int limit) {
+        assertThatThrownBy(() -> scoreboard.getMatchSummary(offset, limit))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Stream<Arguments> provideNegativePages() {
+        return Stream.of(
+                Arguments.of(-1, 1),
+                Arguments.of(0, -1),
+                Arguments.of(-1, -1)
+        );
+    }
+
+    @DisplayName("applyBatch: should apply all commands and order the summary when all commands are valid")
+    @Test
+    void applyBatch_shouldApplyAllCommandsAndOrderSummary_whenAllCommandsAreValid() {
+        scoreboard.startMatch("Argentina", "Germany");
+
+        BatchResult result = scoreboard.applyBatch(List.of(
+                new ScoreboardCommand.StartMatch("Spain", "Brazil"),
+                new ScoreboardCommand.StartMatch("Poland", "France"),
+                new ScoreboardCommand.UpdateScore("Spain", "Brazil", 1, 0),
+                new ScoreboardCommand.UpdateScore("Argentina", "Germany", 1, 1),
+                new ScoreboardCommand.UpdateScore("Spain", "Brazil", 3, 2),
+                new ScoreboardCommand.EndMatch("Poland", "France")
+        ));
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.appliedCount()).isEqualTo(6);
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam, MatchScore::homeScore, MatchScore::awayScore)
+                .containsExactly(
+                        tuple("Spain", "Brazil", 3, 2),
+                        tuple("Argentina", "Germany", 1, 1)
+                );
+    }
+
+    @DisplayName("applyBatch: should report failed commands and apply the others when some commands are invalid")
+    @Test
+    void applyBatch_shouldReportFailedCommandsAndApplyOthers_whenSomeCommandsAreInvalid() {
+        ScoreboardCommand duplicateMatch = new ScoreboardCommand.StartMatch("Brazil", "Spain");
+        ScoreboardCommand unknownMatch = new ScoreboardCommand.UpdateScore("Poland", "France", 1, 0);
+        ScoreboardCommand negativeScore = new ScoreboardCommand.UpdateScore("Spain", "Brazil", -1, 0);
+
+        BatchResult result = scoreboard.applyBatch(List.of(
+                new ScoreboardCommand.StartMatch("Spain", "Brazil"),
+                duplicateMatch,
+                unknownMatch,
+                negativeScore,
+                new ScoreboardCommand.UpdateScore("Spain", "Brazil", 2, 0)
+        ));
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.appliedCount()).isEqualTo(2);
+        assertThat(result.failures())
+                .extracting(BatchResult.Failure::index, BatchResult.Failure::command)
+                .containsExactly(
+                        tuple(1, duplicateMatch),
+                        tuple(2, unknownMatch),
+                        tuple(3, negativeScore)
+                );
+        assertThat(result.failures())
+                .<Class<?>>extracting(failure -> failure.exception().getClass())
+                .containsExactly(
+                        MatchAlreadyExistsException.class,
+                        MatchNotFoundException.class,
+                        IllegalArgumentException.class
+                );
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam, MatchScore::homeScore)
+                .containsExactly(tuple("Spain", 2));
+    }
+
+    @DisplayName("applyBatch: should keep the summary ordered when a match is started, updated and ended in one batch")
+    @Test
+    void applyBatch_shouldKeepSummaryOrdered_whenMatchIsStartedUpdatedAndEndedInOneBatch() {
+        scoreboard.startMatch("Argentina", "Germany");
+
+        scoreboard.applyBatch(List.of(
+                new ScoreboardCommand.StartMatch("Spain", "Brazil"),
+                new ScoreboardCommand.UpdateScore("Spain", "Brazil", 5, 0),
+                new ScoreboardCommand.EndMatch("Spain", "Brazil"),
+                new ScoreboardCommand.StartMatch("Poland", "France")
+        ));
+        scoreboard.updateScore("Argentina", "Germany", 1, 0);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Argentina", "Poland");
+    }
+
+    @DisplayName("getVersion: should increase with every applied change")
+    @Test
+    void getVersion_shouldIncreaseWithEveryAppliedChange() {
+        List<Long> versions = new ArrayList<>();
+        versions.add(scoreboard.getVersion());
+
+        scoreboard.startMatch("Spain", "Brazil");
+        versions.add(scoreboard.getVersion());
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        versions.add(scoreboard.getVersion());
+        scoreboard.recordGoal("Spain", "Brazil", Side.AWAY);
+        versions.add(scoreboard.getVersion());
+        scoreboard.updateScore("Spain", "Brazil", 2, 1, 3);
+        versions.add(scoreboard.getVersion());
+        scoreboard.applyBatch(List.of(
+                new ScoreboardCommand.StartMatch("Mexico", "Canada"),
+                new ScoreboardCommand.UpdateScore("Mexico", "Canada", 0, 1)
+        ));
+        versions.add(scoreboard.getVersion());
+        scoreboard.endMatch("Spain", "Brazil");
+        versions.add(scoreboard.getVersion());
+
+        assertThat(versions.get(0)).isZero();
+        assertThat(versions).isSorted().doesNotHaveDuplicates();
+    }
+
+    @DisplayName("getVersion: should not change when the scoreboard is read or a change is rejected")
+    @Test
+    void getVersion_shouldNotChange_whenScoreboardIsReadOrChangeIsRejected() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0, 5);
+        long version = scoreboard.getVersion();
+
+        scoreboard.getMatchSummary();
+        scoreboard.findMatchByTeam("Spain");
+        assertThat(scoreboard.tryStartMatch("Germany", "Brazil")).isEqualTo(MutationStatus.AWAY_TEAM_IN_MATCH);
+        assertThat(scoreboard.tryUpdateScore("Mexico", "Canada", 1, 0)).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        assertThat(scoreboard.tryUpdateScore("Spain", "Brazil", 2, 0, 4)).isEqualTo(MutationStatus.STALE_UPDATE);
+        assertThat(scoreboard.tryEndMatch("Mexico", "Canada")).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+
+        assertThat(scoreboard.getVersion()).isEqualTo(version);
+    }
+
+    private List<Tuple> visitSummary() {
+        List<Tuple> visited = new ArrayList<>();
+        scoreboard.forEachInSummaryOrder((homeTeam, awayTeam, homeScore, awayScore) ->
+                visited.add(tuple(homeTeam, awayTeam, homeScore, awayScore)));
+        return visited;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MatchArchiveTest {
+    private static final long ONE_MB = 1024 * 1024;
+
+    @DisplayName("getRecentResults: should return the results of the team as home and away team, the latest first")
+    @Test
+    void getRecentResults_shouldReturnResultsOfTeamAsHomeAndAwayTeamLatestFirst() {
+        MatchArchive archive = new MatchArchive(ONE_MB);
+        archive.add("Spain", "Brazil", 1, 0);
+        archive.add("Germany", "France", 2, 2);
+        archive.add("Italy", "Spain", 0, 3);
+        archive.add("Spain", "Germany", 1, 1);
+
+        assertThat(archive.getRecentResults(" Spain ", 10)).containsExactly(
+                new MatchScore("Spain", "Germany", 1, 1),
+                new MatchScore("Italy", "Spain", 0, 3),
+                new MatchScore("Spain", "Brazil", 1, 0)
+        );
+        assertThat(archive.getRecentResults("Germany", 1)).containsExactly(new MatchScore("Spain", "Germany", 1, 1));
+        assertThat(archive.getRecentResults("Spain", 0)).isEmpty();
+        assertThat(archive.getRecentResults("Mexico", 10)).isEmpty();
+        assertThat(archive.size()).isEqualTo(4);
+    }
+
+    @DisplayName("add: should evict the oldest results when the archive is full")
+    @Test
+    void add_shouldEvictOldestResults_whenArchiveIsFull() {
+        MatchArchive archive = new MatchArchive(100L * MatchArchive.BYTES_PER_RESULT);
+
+        for (int round = 0; round < 250; round++) {
+            archive.add("Spain", "Team " + round, round, 0);
+        }
+
+        assertThat(archive.capacity()).isEqualTo(100);
+        assertThat(archive.size()).isEqualTo(100);
+        assertThat(archive.getRecentResults("Spain", 1_000))
+                .hasSize(100)
+                .first()
+                .isEqualTo(new MatchScore("Spain", "Team 249", 249, 0));
+        assertThat(archive.getRecentResults("Spain", 1_000))
+                .last()
+                .isEqualTo(new MatchScore("Spain", "Team 150", 150, 0));
+        assertThat(archive.getRecentResults("Team 149", 10)).isEmpty();
+        assertThat(archive.getRecentResults("Team 150", 10)).hasSize(1);
+    }
+
+    @DisplayName("getRecentResults: should skip the evicted results when newer results of the team are held")
+    @Test
+    void getRecentResults_shouldSkipEvictedResults_whenNewerResultsOfTeamAreHeld() {
+        MatchArchive archive = new MatchArchive(3L * MatchArchive.BYTES_PER_RESULT);
+        archive.add("Spain", "Brazil", 1, 0);
+        archive.add("Germany", "France", 0, 0);
+        archive.add("Brazil", "Spain", 2, 0);
+        archive.add("Germany", "Italy", 0, 1);
+
+        assertThat(archive.getRecentResults("Spain", 10)).containsExactly(new MatchScore("Brazil", "Spain", 2, 0));
+        assertThat(archive.getRecentResults("Germany", 10)).containsExactly(
+                new MatchScore("Germany", "Italy", 0, 1),
+                new MatchScore("Germany", "France", 0, 0)
+        );
+    }
+
+    @DisplayName("getRecentResults: should throw exception when the team is null or blank or the limit is negative")
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "   "})
+    void getRecentResults_shouldThrowException_whenTeamIsNullOrBlank(String team) {
+        MatchArchive archive = new MatchArchive(ONE_MB);
+
+        assertThatThrownBy(() -> archive.getRecentResults(team, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> archive.getRecentResults("Spain", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("constructor: should throw exception when the bound can't hold a single result")
+    @Test
+    void constructor_shouldThrowException_whenBoundCannotHoldSingleResult() {
+        assertThatThrownBy(() -> new MatchArchive(MatchArchive.BYTES_PER_RESULT - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("endMatch: should archive the final score when the scoreboard has an archive")
+    @Test
+    void endMatch_shouldArchiveFinalScore_whenScoreboardHasArchive() {
+        MatchArchive inMemoryArchive = new MatchArchive(ONE_MB);
+        MatchArchive concurrentArchive = new MatchArchive(ONE_MB);
+        for (Scoreboard scoreboard : List.of(
+                new InMemoryScoreboard(inMemoryArchive), new ConcurrentScoreboard(concurrentArchive))) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Germany", "France");
+            scoreboard.updateScore("Spain", "Brazil", 3, 1);
+            scoreboard.endMatch("Brazil", "Spain");
+            scoreboard.tryEndMatch("Brazil", "Spain");
+        }
+
+        assertThat(inMemoryArchive.getRecentResults("Brazil", 10))
+                .containsExactly(new MatchScore("Spain", "Brazil", 3, 1));
+        assertThat(concurrentArchive.getRecentResults("Brazil", 10))
+                .containsExactly(new MatchScore("Spain", "Brazil", 3, 1));
+        assertThat(inMemoryArchive.getRecentResults("Germany", 10)).isEmpty();
+    }
+
+    @DisplayName("endMatch: should archive the final score and publish the event when both executor and archive are given")
+    @Test
+    void endMatch_shouldArchiveFinalScoreAndPublishEvent_whenBothExecutorAndArchiveAreGiven() {
+        MatchArchive archive = new MatchArchive(ONE_MB);
+        List<Runnable> deliveries = new ArrayList<>();
+        Scoreboard scoreboard = new InMemoryScoreboard(deliveries::add, archive);
+        scoreboard.events().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ScoreboardEvent event) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.endMatch("Spain", "Brazil");
+
+        assertThat(archive.getRecentResults("Spain", 10)).containsExactly(new MatchScore("Spain", "Brazil", 0, 0));
+        assertThat(deliveries).isNotEmpty();
+    }
+
+    @DisplayName("endMatch: should archive every match when matches are ended concurrently")
+    @Test
+    void endMatch_shouldArchiveEveryMatch_whenMatchesAreEndedConcurrently() throws Exception {
+        MatchArchive archive = new MatchArchive(ONE_MB);
+        Scoreboard scoreboard = new ConcurrentScoreboard(archive);
+        int threads = 8;
+        int matches = 500;
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String homeTeam = "Home " + i;
+            tasks.add(() -> {
+                for (int match = 0; match < matches; match++) {
+                    String awayTeam = homeTeam + " Guest " + match;
+                    scoreboard.startMatch(homeTeam, awayTeam);
+                    scoreboard.endMatch(homeTeam, awayTeam);
+                }
+                return null;
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(archive.size()).isEqualTo(threads * matches);
+        assertThat(archive.getRecentResults("Home 3", matches + 1)).hasSize(matches);
+    }
+}
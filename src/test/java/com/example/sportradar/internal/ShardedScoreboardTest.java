@@ -0,0 +1,105 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.exceptions.MatchAlreadyExistsException;
+import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+public class ShardedScoreboardTest extends ConcurrentScoreboardTest {
+
+    @Override
+    protected Scoreboard createScoreboard() {
+        return new ShardedScoreboard();
+    }
+
+    @DisplayName("getMatchSummary: should return only the matches of the given competition")
+    @Test
+    void getMatchSummary_shouldReturnOnlyMatchesOfGivenCompetition() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard();
+        scoreboard.startMatch("World Cup", "Spain", "Brazil");
+        scoreboard.startMatch("Premier League", "Arsenal", "Chelsea");
+        scoreboard.startMatch("World Cup", "Argentina", "Germany");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        assertThat(scoreboard.getMatchSummary("World Cup"))
+                .extracting(MatchScore::homeTeam, MatchScore::awayTeam)
+                .containsExactly(
+                        tuple("Spain", "Brazil"),
+                        tuple("Argentina", "Germany")
+                );
+        assertThat(scoreboard.getMatchSummary(" Premier League "))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Arsenal");
+        assertThat(scoreboard.getMatchSummary("La Liga")).isEmpty();
+    }
+
+    @DisplayName("getMatchSummary: should merge the competitions ordered by total score and most recent start")
+    @Test
+    void getMatchSummary_shouldMergeCompetitionsOrderedByTotalScoreAndMostRecentStart() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard();
+        scoreboard.startMatch("World Cup", "Spain", "Brazil");
+        scoreboard.startMatch("Premier League", "Arsenal", "Chelsea");
+        scoreboard.startMatch("World Cup", "Argentina", "Germany");
+        scoreboard.startMatch("La Liga", "Barcelona", "Sevilla");
+        scoreboard.updateScore("Spain", "Brazil", 2, 0);
+        scoreboard.updateScore("Arsenal", "Chelsea", 1, 1);
+        scoreboard.updateScore("Barcelona", "Sevilla", 3, 0);
+
+        assertThat(scoreboard.getMatchSummary())
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Barcelona", "Arsenal", "Spain", "Argentina");
+        assertThat(scoreboard.getMatchSummary(1, 2))
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Arsenal", "Spain");
+        assertThat(scoreboard.getMatchesInStartOrder())
+                .extracting(MatchScore::homeTeam)
+                .containsExactly("Spain", "Arsenal", "Argentina", "Barcelona");
+    }
+
+    @DisplayName("startMatch: should throw exception when the team is already in a match of another competition")
+    @Test
+    void startMatch_shouldThrowException_whenTeamIsAlreadyInMatchOfAnotherCompetition() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard();
+        scoreboard.startMatch("World Cup", "Spain", "Brazil");
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Friendlies", "Brazil", "Spain"))
+                .isInstanceOf(MatchAlreadyExistsException.class);
+        assertThatThrownBy(() -> scoreboard.startMatch("Friendlies", "Portugal", "Spain"))
+                .isInstanceOf(TeamAlreadyInMatchException.class);
+        assertThat(scoreboard.getMatchSummary("Friendlies")).isEmpty();
+    }
+
+    @DisplayName("startMatch: should let the teams start a match in another competition when their match ended")
+    @Test
+    void startMatch_shouldLetTeamsStartMatchInAnotherCompetition_whenTheirMatchEnded() {
+        ShardedScoreboard scoreboard = new ShardedScoreboard();
+        scoreboard.startMatch("World Cup", "Spain", "Brazil");
+        scoreboard.endMatch("Brazil", "Spain");
+
+        scoreboard.startMatch("Friendlies", "Spain", "Brazil");
+
+        assertThat(scoreboard.getMatchSummary("World Cup")).isEmpty();
+        assertThat(scoreboard.getMatchSummary("Friendlies")).hasSize(1);
+    }
+
+    @DisplayName("startMatch: should throw exception when the competition is null or blank")
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "   "})
+    void startMatch_shouldThrowException_whenCompetitionIsNullOrBlank(String competition) {
+        ShardedScoreboard scoreboard = new ShardedScoreboard();
+
+        assertThatThrownBy(() -> scoreboard.startMatch(competition, "Spain", "Brazil"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(scoreboard.getMatchSummary()).isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.sportradar.internal;
+
+import com.example.sportradar.api.Scoreboard;
+
+public class SynchronizedScoreboardTest extends ConcurrentScoreboardTest {
+
+    @Override
+    protected Scoreboard createScoreboard() {
+        return new SynchronizedScoreboard();
+    }
+}
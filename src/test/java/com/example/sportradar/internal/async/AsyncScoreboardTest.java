@@ -0,0 +1,225 @@
+package com.example.sportradar.internal.async;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardEvent;
+import com.example.sportradar.internal.ConcurrentScoreboardTest;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncScoreboardTest extends ConcurrentScoreboardTest {
+
+    @Override
+    protected Scoreboard createScoreboard() {
+        return AsyncScoreboard.start(new InMemoryScoreboard());
+    }
+
+    @DisplayName("startMatchAsync: should complete with the status of the change")
+    @Test
+    void startMatchAsync_shouldCompleteWithStatusOfChange() {
+        try (AsyncScoreboard scoreboard = AsyncScoreboard.start(new InMemoryScoreboard())) {
+            CompletableFuture<MutationStatus> started = scoreboard.startMatchAsync("Spain", "Brazil");
+            CompletableFuture<MutationStatus> duplicate = scoreboard.startMatchAsync("Brazil", "Spain");
+            CompletableFuture<MutationStatus> teamInMatch = scoreboard.startMatchAsync("Portugal", "Spain");
+
+            assertThat(started.join()).isEqualTo(MutationStatus.APPLIED);
+            assertThat(duplicate.join()).isEqualTo(MutationStatus.MATCH_ALREADY_EXISTS);
+            assertThat(teamInMatch.join()).isEqualTo(MutationStatus.AWAY_TEAM_IN_MATCH);
+        }
+    }
+
+    @DisplayName("updateScoreAsync: should complete exceptionally when the score is invalid")
+    @Test
+    void updateScoreAsync_shouldCompleteExceptionally_whenScoreIsInvalid() {
+        try (AsyncScoreboard scoreboard = AsyncScoreboard.start(new InMemoryScoreboard())) {
+            scoreboard.startMatch("Spain", "Brazil");
+
+            assertThat(scoreboard.updateScoreAsync("Spain", "Brazil", -1, 0))
+                    .failsWithin(Duration.ofSeconds(5))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(scoreboard.updateScoreAsync("Spain", "Brazil", 1, 0).join())
+                    .isEqualTo(MutationStatus.APPLIED);
+        }
+    }
+
+    @DisplayName("updateScoreAsync: should apply the changes in the order they were submitted")
+    @Test
+    void updateScoreAsync_shouldApplyChangesInOrderTheyWereSubmitted() {
+        try (AsyncScoreboard scoreboard = AsyncScoreboard.start(new InMemoryScoreboard())) {
+            scoreboard.startMatchAsync("Spain", "Brazil");
+            for (int score = 1; score <= 10_000; score++) {
+                scoreboard.updateScoreAsync("Spain", "Brazil", score, 0);
+            }
+
+            assertThat(scoreboard.getMatchSummaryAsync().join())
+                    .singleElement()
+                    .extracting(MatchScore::homeScore)
+                    .isEqualTo(10_000);
+        }
+    }
+
+    @DisplayName("updateScoreAsync: should apply all the changes when the ring is full")
+    @Test
+    void updateScoreAsync_shouldApplyAllChanges_whenRingIsFull() throws Exception {
+        int threads = 8;
+        int updates = 5_000;
+
+        try (AsyncScoreboard scoreboard = AsyncScoreboard.start(new InMemoryScoreboard(), 2)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<CompletableFuture<MutationStatus>>> lastUpdates = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    String homeTeam = "Home " + i;
+                    String awayTeam = "Away " + i;
+                    scoreboard.startMatch(homeTeam, awayTeam);
+                    lastUpdates.add(executor.submit(() -> {
+                        CompletableFuture<MutationStatus> lastUpdate = null;
+                        for (int score = 1; score <= updates; score++) {
+                            lastUpdate = scoreboard.updateScoreAsync(homeTeam, awayTeam, score, score);
+                        }
+                        return lastUpdate;
+                    }));
+                }
+                for (Future<CompletableFuture<MutationStatus>> lastUpdate : lastUpdates) {
+                    assertThat(lastUpdate.get().join()).isEqualTo(MutationStatus.APPLIED);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(scoreboard.getMatchSummary())
+                    .hasSize(threads)
+                    .allSatisfy(matchScore -> assertThat(matchScore.homeScore()).isEqualTo(updates));
+        }
+    }
+
+    @DisplayName("getVersion: should not wait for itself when it's called on the writer thread")
+    @Test
+    void getVersion_shouldNotWaitForItself_whenCalledOnWriterThread() {
+        // Events are delivered on the thread applying the change, which is the writer thread
+        InMemoryScoreboard core = new InMemoryScoreboard(Runnable::run);
+
+        try (AsyncScoreboard scoreboard = AsyncScoreboard.start(core)) {
+            CompletableFuture<Long> versionSeenBySubscriber = new CompletableFuture<>();
+            scoreboard.events().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ScoreboardEvent event) {
+                    versionSeenBySubscriber.complete(scoreboard.getVersion());
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            CompletableFuture<MutationStatus> started = scoreboard.startMatchAsync("Spain", "Brazil");
+
+            assertThat(versionSeenBySubscriber).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(1L);
+            assertThat(started).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(MutationStatus.APPLIED);
+        }
+    }
+
+    @DisplayName("getMatchSummary: should not wait for the writer when it's busy applying a change")
+    @Test
+    void getMatchSummary_shouldNotWaitForWriter_whenItIsBusyApplyingChange() {
+        // Events are delivered on the writer thread, so the subscriber holds up the change
+        InMemoryScoreboard core = new InMemoryScoreboard(Runnable::run);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (AsyncScoreboard scoreboard = AsyncScoreboard.start(core)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            List<MatchScore> summary = scoreboard.getMatchSummary();
+            scoreboard.events().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ScoreboardEvent event) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            CompletableFuture<MutationStatus> started = scoreboard.startMatchAsync("Germany", "France");
+
+            assertThat(CompletableFuture.supplyAsync(scoreboard::getMatchSummary))
+                    .succeedsWithin(Duration.ofSeconds(5))
+                    .isEqualTo(summary);
+            assertThat(scoreboard.findMatchByTeam(" Brazil ")).contains(new MatchScore("Spain", "Brazil", 0, 0));
+            assertThat(scoreboard.getVersion()).isEqualTo(1);
+            assertThat(started).isNotDone();
+
+            release.countDown();
+
+            assertThat(started).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(MutationStatus.APPLIED);
+            assertThat(scoreboard.getMatchSummary()).hasSize(2);
+            assertThat(scoreboard.getVersion()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("close: should apply the changes submitted before closing and reject the later ones")
+    @Test
+    void close_shouldApplyChangesSubmittedBeforeClosingAndRejectLaterOnes() {
+        InMemoryScoreboard core = new InMemoryScoreboard();
+        AsyncScoreboard scoreboard = AsyncScoreboard.start(core);
+        CompletableFuture<MutationStatus> started = scoreboard.startMatchAsync("Spain", "Brazil");
+
+        scoreboard.close();
+
+        assertThat(started).isCompletedWithValue(MutationStatus.APPLIED);
+        assertThat(core.getMatchSummary()).hasSize(1);
+        assertThat(scoreboard.endMatchAsync("Spain", "Brazil")).isCompletedExceptionally();
+        assertThatThrownBy(() -> scoreboard.endMatch("Spain", "Brazil"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(core.getMatchSummary()).hasSize(1);
+    }
+
+    @DisplayName("start: should throw exception when the capacity isn't a power of two")
+    @ParameterizedTest
+    @ValueSource(ints = {0, -4, 3, 1000})
+    void start_shouldThrowException_whenCapacityIsNotPowerOfTwo(int capacity) {
+        assertThatThrownBy(() -> AsyncScoreboard.start(new InMemoryScoreboard(), capacity))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
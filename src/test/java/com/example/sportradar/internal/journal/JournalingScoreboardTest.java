@@ -0,0 +1,292 @@
+package com.example.sportradar.internal.journal;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.api.exceptions.MatchNotFoundException;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import com.example.sportradar.internal.ShardedScoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+public class JournalingScoreboardTest {
+    @TempDir
+    private Path directory;
+
+    @DisplayName("open: should restore matches and their order when the journal is opened again")
+    @Test
+    void open_shouldRestoreMatchesAndTheirOrder_whenJournalIsOpenedAgain() {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Argentina", "Germany");
+            scoreboard.startMatch("Poland", "France");
+            scoreboard.updateScore("Spain", "Brazil", 2, 2);
+            scoreboard.updateScore("Argentina", "Germany", 2, 2);
+            scoreboard.endMatch("Poland", "France");
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ZERO)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeTeam, MatchScore::awayTeam, MatchScore::homeScore, MatchScore::awayScore)
+                    .containsExactly(
+                            tuple("Argentina", "Germany", 2, 2),
+                            tuple("Spain", "Brazil", 2, 2)
+                    );
+        }
+    }
+
+    @DisplayName("open: should throw IllegalArgumentException when the scoreboard is sharded")
+    @Test
+    void open_shouldThrowIllegalArgumentException_whenScoreboardIsSharded() {
+        assertThatThrownBy(() -> JournalingScoreboard.open(new ShardedScoreboard(), JournalOptions.of(directory)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("open: should restore changes of all the previous runs when the journal was opened many times")
+    @Test
+    void open_shouldRestoreChangesOfAllPreviousRuns_whenJournalWasOpenedManyTimes() {
+        try (JournalingScoreboard scoreboard = open(Duration.ofMillis(1))) {
+            scoreboard.startMatch("Spain", "Brazil");
+        }
+        try (JournalingScoreboard scoreboard = open(Duration.ofMillis(1))) {
+            scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ofMillis(1))) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeScore)
+                    .containsExactly(1);
+        }
+    }
+
+    @DisplayName("updateScore: should start new segments when the current segment is full")
+    @Test
+    void updateScore_shouldStartNewSegments_whenCurrentSegmentIsFull() throws IOException {
+        JournalOptions options = new JournalOptions(directory, 256, Duration.ZERO, Duration.ZERO);
+
+        try (JournalingScoreboard scoreboard = JournalingScoreboard.open(new InMemoryScoreboard(), options)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            for (int score = 1; score <= 100; score++) {
+                scoreboard.updateScore("Spain", "Brazil", score, 0);
+            }
+        }
+
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments.count()).isGreaterThan(1);
+        }
+        try (JournalingScoreboard restored = JournalingScoreboard.open(new InMemoryScoreboard(), options)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeScore)
+                    .containsExactly(100);
+        }
+    }
+
+    @DisplayName("updateScore: should not journal a change when the decorated scoreboard rejects it")
+    @Test
+    void updateScore_shouldNotJournalChange_whenDecoratedScoreboardRejectsIt() {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            assertThatThrownBy(() -> scoreboard.updateScore("Spain", "Brazil", 1, 0))
+                    .isInstanceOf(MatchNotFoundException.class);
+            scoreboard.startMatch("Spain", "Brazil");
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ZERO)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeScore)
+                    .containsExactly(0);
+        }
+    }
+
+    @DisplayName("tryUpdateScore: should journal only the changes with applied status")
+    @Test
+    void tryUpdateScore_shouldJournalOnlyChangesWithAppliedStatus() {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            assertThat(scoreboard.tryStartMatch("Spain", "Brazil")).isEqualTo(MutationStatus.APPLIED);
+            assertThat(scoreboard.tryStartMatch("Brazil", "Spain")).isEqualTo(MutationStatus.MATCH_ALREADY_EXISTS);
+            assertThat(scoreboard.tryUpdateScore("Spain", "Brazil", 2, 1)).isEqualTo(MutationStatus.APPLIED);
+            assertThat(scoreboard.tryEndMatch("Spain", "Germany")).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ZERO)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                    .containsExactly(tuple(2, 1));
+        }
+    }
+
+    @DisplayName("applyBatch: should journal only the applied commands of the batch")
+    @Test
+    void applyBatch_shouldJournalOnlyAppliedCommandsOfBatch() {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            scoreboard.applyBatch(List.of(
+                    new ScoreboardCommand.StartMatch("Spain", "Brazil"),
+                    new ScoreboardCommand.StartMatch("Spain", "Brazil"),
+                    new ScoreboardCommand.UpdateScore("Spain", "Brazil", 3, 1)
+            ));
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ZERO)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeScore, MatchScore::awayScore)
+                    .containsExactly(tuple(3, 1));
+        }
+    }
+
+    @DisplayName("startMatch: should not change the scoreboard when the change can't be journaled")
+    @Test
+    void startMatch_shouldNotChangeScoreboard_whenChangeCannotBeJournaled() {
+        JournalOptions options = new JournalOptions(directory, 256, Duration.ZERO, Duration.ZERO);
+        String longName = "Spain".repeat(100);
+
+        try (JournalingScoreboard scoreboard = JournalingScoreboard.open(new InMemoryScoreboard(), options)) {
+            assertThatThrownBy(() -> scoreboard.startMatch(longName, "Brazil"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> scoreboard.tryStartMatch("Brazil", longName))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            assertThat(scoreboard.getMatchSummary()).isEmpty();
+            scoreboard.startMatch("Spain", "Brazil");
+        }
+
+        try (JournalingScoreboard restored = JournalingScoreboard.open(new InMemoryScoreboard(), options)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeTeam, MatchScore::awayTeam)
+                    .containsExactly(tuple("Spain", "Brazil"));
+        }
+    }
+
+    @DisplayName("startMatch: should throw exception when the scoreboard is closed")
+    @Test
+    void startMatch_shouldThrowException_whenScoreboardIsClosed() {
+        Scoreboard delegate = new InMemoryScoreboard();
+        JournalingScoreboard scoreboard = JournalingScoreboard.open(delegate, JournalOptions.of(directory));
+        scoreboard.close();
+
+        assertThatThrownBy(() -> scoreboard.startMatch("Spain", "Brazil"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(delegate.getMatchSummary()).isEmpty();
+    }
+
+    @DisplayName("checkpoint: should restore matches and their order from the snapshot and the journal after it")
+    @Test
+    void checkpoint_shouldRestoreMatchesAndTheirOrderFromSnapshotAndJournalAfterIt() {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Argentina", "Germany");
+            scoreboard.startMatch("Poland", "France");
+            scoreboard.updateScore("Spain", "Brazil", 1, 1);
+            scoreboard.updateScore("Argentina", "Germany", 2, 0);
+            scoreboard.checkpoint();
+            scoreboard.updateScore("Poland", "France", 0, 1);
+            scoreboard.startMatch("Mexico", "Canada");
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ZERO)) {
+            assertThat(restored.getMatchSummary())
+                    .extracting(MatchScore::homeTeam, MatchScore::awayTeam, MatchScore::homeScore, MatchScore::awayScore)
+                    .containsExactly(
+                            tuple("Argentina", "Germany", 2, 0),
+                            tuple("Spain", "Brazil", 1, 1),
+                            tuple("Poland", "France", 0, 1),
+                            tuple("Mexico", "Canada", 0, 0)
+                    );
+        }
+    }
+
+    @DisplayName("open: should restore goals and versions of the matches from the snapshot and the journal")
+    @Test
+    void open_shouldRestoreGoalsAndVersionsFromSnapshotAndJournal() {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Argentina", "Germany");
+            scoreboard.updateScore("Spain", "Brazil", 1, 0, 4);
+            scoreboard.recordGoal("Spain", "Brazil", Side.AWAY);
+            scoreboard.checkpoint();
+            scoreboard.updateScore("Argentina", "Germany", 0, 1, 2);
+            scoreboard.updateScore("Argentina", "Germany", 0, 0, 1);
+            scoreboard.recordGoal("Argentina", "Germany", Side.HOME);
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ZERO)) {
+            assertThat(restored.getMatchesInStartOrder())
+                    .extracting(MatchScore::homeTeam, MatchScore::homeScore, MatchScore::awayScore)
+                    .containsExactly(
+                            tuple("Spain", 1, 1),
+                            tuple("Argentina", 1, 1)
+                    );
+            assertThat(restored.getMatchVersion("Spain", "Brazil")).isEqualTo(4);
+            assertThat(restored.getMatchVersion("Argentina", "Germany")).isEqualTo(2);
+            assertThat(restored.updateScore("Spain", "Brazil", 0, 0, 4)).isEqualTo(MutationStatus.STALE_UPDATE);
+        }
+    }
+
+    @DisplayName("checkpoint: should delete the journal segments and snapshots covered by the new snapshot")
+    @Test
+    void checkpoint_shouldDeleteJournalSegmentsAndSnapshotsCoveredByNewSnapshot() throws IOException {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.checkpoint();
+            scoreboard.updateScore("Spain", "Brazil", 1, 0);
+            scoreboard.checkpoint();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                    .containsExactlyInAnyOrder("snapshot-0000000000000002.snap", "journal-0000000000000002.log");
+        }
+    }
+
+    @DisplayName("open: should restore all the matches when the snapshot contains many matches")
+    @Test
+    void open_shouldRestoreAllMatches_whenSnapshotContainsManyMatches() {
+        List<MatchScore> summary;
+        try (JournalingScoreboard scoreboard = open(Duration.ofMillis(10))) {
+            for (int i = 0; i < 100_000; i++) {
+                scoreboard.startMatch("Home " + i, "Away " + i);
+                scoreboard.updateScore("Home " + i, "Away " + i, i % 7, i % 3);
+            }
+            scoreboard.checkpoint();
+            summary = scoreboard.getMatchSummary();
+        }
+
+        try (JournalingScoreboard restored = open(Duration.ofMillis(10))) {
+            assertThat(restored.getMatchSummary()).isEqualTo(summary);
+        }
+    }
+
+    @DisplayName("open: should throw exception when the snapshot is corrupted")
+    @Test
+    void open_shouldThrowException_whenSnapshotIsCorrupted() throws IOException {
+        try (JournalingScoreboard scoreboard = open(Duration.ZERO)) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.checkpoint();
+        }
+
+        Path snapshot = directory.resolve("snapshot-0000000000000001.snap");
+        byte[] content = Files.readAllBytes(snapshot);
+        content[content.length / 2] ^= 1;
+        Files.write(snapshot, content);
+
+        assertThatThrownBy(() -> open(Duration.ZERO))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private JournalingScoreboard open(Duration syncInterval) {
+        JournalOptions options = new JournalOptions(directory, JournalOptions.DEFAULT_SEGMENT_SIZE, syncInterval, Duration.ZERO);
+        return JournalingScoreboard.open(new InMemoryScoreboard(), options);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.sportradar.internal.metrics;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MutationStatus;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.exceptions.MatchAlreadyExistsException;
+import com.example.sportradar.api.exceptions.MatchNotFoundException;
+import com.example.sportradar.api.exceptions.TeamAlreadyInMatchException;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import com.example.sportradar.internal.InMemoryScoreboardTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+public class InstrumentedScoreboardTest extends InMemoryScoreboardTest {
+
+    @Override
+    protected Scoreboard createScoreboard() {
+        return new InstrumentedScoreboard(new InMemoryScoreboard(), "contract");
+    }
+
+    @DisplayName("metrics: should count the calls of every operation and the matches in progress")
+    @Test
+    void metrics_shouldCountCallsOfEveryOperationAndMatchesInProgress() {
+        try (InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(new InMemoryScoreboard(), "counts")) {
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Argentina", "Germany");
+            scoreboard.updateScore("Spain", "Brazil", 1, 0);
+            scoreboard.tryUpdateScore("Spain", "Brazil", 2, 0);
+            scoreboard.endMatch("Argentina", "Germany");
+            scoreboard.getMatchSummary();
+            scoreboard.getTopMatches(1);
+
+            ScoreboardMetrics metrics = scoreboard.metrics();
+
+            assertThat(metrics.liveMatches()).isEqualTo(1);
+            assertThat(metrics.latencies().get(ScoreboardOperation.START_MATCH).count()).isEqualTo(2);
+            assertThat(metrics.latencies().get(ScoreboardOperation.UPDATE_SCORE).count()).isEqualTo(2);
+            assertThat(metrics.latencies().get(ScoreboardOperation.END_MATCH).count()).isEqualTo(1);
+            assertThat(metrics.latencies().get(ScoreboardOperation.GET_MATCH_SUMMARY).count()).isEqualTo(2);
+            assertThat(metrics.latencies().get(ScoreboardOperation.APPLY_BATCH).count()).isZero();
+            assertThat(metrics.rejections()).isEmpty();
+        }
+    }
+
+    @DisplayName("metrics: should count the rejected changes by the type of the exception")
+    @Test
+    void metrics_shouldCountRejectedChangesByTypeOfException() {
+        try (InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(new InMemoryScoreboard(), "rejections")) {
+            scoreboard.startMatch("Spain", "Brazil");
+
+            assertThatThrownBy(() -> scoreboard.startMatch("Brazil", "Spain"))
+                    .isInstanceOf(MatchAlreadyExistsException.class);
+            assertThatThrownBy(() -> scoreboard.updateScore("Spain", "Brazil", -1, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(scoreboard.tryStartMatch("Portugal", "Spain")).isEqualTo(MutationStatus.AWAY_TEAM_IN_MATCH);
+            assertThat(scoreboard.tryEndMatch("Portugal", "Italy")).isEqualTo(MutationStatus.MATCH_NOT_FOUND);
+            assertThatThrownBy(() -> scoreboard.endMatch("Portugal", "Italy"))
+                    .isInstanceOf(MatchNotFoundException.class);
+
+            ScoreboardMetrics metrics = scoreboard.metrics();
+
+            assertThat(metrics.rejections(MatchAlreadyExistsException.class)).isEqualTo(1);
+            assertThat(metrics.rejections(IllegalArgumentException.class)).isEqualTo(1);
+            assertThat(metrics.rejections(TeamAlreadyInMatchException.class)).isEqualTo(1);
+            assertThat(metrics.rejections(MatchNotFoundException.class)).isEqualTo(2);
+            assertThat(metrics.liveMatches()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("metrics: should count the matches started and ended by a batch and its failed commands")
+    @Test
+    void metrics_shouldCountMatchesStartedAndEndedByBatchAndItsFailedCommands() {
+        InMemoryScoreboard delegate = new InMemoryScoreboard();
+        delegate.startMatch("Spain", "Brazil");
+
+        try (InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(delegate, "batch")) {
+            BatchResult result = scoreboard.applyBatch(List.of(
+                    new ScoreboardCommand.StartMatch("Argentina", "Germany"),
+                    new ScoreboardCommand.StartMatch("Portugal", "Italy"),
+                    new ScoreboardCommand.EndMatch("Spain", "Brazil"),
+                    new ScoreboardCommand.EndMatch("France", "Poland")
+            ));
+
+            ScoreboardMetrics metrics = scoreboard.metrics();
+
+            assertThat(result.failures()).hasSize(1);
+            assertThat(metrics.liveMatches()).isEqualTo(2);
+            assertThat(metrics.rejections(MatchNotFoundException.class)).isEqualTo(1);
+            assertThat(metrics.latencies().get(ScoreboardOperation.APPLY_BATCH).count()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("registerMXBean: should expose the metrics through the platform MBean server")
+    @Test
+    void registerMXBean_shouldExposeMetricsThroughPlatformMBeanServer() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName;
+
+        try (InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(new InMemoryScoreboard(), "jmx")) {
+            objectName = scoreboard.registerMXBean();
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.tryEndMatch("Portugal", "Italy");
+
+            assertThat(server.getAttribute(objectName, "LiveMatches")).isEqualTo(1L);
+            assertThat(server.getAttribute(objectName, "OperationCounts")).isNotNull();
+            assertThat(new ScoreboardMetricsBean(scoreboard).getOperationCounts())
+                    .containsEntry("START_MATCH", 1L)
+                    .containsEntry("END_MATCH", 1L);
+            assertThat(new ScoreboardMetricsBean(scoreboard).getRejections())
+                    .isEqualTo(Map.of("MatchNotFoundException", 1L));
+        }
+
+        assertThat(server.isRegistered(objectName)).isFalse();
+    }
+
+    @DisplayName("startMatch: should emit flight recorder events of the operations")
+    @Test
+    void startMatch_shouldEmitFlightRecorderEventsOfOperations(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("scoreboard.jfr");
+
+        try (Recording recording = new Recording();
+             InstrumentedScoreboard scoreboard = new InstrumentedScoreboard(new InMemoryScoreboard(), "jfr")) {
+            recording.enable(ScoreboardOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.tryStartMatch("Brazil", "Spain");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.sportradar.ScoreboardOperation"))
+                .toList();
+        assertThat(events)
+                .extracting(event -> event.getString("operation"), event -> event.getString("outcome"))
+                .containsExactly(
+                        tuple("START_MATCH", "APPLIED"),
+                        tuple("START_MATCH", "MatchAlreadyExistsException")
+                );
+    }
+
+    @DisplayName("registerStatisticsEvent: should emit the periodic statistics event only when registered")
+    @Test
+    void registerStatisticsEvent_shouldEmitPeriodicStatisticsEventOnlyWhenRegistered(@TempDir Path directory)
+            throws Exception {
+        Path file = directory.resolve("statistics.jfr");
+
+        try (Recording recording = new Recording();
+             InstrumentedScoreboard registered = new InstrumentedScoreboard(new InMemoryScoreboard(), "registered");
+             InstrumentedScoreboard unregistered = new InstrumentedScoreboard(new InMemoryScoreboard(), "other")) {
+            registered.registerStatisticsEvent();
+            recording.enable(ScoreboardStatisticsEvent.class).with("period", "endChunk");
+            recording.start();
+            registered.startMatch("Spain", "Brazil");
+            unregistered.startMatch("Mexico", "Canada");
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.sportradar.ScoreboardStatistics"))
+                .toList();
+        assertThat(events)
+                .extracting(event -> event.getString("scoreboard"), event -> event.getLong("liveMatches"))
+                .containsOnly(tuple("registered", 1L))
+                .isNotEmpty();
+    }
+}
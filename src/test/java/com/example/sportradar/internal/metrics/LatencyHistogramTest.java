@@ -0,0 +1,48 @@
+package com.example.sportradar.internal.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyHistogramTest {
+
+    @DisplayName("bucketOf: should count the value in a bucket at most a quarter of its lower bound wide")
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 3, 4, 7, 8, 9, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE})
+    void bucketOf_shouldCountValueInBucketAtMostQuarterOfItsLowerBoundWide(long value) {
+        int bucket = LatencyHistogram.bucketOf(value);
+        long upperBound = LatencyHistogram.upperBoundOf(bucket);
+
+        assertThat(upperBound).isGreaterThanOrEqualTo(value);
+        assertThat(upperBound - value).isLessThanOrEqualTo(value / 4);
+        if (bucket > 0) {
+            assertThat(LatencyHistogram.upperBoundOf(bucket - 1)).isLessThan(value);
+        }
+    }
+
+    @DisplayName("statistics: should report percentiles within a quarter of the recorded values")
+    @Test
+    void statistics_shouldReportPercentilesWithinQuarterOfRecordedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            histogram.record(nanos * 1_000);
+        }
+
+        LatencyStatistics statistics = histogram.statistics();
+
+        assertThat(statistics.count()).isEqualTo(1_000);
+        assertThat(statistics.meanNanos()).isEqualTo(500_500.0);
+        assertThat(statistics.p50Nanos()).isBetween(500_000L, 625_000L);
+        assertThat(statistics.p99Nanos()).isBetween(990_000L, 1_000_000L);
+        assertThat(statistics.maxNanos()).isEqualTo(1_000_000);
+    }
+
+    @DisplayName("statistics: should report zeros when nothing was recorded")
+    @Test
+    void statistics_shouldReportZeros_whenNothingWasRecorded() {
+        assertThat(new LatencyHistogram().statistics()).isEqualTo(new LatencyStatistics(0, 0, 0, 0, 0, 0, 0));
+    }
+}
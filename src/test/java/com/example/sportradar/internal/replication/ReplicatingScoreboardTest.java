@@ -0,0 +1,278 @@
+package com.example.sportradar.internal.replication;
+
+import com.example.sportradar.api.BatchResult;
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.api.ScoreboardCommand;
+import com.example.sportradar.api.Side;
+import com.example.sportradar.internal.ConcurrentScoreboard;
+import com.example.sportradar.internal.ForwardingScoreboard;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import com.example.sportradar.internal.ShardedScoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ReplicatingScoreboardTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final ReplicationOptions OPTIONS =
+            new ReplicationOptions(Duration.ofMillis(20), 1024, Duration.ofMillis(20));
+
+    @DisplayName("connect: should serve the summary of the primary when changes are made after the replica connected")
+    @Test
+    void connect_shouldServeSummaryOfPrimary_whenChangesAreMadeAfterReplicaConnected() {
+        try (ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), OPTIONS);
+             ScoreboardReplica replica = ScoreboardReplica.connect(primary.address(), OPTIONS)) {
+            assertThat(replica.awaitSequence(0, TIMEOUT)).isTrue();
+
+            primary.startMatch("Mexico", "Canada");
+            primary.startMatch("Spain", "Brazil");
+            primary.startMatch("Germany", "France");
+            primary.updateScore("Mexico", "Canada", 0, 5);
+            primary.recordGoal("Spain", "Brazil", Side.HOME);
+            primary.updateScore("Germany", "France", 2, 2, 7);
+            primary.tryEndMatch("Poland", "Italy");
+            primary.endMatch("Spain", "Brazil");
+
+            assertThat(primary.sequence()).isEqualTo(7);
+            assertThat(replica.awaitSequence(7, TIMEOUT)).isTrue();
+            assertThat(replica.getMatchSummary()).isEqualTo(primary.getMatchSummary());
+            assertThat(replica.getMatchesInStartOrder()).isEqualTo(primary.getMatchesInStartOrder());
+            assertThat(replica.getMatchVersion("Germany", "France")).isEqualTo(7);
+        }
+    }
+
+    @DisplayName("applyBatch: should replicate only the commands applied by the primary")
+    @Test
+    void applyBatch_shouldReplicateOnlyCommandsAppliedByPrimary() {
+        try (ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), OPTIONS);
+             ScoreboardReplica replica = ScoreboardReplica.connect(primary.address(), OPTIONS)) {
+            assertThat(replica.awaitSequence(0, TIMEOUT)).isTrue();
+            primary.startMatch("Spain", "Brazil");
+
+            BatchResult result = primary.applyBatch(List.of(
+                    new ScoreboardCommand.SequencedUpdateScore("Spain", "Brazil", 2, 0, 5),
+                    new ScoreboardCommand.SequencedUpdateScore("Spain", "Brazil", 1, 0, 4),
+                    new ScoreboardCommand.RecordGoal("Spain", "Germany", Side.HOME),
+                    new ScoreboardCommand.RecordGoal("Spain", "Brazil", Side.AWAY)
+            ));
+
+            assertThat(result.failures())
+                    .extracting(BatchResult.Failure::index)
+                    .containsExactly(2);
+            assertThat(primary.sequence()).isEqualTo(3);
+            assertThat(replica.awaitSequence(3, TIMEOUT)).isTrue();
+            assertThat(replica.getMatchSummary()).isEqualTo(primary.getMatchSummary());
+            assertThat(replica.lag().changesBehind()).isZero();
+        }
+    }
+
+    @DisplayName("startMatch: should throw IllegalArgumentException without changing the primary when team name can't be encoded")
+    @Test
+    void startMatch_shouldThrowIllegalArgumentExceptionWithoutChangingPrimary_whenTeamNameCannotBeEncoded() {
+        String longName = "x".repeat(0x10000);
+
+        try (ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), OPTIONS)) {
+            assertThatThrownBy(() -> primary.startMatch(longName, "Brazil"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            primary.startMatch("Spain", "Brazil");
+
+            try (ScoreboardReplica replica = ScoreboardReplica.connect(primary.address(), OPTIONS)) {
+                assertThat(primary.sequence()).isEqualTo(1);
+                assertThat(replica.awaitSequence(1, TIMEOUT)).isTrue();
+                assertThat(replica.getMatchSummary())
+                        .isEqualTo(primary.getMatchSummary())
+                        .containsExactly(new MatchScore("Spain", "Brazil", 0, 0));
+            }
+        }
+    }
+
+    @DisplayName("start: should throw IllegalArgumentException when the scoreboard is sharded")
+    @Test
+    void start_shouldThrowIllegalArgumentException_whenScoreboardIsSharded() {
+        assertThatThrownBy(() -> startPrimary(new ShardedScoreboard(), OPTIONS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("connect: should catch up from a snapshot when the replica connects after the changes")
+    @Test
+    void connect_shouldCatchUpFromSnapshot_whenReplicaConnectsAfterChanges() {
+        try (ReplicatingScoreboard primary = startPrimary(new ConcurrentScoreboard(), OPTIONS)) {
+            primary.startMatch("Mexico", "Canada");
+            primary.startMatch("Spain", "Brazil");
+            primary.startMatch("Germany", "France");
+            primary.startMatch("Uruguay", "Italy");
+            primary.updateScore("Spain", "Brazil", 1, 1);
+            primary.updateScore("Germany", "France", 2, 0, 3);
+            primary.recordGoal("Uruguay", "Italy", Side.AWAY);
+
+            try (ScoreboardReplica first = ScoreboardReplica.connect(primary.address(), OPTIONS);
+                 ScoreboardReplica second = ScoreboardReplica.connect(primary.address(), OPTIONS)) {
+                assertThat(first.awaitSequence(7, TIMEOUT)).isTrue();
+                assertThat(second.awaitSequence(7, TIMEOUT)).isTrue();
+
+                primary.updateScore("Mexico", "Canada", 3, 0);
+
+                assertThat(first.awaitSequence(8, TIMEOUT)).isTrue();
+                assertThat(second.awaitSequence(8, TIMEOUT)).isTrue();
+                assertThat(first.getMatchSummary())
+                        .isEqualTo(second.getMatchSummary())
+                        .isEqualTo(primary.getMatchSummary());
+                assertThat(first.getMatchVersion("Germany", "France")).isEqualTo(3);
+                assertThat(primary.replicaCount()).isEqualTo(2);
+            }
+        }
+    }
+
+    @DisplayName("lag: should report the changes behind and the connection of the replica")
+    @Test
+    void lag_shouldReportChangesBehindAndConnectionOfReplica() {
+        ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), OPTIONS);
+
+        try (ScoreboardReplica replica = ScoreboardReplica.connect(primary.address(), OPTIONS)) {
+            primary.startMatch("Mexico", "Canada");
+            assertThat(replica.awaitSequence(1, TIMEOUT)).isTrue();
+
+            ReplicationLag lag = replica.lag();
+            assertThat(lag.connected()).isTrue();
+            assertThat(lag.appliedSequence()).isEqualTo(1);
+            assertThat(lag.changesBehind()).isZero();
+            assertThat(lag.sinceLastContact()).isLessThan(TIMEOUT);
+
+            primary.close();
+
+            assertThat(awaitDisconnected(replica)).isTrue();
+            assertThat(replica.getMatchSummary()).hasSize(1);
+            assertThatThrownBy(() -> primary.startMatch("Spain", "Brazil")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @DisplayName("offer: should disconnect a replica falling behind the backlog and resynchronize it from a snapshot")
+    @Test
+    void offer_shouldDisconnectReplicaFallingBehindBacklogAndResynchronizeItFromSnapshot() throws Exception {
+        ReplicationOptions options = new ReplicationOptions(Duration.ofMillis(20), 16, Duration.ofMillis(20));
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), options);
+             ScoreboardReplica replica = ScoreboardReplica.connect(
+                     primary.address(), () -> new StallingScoreboard(new ConcurrentScoreboard(), stalled, release),
+                     options)) {
+            assertThat(replica.awaitSequence(0, TIMEOUT)).isTrue();
+            primary.startMatch("Mexico", "Canada");
+            assertThat(replica.awaitSequence(1, TIMEOUT)).isTrue();
+
+            primary.updateScore("Mexico", "Canada", 1, 0);
+            assertThat(stalled.await(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+            // Fills the socket buffers and then the backlog of the stalled replica
+            for (int i = 0; i < 5_000_000 && primary.replicaCount() > 0; i++) {
+                primary.updateScore("Mexico", "Canada", i % 10, 1);
+            }
+            assertThat(primary.replicaCount()).isZero();
+            primary.updateScore("Mexico", "Canada", 4, 4);
+            release.countDown();
+
+            assertThat(replica.awaitSequence(primary.sequence(), TIMEOUT)).isTrue();
+            assertThat(replica.getMatchSummary()).isEqualTo(primary.getMatchSummary());
+            assertThat(replica.lag().changesBehind()).isZero();
+        }
+    }
+
+    @DisplayName("getVersion: should keep increasing when the replica catches up from a restarted primary")
+    @Test
+    void getVersion_shouldKeepIncreasing_whenReplicaCatchesUpFromRestartedPrimary() {
+        ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), OPTIONS);
+        InetSocketAddress address = primary.address();
+
+        try (ScoreboardReplica replica = ScoreboardReplica.connect(address, OPTIONS)) {
+            primary.startMatch("Mexico", "Canada");
+            primary.startMatch("Spain", "Brazil");
+            primary.updateScore("Spain", "Brazil", 1, 0);
+            assertThat(replica.awaitSequence(3, TIMEOUT)).isTrue();
+            long versionBeforeRestart = replica.getVersion();
+            primary.close();
+
+            try (ReplicatingScoreboard restarted =
+                         ReplicatingScoreboard.start(new InMemoryScoreboard(), address, OPTIONS)) {
+                restarted.startMatch("Germany", "France");
+
+                assertThat(awaitSummary(replica, restarted.getMatchSummary())).isTrue();
+                assertThat(replica.lag().appliedSequence()).isEqualTo(1);
+                assertThat(replica.getVersion()).isGreaterThan(versionBeforeRestart);
+            }
+        }
+    }
+
+    @DisplayName("startMatch: should throw UnsupportedOperationException when the replica is changed")
+    @Test
+    void startMatch_shouldThrowUnsupportedOperationException_whenReplicaIsChanged() {
+        try (ReplicatingScoreboard primary = startPrimary(new InMemoryScoreboard(), OPTIONS);
+             ScoreboardReplica replica = ScoreboardReplica.connect(primary.address(), OPTIONS)) {
+            assertThatThrownBy(() -> replica.startMatch("Mexico", "Canada"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThatThrownBy(() -> replica.tryUpdateScore("Mexico", "Canada", 1, 0))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            assertThat(primary.getMatchSummary()).isEmpty();
+        }
+    }
+
+    private static ReplicatingScoreboard startPrimary(Scoreboard scoreboard, ReplicationOptions options) {
+        return ReplicatingScoreboard.start(
+                scoreboard, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), options
+        );
+    }
+
+    private static boolean awaitDisconnected(ScoreboardReplica replica) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (replica.lag().connected()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    private static boolean awaitSummary(ScoreboardReplica replica, List<MatchScore> summary) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!replica.getMatchSummary().equals(summary)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    // Stalls the replication thread on score updates until released
+    private static class StallingScoreboard extends ForwardingScoreboard {
+        private final CountDownLatch stalled;
+        private final CountDownLatch release;
+
+        StallingScoreboard(Scoreboard delegate, CountDownLatch stalled, CountDownLatch release) {
+            super(delegate);
+            this.stalled = stalled;
+            this.release = release;
+        }
+
+        @Override
+        public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            stalled.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.sportradar.internal.wire;
+
+import com.example.sportradar.api.MatchScore;
+import com.example.sportradar.api.Scoreboard;
+import com.example.sportradar.internal.InMemoryScoreboard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SummaryCodecTest {
+    private final Scoreboard scoreboard = new InMemoryScoreboard();
+    private final SummaryEncoder encoder = new SummaryEncoder();
+    private final SummaryDecoder decoder = new SummaryDecoder();
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    @DisplayName("decode: should rebuild the summary of every frame when the summary changes between frames")
+    @Test
+    void decode_shouldRebuildSummaryOfEveryFrame_whenSummaryChangesBetweenFrames() {
+        assertThat(encodeAndDecode()).isEmpty();
+
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        assertThat(encodeAndDecode()).isEqualTo(scoreboard.getMatchSummary());
+
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.startMatch("Uruguay", "Italy");
+        assertThat(encodeAndDecode()).isEqualTo(scoreboard.getMatchSummary());
+
+        scoreboard.endMatch("Spain", "Brazil");
+        scoreboard.updateScore("Germany", "France", 2, 2);
+        assertThat(encodeAndDecode()).isEqualTo(scoreboard.getMatchSummary());
+
+        assertThat(encodeAndDecode()).isEqualTo(scoreboard.getMatchSummary());
+    }
+
+    @DisplayName("encode: should encode only the changed match when one match of a large summary is updated")
+    @Test
+    void encode_shouldEncodeOnlyChangedMatch_whenOneMatchOfLargeSummaryIsUpdated() {
+        for (int i = 0; i < 1_000; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+        }
+        int fullFrameSize = encodeAndDecode(scoreboard).size();
+        int fullFrameBytes = buffer.position();
+
+        scoreboard.updateScore("Home 500", "Away 500", 1, 0);
+        List<MatchScore> summary = encodeAndDecode(scoreboard);
+
+        assertThat(summary).isEqualTo(scoreboard.getMatchSummary()).hasSize(fullFrameSize);
+        assertThat(buffer.position()).isLessThan(32).isLessThan(fullFrameBytes / 100);
+    }
+
+    @DisplayName("encode: should send the name of a team only once when the team stays in the summary")
+    @Test
+    void encode_shouldSendNameOfTeamOnlyOnce_whenTeamStaysInSummary() {
+        scoreboard.startMatch("Spain", "Brazil");
+        encodeAndDecode();
+        int firstFrameBytes = buffer.position();
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        assertThat(encodeAndDecode()).isEqualTo(scoreboard.getMatchSummary());
+
+        // Type, counts, run header and four varints, without the names
+        assertThat(buffer.position()).isLessThan(firstFrameBytes).isEqualTo(Integer.BYTES + 8);
+    }
+
+    @DisplayName("encode: should write a full frame, which a new decoder can read, when the encoder is reset")
+    @Test
+    void encode_shouldWriteFullFrameWhichNewDecoderCanRead_whenEncoderIsReset() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        encodeAndDecode();
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        encoder.reset();
+        buffer.clear();
+        encoder.encode(scoreboard, buffer);
+        buffer.flip();
+
+        assertThat(new SummaryDecoder().decode(buffer.duplicate())).isEqualTo(scoreboard.getMatchSummary());
+        assertThat(decoder.decode(buffer)).isEqualTo(scoreboard.getMatchSummary());
+    }
+
+    @DisplayName("decode: should throw exception when a delta frame is read without a full frame before it")
+    @Test
+    void decode_shouldThrowException_whenDeltaFrameIsReadWithoutFullFrameBeforeIt() {
+        scoreboard.startMatch("Spain", "Brazil");
+        encodeAndDecode();
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        buffer.clear();
+        encoder.encode(scoreboard, buffer);
+        buffer.flip();
+
+        assertThatThrownBy(() -> new SummaryDecoder().decode(buffer))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("encode: should leave the buffer and the encoder unchanged when the frame doesn't fit")
+    @Test
+    void encode_shouldLeaveBufferAndEncoderUnchanged_whenFrameDoesNotFit() {
+        scoreboard.startMatch("Spain", "Brazil");
+        encodeAndDecode();
+        scoreboard.startMatch("Argentina", "Germany");
+        ByteBuffer small = ByteBuffer.allocate(12);
+        small.position(2);
+
+        assertThatThrownBy(() -> encoder.encode(scoreboard, small))
+                .isInstanceOf(BufferOverflowException.class);
+
+        assertThat(small.position()).isEqualTo(2);
+        assertThat(encodeAndDecode()).isEqualTo(scoreboard.getMatchSummary());
+    }
+
+    @DisplayName("decode: should leave the buffer unchanged when it doesn't contain the whole frame")
+    @Test
+    void decode_shouldLeaveBufferUnchanged_whenItDoesNotContainWholeFrame() {
+        scoreboard.startMatch("Spain", "Brazil");
+        encoder.encode(scoreboard, buffer);
+        buffer.flip();
+        ByteBuffer partial = buffer.duplicate().limit(buffer.limit() - 1);
+
+        assertThatThrownBy(() -> decoder.decode(partial))
+                .isInstanceOf(BufferUnderflowException.class);
+        assertThat(partial.position()).isZero();
+        assertThat(decoder.decode(buffer)).isEqualTo(scoreboard.getMatchSummary());
+    }
+
+    @DisplayName("decode: should throw exception when the frame is corrupted")
+    @Test
+    void decode_shouldThrowException_whenFrameIsCorrupted() {
+        scoreboard.startMatch("Spain", "Brazil");
+        encoder.encode(scoreboard, buffer);
+        buffer.flip();
+
+        ByteBuffer unknownType = copyOf(buffer);
+        unknownType.put(Integer.BYTES, (byte) 7);
+        ByteBuffer truncated = copyOf(buffer);
+        truncated.putInt(0, truncated.getInt(0) - 1);
+
+        assertThatThrownBy(() -> decoder.decode(unknownType))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decoder.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(decoder.decode(buffer)).isEqualTo(scoreboard.getMatchSummary());
+    }
+
+    @DisplayName("decode: should throw IllegalArgumentException when the frame is longer than the maximum frame length")
+    @Test
+    void decode_shouldThrowIllegalArgumentException_whenFrameIsLongerThanMaximumFrameLength() {
+        scoreboard.startMatch("Spain", "Brazil");
+        encoder.encode(scoreboard, buffer);
+        buffer.flip();
+        ReadableByteChannel oversized = Channels.newChannel(new ByteArrayInputStream(new byte[]{0x7F, -1, -1, -1}));
+
+        assertThatThrownBy(() -> new SummaryDecoder(buffer.remaining() - Integer.BYTES - 1).decode(buffer))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> decoder.decode(oversized))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new SummaryDecoder(buffer.remaining() - Integer.BYTES).decode(buffer))
+                .isEqualTo(scoreboard.getMatchSummary());
+    }
+
+    @DisplayName("decode: should throw IllegalArgumentException when the frame has more matches than fit in it")
+    @Test
+    void decode_shouldThrowIllegalArgumentException_whenFrameHasMoreMatchesThanFitInIt() {
+        ByteBuffer frame = ByteBuffer.allocate(16)
+                .putInt(7)
+                .put(SummaryEncoder.FULL_FRAME)
+                .put((byte) 0)
+                .put(new byte[]{-1, -1, -1, -1, 0x07})
+                .flip();
+
+        assertThatThrownBy(() -> decoder.decode(frame))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("matches");
+    }
+
+    @DisplayName("encode: should encode the summary from a list the same way as from the scoreboard")
+    @Test
+    void encode_shouldEncodeSummaryFromListSameWayAsFromScoreboard() {
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Germany", "France", 3, 1);
+        SummaryEncoder listEncoder = new SummaryEncoder();
+        ByteBuffer listBuffer = ByteBuffer.allocate(1024);
+
+        encoder.encode(scoreboard, buffer);
+        listEncoder.encode(scoreboard.getMatchSummary(), listBuffer);
+
+        assertThat(listBuffer.flip()).isEqualTo(buffer.flip());
+    }
+
+    @DisplayName("decode: should read the frames written to a channel in order")
+    @Test
+    void decode_shouldReadFramesWrittenToChannelInOrder() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        WritableByteChannel output = Channels.newChannel(stream);
+        scoreboard.startMatch("Spain", "Brazil");
+        encoder.encode(scoreboard, output);
+        List<MatchScore> first = scoreboard.getMatchSummary();
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Germany", "France", 1, 0);
+        encoder.encode(scoreboard, output);
+
+        ReadableByteChannel input = Channels.newChannel(new ByteArrayInputStream(stream.toByteArray()));
+
+        assertThat(decoder.decode(input)).isEqualTo(first);
+        assertThat(decoder.decode(input)).isEqualTo(scoreboard.getMatchSummary());
+        assertThatThrownBy(() -> decoder.decode(input))
+                .isInstanceOf(EOFException.class);
+    }
+
+    private List<MatchScore> encodeAndDecode() {
+        return encodeAndDecode(scoreboard);
+    }
+
+    private List<MatchScore> encodeAndDecode(Scoreboard source) {
+        buffer.clear();
+        encoder.encode(source, buffer);
+        ByteBuffer frame = buffer.duplicate().flip();
+
+        List<MatchScore> summary = decoder.decode(frame);
+        assertThat(frame.hasRemaining()).isFalse();
+        return summary;
+    }
+
+    private static ByteBuffer copyOf(ByteBuffer source) {
+        return ByteBuffer.allocate(source.remaining()).put(source.duplicate()).flip();
+    }
+}